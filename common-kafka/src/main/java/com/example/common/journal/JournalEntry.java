@@ -0,0 +1,25 @@
+package com.example.common.journal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 디코딩된 저널 레코드
+ */
+@Getter
+@AllArgsConstructor
+public class JournalEntry {
+    private Instant timestamp;
+    private String source;
+    private String sagaId;
+    private String event;
+    private int detail;
+    private long value;
+
+    @Override
+    public String toString() {
+        return timestamp + " " + source + " " + sagaId + " " + event + " detail=" + detail + " value=" + value;
+    }
+}
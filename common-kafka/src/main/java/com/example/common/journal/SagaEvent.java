@@ -0,0 +1,49 @@
+package com.example.common.journal;
+
+/**
+ * 저널에 기록되는 Saga 이벤트 (code 는 파일 포맷의 일부이므로 변경하지 않고 추가만 함)
+ */
+public enum SagaEvent {
+    SAGA_STARTED(1),
+    ORDER_CREATED(2),
+    PAYMENT_REQUESTED(3),
+    PAYMENT_RESULT_RECEIVED(4),
+    SAGA_COMPLETED(5),
+    SAGA_COMPENSATED(6),
+    COMPENSATION_FAILED(7),
+    ORDER_CANCELLED(8),
+    PAYMENT_CANCEL_REQUESTED(9),
+    SAGA_TIMEOUT(10),
+
+    PAYMENT_REQUEST_RECEIVED(20),
+    PAYMENT_AUTHORIZED(21),
+    PAYMENT_DECLINED(22),
+    PAYMENT_OVERLOADED(23),
+    PAYMENT_ERROR(24),
+    PAYMENT_RESULT_SENT(25),
+    PAYMENT_CANCEL_RECEIVED(26),
+    PAYMENT_CANCELLED(27),
+    PAYMENT_CANCEL_FAILED(28);
+
+    private static final SagaEvent[] BY_CODE = new SagaEvent[128];
+
+    static {
+        for (SagaEvent event : values()) {
+            BY_CODE[event.code] = event;
+        }
+    }
+
+    private final short code;
+
+    SagaEvent(int code) {
+        this.code = (short) code;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    public static SagaEvent fromCode(short code) {
+        return code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
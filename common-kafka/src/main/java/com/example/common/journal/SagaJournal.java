@@ -0,0 +1,187 @@
+package com.example.common.journal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리 맵 파일 기반 Saga 이벤트 저널 (고정 길이 바이너리 레코드, 세그먼트 순환)
+ * 기록 경로는 객체를 할당하지 않으며, 상세 내용은 SagaJournalReader 로 디코딩
+ *
+ * 세그먼트 헤더 (16 bytes): magic(int) version(int) recordSize(int) source(int)
+ * 레코드 (40 bytes): timestamp(long) sagaIdMsb(long) sagaIdLsb(long) event(short) reserved(short) detail(int) value(long)
+ */
+public class SagaJournal implements AutoCloseable {
+
+    public static final byte SOURCE_ORDER = 1;
+    public static final byte SOURCE_PAYMENT = 2;
+
+    static final int MAGIC = 0x53414741;  // "SAGA"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_SIZE = 40;
+    static final String FILE_PREFIX = "saga-journal-";
+    static final String FILE_SUFFIX = ".bin";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final int maxSegments;
+    private final byte source;
+    private final int logSampleRate;
+    private final AtomicLong logCounter = new AtomicLong();
+
+    private long segmentSeq;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int position;
+
+    private static final Logger log = LoggerFactory.getLogger(SagaJournal.class);
+
+    /**
+     * @param logSampleRate INFO 로그를 N 건 중 1 건만 남김 (1 이면 모두 기록)
+     */
+    public SagaJournal(Path directory, int segmentBytes, int maxSegments, byte source, int logSampleRate) throws IOException {
+        this.directory = directory;
+        this.segmentBytes = HEADER_SIZE + (segmentBytes - HEADER_SIZE) / RECORD_SIZE * RECORD_SIZE;
+        this.maxSegments = maxSegments;
+        this.source = source;
+        this.logSampleRate = Math.max(1, logSampleRate);
+
+        Files.createDirectories(directory);
+        List<Path> existing = SagaJournalReader.listSegments(directory);
+        this.segmentSeq = existing.isEmpty() ? 0 : SagaJournalReader.segmentSeq(existing.get(existing.size() - 1));
+        roll();
+    }
+
+    /**
+     * 이벤트 기록 (상세 값 없음)
+     */
+    public void append(SagaEvent event, String sagaId) {
+        append(event, sagaId, 0, 0L);
+    }
+
+    /**
+     * 이벤트 기록
+     *
+     * @param detail 이벤트별 보조 코드 (예: 재시도 횟수)
+     * @param value  이벤트별 수치 (예: 금액 최소 단위, 지연 마이크로초)
+     */
+    public synchronized void append(SagaEvent event, String sagaId, int detail, long value) {
+        if (buffer == null) {
+            return;
+        }
+        if (position + RECORD_SIZE > segmentBytes) {
+            try {
+                roll();
+            } catch (IOException e) {
+                log.error("저널 세그먼트 전환 실패: {}", e.getMessage());
+                buffer = null;
+                return;
+            }
+        }
+
+        int p = position;
+        buffer.putLong(p + 8, uuidHigh(sagaId));
+        buffer.putLong(p + 16, uuidLow(sagaId));
+        buffer.putShort(p + 24, event.getCode());
+        buffer.putShort(p + 26, (short) 0);
+        buffer.putInt(p + 28, detail);
+        buffer.putLong(p + 32, value);
+        // 타임스탬프를 마지막에 기록 (0 이면 리더가 레코드 끝으로 판단)
+        buffer.putLong(p, System.currentTimeMillis());
+        position = p + RECORD_SIZE;
+    }
+
+    /**
+     * 샘플링된 INFO 로그를 남길 차례인지 여부
+     */
+    public boolean logSampled() {
+        return logCounter.getAndIncrement() % logSampleRate == 0;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * 새 세그먼트로 전환하고 보관 개수를 넘는 오래된 세그먼트 삭제
+     */
+    private void roll() throws IOException {
+        closeSegment();
+
+        segmentSeq++;
+        Path file = directory.resolve(String.format("%s%012d%s", FILE_PREFIX, segmentSeq, FILE_SUFFIX));
+        channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, RECORD_SIZE);
+        buffer.putInt(12, source);
+        position = HEADER_SIZE;
+
+        List<Path> segments = SagaJournalReader.listSegments(directory);
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            Files.deleteIfExists(segments.get(i));
+        }
+    }
+
+    private void closeSegment() throws IOException {
+        if (buffer != null) {
+            buffer.force();
+            buffer = null;
+        }
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        closeSegment();
+    }
+
+    /**
+     * UUID 문자열의 상위 64비트 (할당 없이 파싱, UUID 형식이 아니면 0)
+     */
+    static long uuidHigh(String id) {
+        if (!isUuid(id)) {
+            return 0L;
+        }
+        return hex(id, 0, 8) << 32 | hex(id, 9, 13) << 16 | hex(id, 14, 18);
+    }
+
+    /**
+     * UUID 문자열의 하위 64비트 (UUID 형식이 아니면 문자열 해시)
+     */
+    static long uuidLow(String id) {
+        if (id == null) {
+            return 0L;
+        }
+        if (!isUuid(id)) {
+            return id.hashCode();
+        }
+        return hex(id, 19, 23) << 48 | hex(id, 24, 36);
+    }
+
+    private static boolean isUuid(String id) {
+        return id != null && id.length() == 36
+            && id.charAt(8) == '-' && id.charAt(13) == '-' && id.charAt(18) == '-' && id.charAt(23) == '-';
+    }
+
+    private static long hex(String s, int from, int to) {
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            result = result << 4 | Character.digit(s.charAt(i), 16);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.common.journal;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Saga 저널 디코더 (엔드포인트와 CLI 에서 사용)
+ *
+ * <pre>
+ * java -cp common-kafka.jar com.example.common.journal.SagaJournalReader ./journal/order [sagaId] [--tail 100]
+ * </pre>
+ */
+public final class SagaJournalReader {
+
+    private SagaJournalReader() {
+    }
+
+    /**
+     * 저널 디코딩
+     *
+     * @param sagaId null 이면 전체
+     * @param tail   최근 N 건만 반환 (0 이하이면 전체)
+     */
+    public static List<JournalEntry> read(Path directory, String sagaId, int tail) throws IOException {
+        long high = sagaId != null ? SagaJournal.uuidHigh(sagaId) : 0L;
+        long low = sagaId != null ? SagaJournal.uuidLow(sagaId) : 0L;
+        Deque<JournalEntry> entries = new ArrayDeque<>();
+
+        for (Path segment : listSegments(directory)) {
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                if (buffer.limit() < SagaJournal.HEADER_SIZE || buffer.getInt(0) != SagaJournal.MAGIC) {
+                    continue;
+                }
+                String source = sourceName(buffer.getInt(12));
+
+                for (int p = SagaJournal.HEADER_SIZE; p + SagaJournal.RECORD_SIZE <= buffer.limit(); p += SagaJournal.RECORD_SIZE) {
+                    long timestamp = buffer.getLong(p);
+                    if (timestamp == 0) {
+                        break;
+                    }
+                    long recordHigh = buffer.getLong(p + 8);
+                    long recordLow = buffer.getLong(p + 16);
+                    if (sagaId != null && (recordHigh != high || recordLow != low)) {
+                        continue;
+                    }
+
+                    SagaEvent event = SagaEvent.fromCode(buffer.getShort(p + 24));
+                    entries.addLast(new JournalEntry(
+                        Instant.ofEpochMilli(timestamp),
+                        source,
+                        recordHigh != 0 ? new UUID(recordHigh, recordLow).toString() : Long.toHexString(recordLow),
+                        event != null ? event.name() : "UNKNOWN(" + buffer.getShort(p + 24) + ")",
+                        buffer.getInt(p + 28),
+                        buffer.getLong(p + 32)
+                    ));
+                    if (tail > 0 && entries.size() > tail) {
+                        entries.pollFirst();
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(entries);
+    }
+
+    /**
+     * 세그먼트 파일 목록 (순번 오름차순)
+     */
+    static List<Path> listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(f -> f.getFileName().toString().startsWith(SagaJournal.FILE_PREFIX)
+                    && f.getFileName().toString().endsWith(SagaJournal.FILE_SUFFIX))
+                .sorted()
+                .collect(Collectors.toList());
+        }
+    }
+
+    static long segmentSeq(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SagaJournal.FILE_PREFIX.length(), name.length() - SagaJournal.FILE_SUFFIX.length()));
+    }
+
+    private static String sourceName(int source) {
+        switch (source) {
+            case SagaJournal.SOURCE_ORDER:
+                return "order";
+            case SagaJournal.SOURCE_PAYMENT:
+                return "payment";
+            default:
+                return "unknown";
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("usage: SagaJournalReader <journal-dir> [sagaId] [--tail N]");
+            System.exit(1);
+        }
+
+        String sagaId = null;
+        int tail = 0;
+        for (int i = 1; i < args.length; i++) {
+            if ("--tail".equals(args[i]) && i + 1 < args.length) {
+                tail = Integer.parseInt(args[++i]);
+            } else {
+                sagaId = args[i];
+            }
+        }
+
+        for (JournalEntry entry : read(Paths.get(args[0]), sagaId, tail)) {
+            System.out.println(entry);
+        }
+    }
+}
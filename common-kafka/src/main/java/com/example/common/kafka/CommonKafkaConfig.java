@@ -1,17 +1,32 @@
 package com.example.common.kafka;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.kafka.config.AbstractKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.CompositeBatchInterceptor;
+import org.springframework.kafka.listener.CompositeRecordInterceptor;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
 public class CommonKafkaConfig {
     
+    private static final Logger log = LoggerFactory.getLogger(CommonKafkaConfig.class);
+    
     public static <T> ProducerFactory<String, T> createProducerFactory(String bootstrapServers) {
         Map<String, Object> config = new HashMap<>();
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
@@ -20,26 +35,115 @@ public class CommonKafkaConfig {
         return new DefaultKafkaProducerFactory<>(config);
     }
     
+    /**
+     * 원본 바이트를 그대로 보내는 프로듀서 팩토리 (격리 토픽 전송용)
+     */
+    public static ProducerFactory<byte[], byte[]> createByteArrayProducerFactory(String bootstrapServers) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        return new DefaultKafkaProducerFactory<>(config);
+    }
+    
+    public static <T> ConsumerFactory<String, T> createConsumerFactory(
+            String bootstrapServers,
+            String groupId,
+            Class<T> valueType,
+            String... trustedPackages) {
+        return createConsumerFactory(bootstrapServers, groupId, valueType, Map.of(), trustedPackages);
+    }
+    
+    /**
+     * 추가 컨슈머 설정(max.poll.records, 파티션 할당 전략, 정적 멤버십 등)을 포함한 컨슈머 팩토리
+     * 값 역직렬화에 실패하면 예외 대신 FailedDeserializationInfo 를 값으로 넘김 (PoisonPillQuarantine 이 격리)
+     */
+    @SuppressWarnings("unchecked")
     public static <T> ConsumerFactory<String, T> createConsumerFactory(
             String bootstrapServers,
             String groupId,
             Class<T> valueType,
+            Map<String, Object> overrides,
             String... trustedPackages) {
         Map<String, Object> config = new HashMap<>();
         config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         config.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        config.putAll(overrides);
         
         JsonDeserializer<T> jsonDeserializer = new JsonDeserializer<>(valueType);
         jsonDeserializer.setRemoveTypeHeaders(false);
+        // 서비스마다 DTO 패키지가 다르므로 타입 헤더 대신 컨슈머 팩토리의 대상 타입으로 역직렬화
+        jsonDeserializer.setUseTypeHeaders(false);
         jsonDeserializer.addTrustedPackages(trustedPackages);
         jsonDeserializer.setUseTypeMapperForKey(true);
         
+        ErrorHandlingDeserializer<T> valueDeserializer = new ErrorHandlingDeserializer<>(jsonDeserializer);
+        // 실패 정보(원본 바이트, 헤더, 예외)를 값 자리에 담아 컨테이너가 오류 핸들러로 넘기지 않게 함
+        valueDeserializer.setFailedDeserializationFunction(info -> (T) info);
+        
         return new DefaultKafkaConsumerFactory<>(
             config,
             new StringDeserializer(),
-            jsonDeserializer
+            valueDeserializer
         );
     }
-} 
\ No newline at end of file
+    
+    /**
+     * 역직렬화 실패 레코드 격리 인터셉터 등록 (기존 인터셉터보다 먼저 실행되어 정상 레코드만 넘김)
+     */
+    public static void quarantinePoisonPills(AbstractKafkaListenerContainerFactory<?, ?, ?> factory,
+                                             PoisonPillQuarantine quarantine) {
+        quarantinePoisonPills(factory, quarantine, null, null);
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static void quarantinePoisonPills(AbstractKafkaListenerContainerFactory<?, ?, ?> factory,
+                                             PoisonPillQuarantine quarantine,
+                                             RecordInterceptor<?, ?> recordInterceptor,
+                                             BatchInterceptor<?, ?> batchInterceptor) {
+        AbstractKafkaListenerContainerFactory rawFactory = factory;
+        rawFactory.setRecordInterceptor(recordInterceptor == null
+            ? quarantine
+            : new CompositeRecordInterceptor(quarantine, (RecordInterceptor) recordInterceptor));
+        rawFactory.setBatchInterceptor(batchInterceptor == null
+            ? quarantine
+            : new CompositeBatchInterceptor(quarantine, (BatchInterceptor) batchInterceptor));
+    }
+
+    /**
+     * 소비 토픽별 격리 토픽(<토픽>-quarantine) 선언 (KafkaAdmin 이 기동 시 없으면 생성)
+     * 격리 전송은 브로커 자동 생성에 기대지 않음 (자동 생성이 꺼져 있으면 전송이 계속 실패해 파티션이 멈춤)
+     */
+    public static KafkaAdmin.NewTopics quarantineTopics(String... topics) {
+        return new KafkaAdmin.NewTopics(Arrays.stream(topics)
+            .map(topic -> TopicBuilder.name(topic + PoisonPillQuarantine.QUARANTINE_SUFFIX)
+                .partitions(1)
+                .replicas(1)
+                .build())
+            .toArray(NewTopic[]::new));
+    }
+
+    /**
+     * 리스너 디스패치를 가상 스레드에서 실행 (spring.threads.virtual.enabled, Java 21 이상에서만 적용)
+     */
+    public static void useVirtualThreads(AbstractKafkaListenerContainerFactory<?, ?, ?> factory, String threadNamePrefix) {
+        if (Runtime.version().feature() < 21) {
+            log.warn("가상 스레드는 Java 21 이상에서만 사용 가능, 플랫폼 스레드로 실행: {}", threadNamePrefix);
+            return;
+        }
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix + "-");
+        executor.setVirtualThreads(true);
+        factory.getContainerProperties().setListenerTaskExecutor(executor);
+    }
+
+    /**
+     * 종료 시 처리 중인 레코드까지만 마치고 멈춤 (처리 완료된 레코드 오프셋만 커밋)
+     */
+    public static void drainOnStop(AbstractKafkaListenerContainerFactory<?, ?, ?> factory, long shutdownTimeoutMs) {
+        factory.getContainerProperties().setStopImmediate(true);
+        factory.getContainerProperties().setShutdownTimeout(shutdownTimeoutMs);
+    }
+}
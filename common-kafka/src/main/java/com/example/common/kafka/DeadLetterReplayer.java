@@ -0,0 +1,115 @@
+package com.example.common.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.springframework.kafka.support.KafkaHeaders;
+
+/**
+ * DLT 레코드를 원본 토픽으로 일괄 재주입
+ * (원본 바이트와 헤더를 그대로 유지하고 DLT/예외 헤더만 제거)
+ */
+public class DeadLetterReplayer {
+
+    public static final String DLT_SUFFIX = "-dlt";
+    private static final String REPLAY_GROUP_SUFFIX = "-replay";
+
+    private final String bootstrapServers;
+
+    public DeadLetterReplayer(String bootstrapServers) {
+        this.bootstrapServers = bootstrapServers;
+    }
+
+    /**
+     * DLT에서 최대 maxRecords 건을 읽어 원본 토픽으로 전송
+     *
+     * @return 재주입한 레코드 수
+     */
+    public int replay(String dltTopic, int maxRecords) {
+        if (!dltTopic.endsWith(DLT_SUFFIX)) {
+            throw new IllegalArgumentException("DLT 토픽이 아닙니다: " + dltTopic);
+        }
+        String fallbackTopic = dltTopic.substring(0, dltTopic.length() - DLT_SUFFIX.length());
+
+        int replayed = 0;
+        try (KafkaConsumer<byte[], byte[]> consumer = new KafkaConsumer<>(consumerConfig(dltTopic + REPLAY_GROUP_SUFFIX));
+             KafkaProducer<byte[], byte[]> producer = new KafkaProducer<>(producerConfig())) {
+
+            consumer.subscribe(List.of(dltTopic));
+
+            while (replayed < maxRecords) {
+                ConsumerRecords<byte[], byte[]> records = consumer.poll(Duration.ofSeconds(5));
+                if (records.isEmpty()) {
+                    break;
+                }
+
+                Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+                for (ConsumerRecord<byte[], byte[]> record : records) {
+                    if (replayed >= maxRecords) {
+                        break;
+                    }
+                    producer.send(toOriginal(record, fallbackTopic));
+                    offsets.put(new TopicPartition(record.topic(), record.partition()),
+                        new OffsetAndMetadata(record.offset() + 1));
+                    replayed++;
+                }
+
+                // 전송이 끝난 뒤에만 DLT 오프셋 커밋 (재주입 누락 방지)
+                producer.flush();
+                consumer.commitSync(offsets);
+            }
+        }
+        return replayed;
+    }
+
+    private ProducerRecord<byte[], byte[]> toOriginal(ConsumerRecord<byte[], byte[]> record, String fallbackTopic) {
+        Header originalTopic = record.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_TOPIC);
+        String topic = originalTopic != null
+            ? new String(originalTopic.value(), StandardCharsets.UTF_8)
+            : fallbackTopic;
+
+        ProducerRecord<byte[], byte[]> replay = new ProducerRecord<>(topic, record.key(), record.value());
+        for (Header header : record.headers()) {
+            if (!header.key().startsWith("kafka_dlt-") && !header.key().startsWith("retry_topic-")) {
+                replay.headers().add(header);
+            }
+        }
+        return replay;
+    }
+
+    private Map<String, Object> consumerConfig(String groupId) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        config.put(ConsumerConfig.CLIENT_ID_CONFIG, groupId + "-" + UUID.randomUUID());
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        return config;
+    }
+
+    private Map<String, Object> producerConfig() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        return config;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.common.kafka;
+
+import java.math.BigDecimal;
+
+/**
+ * Kafka 페이로드 금액의 최소 화폐 단위(long) 표현 (소수 둘째 자리까지, 예: 12.34 -> 1234)
+ * JSON 의 10진 문자열을 BigDecimal 로 파싱하지 않고 정수로 주고받기 위해 사용
+ */
+public final class MinorUnits {
+
+    public static final int SCALE = 2;
+
+    private MinorUnits() {
+    }
+
+    /**
+     * @throws ArithmeticException 소수 둘째 자리 아래 값이 있거나 long 범위를 넘는 경우
+     */
+    public static long toMinor(BigDecimal amount) {
+        return amount.movePointRight(SCALE).longValueExact();
+    }
+
+    public static BigDecimal toDecimal(long minor) {
+        return BigDecimal.valueOf(minor, SCALE);
+    }
+}
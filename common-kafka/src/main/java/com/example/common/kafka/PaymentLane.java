@@ -0,0 +1,26 @@
+package com.example.common.kafka;
+
+/**
+ * 결제 요청 우선순위 레인 (레인마다 토픽과 컨슈머 그룹이 분리되어 일반 레인 적체가 우선 레인을 막지 않음)
+ */
+public enum PaymentLane {
+    PRIORITY("payment.request.priority"),
+    NORMAL("payment.request");
+
+    private final String topic;
+
+    PaymentLane(String topic) {
+        this.topic = topic;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    /**
+     * 메트릭 태그 값
+     */
+    public String getTag() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.common.kafka;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.FailedDeserializationInfo;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+
+/**
+ * 역직렬화할 수 없는 레코드(poison pill)를 리스너 호출 전에 격리 토픽(원본 토픽 + "-quarantine")으로 옮김
+ *
+ * ErrorHandlingDeserializer 가 실패한 레코드의 값을 FailedDeserializationInfo 로 바꿔 두면(CommonKafkaConfig),
+ * 이 인터셉터가 원본 바이트와 헤더 그대로 격리 토픽에 보내고 해당 레코드를 건너뜀
+ * (리스너/재시도 토픽/오류 핸들러를 거치지 않으므로 파티션이 멈추지 않음)
+ * 격리 토픽 전송에 실패하면 예외를 던져 컨테이너 오류 핸들러가 해당 위치로 되감고 다시 읽게 함
+ * (건너뛰면 커밋된 오프셋 뒤로 레코드가 사라짐, 배치에서는 이미 격리한 레코드가 다시 격리될 수 있음)
+ * 격리 토픽은 CommonKafkaConfig.quarantineTopics 로 미리 선언
+ */
+public class PoisonPillQuarantine implements RecordInterceptor<Object, Object>, BatchInterceptor<Object, Object> {
+
+    public static final String QUARANTINE_SUFFIX = "-quarantine";
+    private static final long SEND_TIMEOUT_SECONDS = 10;
+
+    private static final Logger log = LoggerFactory.getLogger(PoisonPillQuarantine.class);
+
+    private final KafkaTemplate<byte[], byte[]> template;
+    private final MeterRegistry meterRegistry;
+
+    public PoisonPillQuarantine(KafkaTemplate<byte[], byte[]> template, MeterRegistry meterRegistry) {
+        this.template = template;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ConsumerRecord<Object, Object> intercept(ConsumerRecord<Object, Object> record, Consumer<Object, Object> consumer) {
+        if (record.value() instanceof FailedDeserializationInfo info) {
+            quarantine(record, info);
+            return null;
+        }
+        return record;
+    }
+
+    @Override
+    public ConsumerRecords<Object, Object> intercept(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        Map<TopicPartition, List<ConsumerRecord<Object, Object>>> kept = null;
+        for (TopicPartition partition : records.partitions()) {
+            List<ConsumerRecord<Object, Object>> partitionRecords = records.records(partition);
+            for (int i = 0; i < partitionRecords.size(); i++) {
+                ConsumerRecord<Object, Object> record = partitionRecords.get(i);
+                if (!(record.value() instanceof FailedDeserializationInfo info)) {
+                    continue;
+                }
+                // 첫 poison pill 을 만났을 때만 배치를 다시 구성
+                if (kept == null) {
+                    kept = new HashMap<>();
+                    for (TopicPartition p : records.partitions()) {
+                        kept.put(p, new ArrayList<>(records.records(p)));
+                    }
+                }
+                quarantine(record, info);
+                kept.get(partition).remove(record);
+            }
+        }
+        if (kept == null) {
+            return records;
+        }
+        kept.values().removeIf(List::isEmpty);
+        return kept.isEmpty() ? null : new ConsumerRecords<>(kept);
+    }
+
+    private void quarantine(ConsumerRecord<Object, Object> record, FailedDeserializationInfo info) {
+        String quarantineTopic = record.topic() + QUARANTINE_SUFFIX;
+        RecordHeaders headers = new RecordHeaders();
+        for (Header header : record.headers()) {
+            // 직렬화된 예외 객체 헤더는 아래 문자열 헤더로 대체
+            if (!SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER.equals(header.key())
+                    && !SerializationUtils.KEY_DESERIALIZER_EXCEPTION_HEADER.equals(header.key())) {
+                headers.add(header);
+            }
+        }
+        headers.add(KafkaHeaders.DLT_ORIGINAL_TOPIC, record.topic().getBytes(StandardCharsets.UTF_8));
+        headers.add(KafkaHeaders.DLT_ORIGINAL_PARTITION, ByteBuffer.allocate(Integer.BYTES).putInt(record.partition()).array());
+        headers.add(KafkaHeaders.DLT_ORIGINAL_OFFSET, ByteBuffer.allocate(Long.BYTES).putLong(record.offset()).array());
+        headers.add(KafkaHeaders.DLT_EXCEPTION_FQCN, info.getException().getClass().getName().getBytes(StandardCharsets.UTF_8));
+        headers.add(KafkaHeaders.DLT_EXCEPTION_MESSAGE, String.valueOf(info.getException().getMessage()).getBytes(StandardCharsets.UTF_8));
+
+        byte[] key = record.key() instanceof String k ? k.getBytes(StandardCharsets.UTF_8) : null;
+        try {
+            template.send(new ProducerRecord<>(quarantineTopic, null, record.timestamp(), key, info.getData(), headers))
+                .get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            counter("kafka.quarantine.records", record.topic()).increment();
+            log.warn("역직렬화 실패 레코드 격리: topic={}, partition={}, offset={}, quarantine={}, error={}",
+                record.topic(), record.partition(), record.offset(), quarantineTopic, info.getException().getMessage());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            counter("kafka.quarantine.failures", record.topic()).increment();
+            throw new KafkaException("격리 토픽 전송 중단: topic=" + record.topic()
+                + ", partition=" + record.partition() + ", offset=" + record.offset(), e);
+        } catch (Exception e) {
+            counter("kafka.quarantine.failures", record.topic()).increment();
+            log.error("격리 토픽 전송 실패, 같은 위치에서 다시 시도: topic={}, partition={}, offset={}, error={}",
+                record.topic(), record.partition(), record.offset(), e.getMessage());
+            throw new KafkaException("격리 토픽 전송 실패: topic=" + record.topic()
+                + ", partition=" + record.partition() + ", offset=" + record.offset(), e);
+        }
+    }
+
+    private Counter counter(String name, String topic) {
+        return Counter.builder(name).tag("topic", topic).register(meterRegistry);
+    }
+}
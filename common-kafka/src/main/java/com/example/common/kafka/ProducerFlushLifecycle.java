@@ -0,0 +1,54 @@
+package com.example.common.kafka;
+
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.core.KafkaTemplate;
+
+/**
+ * 종료 시 리스너 컨테이너가 멈춘 뒤 프로듀서 버퍼를 비움
+ * (리스너가 마지막으로 보낸 결과/취소 요청이 유실되지 않도록 함)
+ */
+public class ProducerFlushLifecycle implements SmartLifecycle {
+
+    /** 리스너 컨테이너(Integer.MAX_VALUE - 100)보다 나중에 멈춤 */
+    public static final int PHASE = Integer.MAX_VALUE - 200;
+
+    private final List<KafkaTemplate<?, ?>> templates;
+    private volatile boolean running = false;
+
+    private static final Logger log = LoggerFactory.getLogger(ProducerFlushLifecycle.class);
+
+    public ProducerFlushLifecycle(List<KafkaTemplate<?, ?>> templates) {
+        this.templates = templates;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        for (KafkaTemplate<?, ?> template : templates) {
+            try {
+                template.flush();
+            } catch (Exception e) {
+                log.warn("프로듀서 flush 실패: {}", e.getMessage());
+            }
+        }
+        log.info("종료 전 프로듀서 flush 완료: templates={}", templates.size());
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
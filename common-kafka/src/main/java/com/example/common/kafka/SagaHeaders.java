@@ -0,0 +1,13 @@
+package com.example.common.kafka;
+
+/**
+ * 서비스 간 Saga 메시지에 사용하는 Kafka 헤더 이름
+ */
+public final class SagaHeaders {
+
+    /** 결제 요청을 보낸 order-service 인스턴스 (결제 결과에 그대로 실어 돌려보냄) */
+    public static final String ORIGIN_INSTANCE = "saga_origin_instance";
+
+    private SagaHeaders() {
+    }
+}
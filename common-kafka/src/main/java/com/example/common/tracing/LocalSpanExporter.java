@@ -0,0 +1,183 @@
+package com.example.common.tracing;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 트레이싱 백엔드 없이 스팬을 보관하는 로컬 익스포터
+ * - 최근 스팬을 메모리에 보관 (트레이스 조회, 스팬 이름별 지연 분해)
+ * - 파일 경로가 지정되면 JSON Lines 로 추가 기록 (서비스별 파일을 합쳐 전체 구간 분석)
+ */
+public class LocalSpanExporter implements SpanExporter {
+
+    private static final AttributeKey<String> SERVICE_NAME = AttributeKey.stringKey("service.name");
+
+    private final int capacity;
+    private final Deque<TraceSpan> spans;
+    private final BufferedWriter writer;
+
+    private static final Logger log = LoggerFactory.getLogger(LocalSpanExporter.class);
+
+    public LocalSpanExporter(Path file, int capacity) throws IOException {
+        this.capacity = capacity;
+        this.spans = new ArrayDeque<>(capacity);
+        if (file != null) {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } else {
+            this.writer = null;
+        }
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> batch) {
+        List<TraceSpan> converted = new ArrayList<>(batch.size());
+        for (SpanData data : batch) {
+            converted.add(new TraceSpan(
+                data.getTraceId(),
+                data.getSpanId(),
+                data.getParentSpanContext().isValid() ? data.getParentSpanId() : null,
+                data.getResource().getAttribute(SERVICE_NAME),
+                data.getName(),
+                data.getKind().name(),
+                TimeUnit.NANOSECONDS.toMicros(data.getStartEpochNanos()),
+                TimeUnit.NANOSECONDS.toMicros(data.getEndEpochNanos() - data.getStartEpochNanos()),
+                data.getStatus().getStatusCode() == StatusCode.ERROR
+            ));
+        }
+
+        synchronized (spans) {
+            for (TraceSpan span : converted) {
+                if (spans.size() == capacity) {
+                    spans.pollFirst();
+                }
+                spans.addLast(span);
+            }
+        }
+
+        if (writer != null) {
+            try {
+                synchronized (writer) {
+                    for (TraceSpan span : converted) {
+                        writer.write(toJson(span));
+                        writer.newLine();
+                    }
+                    writer.flush();
+                }
+            } catch (IOException e) {
+                log.warn("스팬 파일 기록 실패: {}", e.getMessage());
+                return CompletableResultCode.ofFailure();
+            }
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    /**
+     * 트레이스 하나의 스팬 (시작 시각 순)
+     */
+    public List<TraceSpan> getTrace(String traceId) {
+        List<TraceSpan> result = new ArrayList<>();
+        synchronized (spans) {
+            for (TraceSpan span : spans) {
+                if (span.getTraceId().equals(traceId)) {
+                    result.add(span);
+                }
+            }
+        }
+        result.sort(Comparator.comparingLong(TraceSpan::getStartEpochMicros));
+        return result;
+    }
+
+    /**
+     * 보관 중인 스팬의 이름별 지연 분해 (구간별 평균/최대)
+     */
+    public Map<String, SpanStats> getBreakdown() {
+        Map<String, SpanStats> result = new TreeMap<>();
+        synchronized (spans) {
+            for (TraceSpan span : spans) {
+                String key = span.getService() + " " + span.getName();
+                SpanStats stats = result.computeIfAbsent(key, k -> new SpanStats(0, 0, 0, 0));
+                stats.count++;
+                stats.totalMicros += span.getDurationMicros();
+                stats.maxMicros = Math.max(stats.maxMicros, span.getDurationMicros());
+                if (span.isError()) {
+                    stats.errors++;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        if (writer != null) {
+            try {
+                synchronized (writer) {
+                    writer.close();
+                }
+            } catch (IOException e) {
+                return CompletableResultCode.ofFailure();
+            }
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    private static String toJson(TraceSpan span) {
+        return "{\"traceId\":\"" + span.getTraceId()
+            + "\",\"spanId\":\"" + span.getSpanId()
+            + "\",\"parentSpanId\":" + (span.getParentSpanId() != null ? "\"" + span.getParentSpanId() + "\"" : "null")
+            + ",\"service\":\"" + span.getService()
+            + "\",\"name\":\"" + span.getName().replace("\"", "\\\"")
+            + "\",\"kind\":\"" + span.getKind()
+            + "\",\"startEpochMicros\":" + span.getStartEpochMicros()
+            + ",\"durationMicros\":" + span.getDurationMicros()
+            + ",\"error\":" + span.isError() + "}";
+    }
+
+    /**
+     * 스팬 이름별 집계
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class SpanStats {
+        private long count;
+        private long errors;
+        private long totalMicros;
+        private long maxMicros;
+
+        public double getAvgMillis() {
+            return count == 0 ? 0 : totalMicros / 1000.0 / count;
+        }
+    }
+}
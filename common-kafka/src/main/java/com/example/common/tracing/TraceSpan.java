@@ -0,0 +1,21 @@
+package com.example.common.tracing;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 로컬 수집기에 보관되는 완료된 스팬
+ */
+@Getter
+@AllArgsConstructor
+public class TraceSpan {
+    private String traceId;
+    private String spanId;
+    private String parentSpanId;
+    private String service;
+    private String name;
+    private String kind;
+    private long startEpochMicros;
+    private long durationMicros;
+    private boolean error;
+}
@@ -0,0 +1,22 @@
+-- order_db: Saga 마감 시각 컬럼 (SagaDeadlineScheduler)
+-- ddl-auto=update 로도 컬럼/인덱스는 생기지만, 배포 전 진행 중인 Saga 에 마감 시각을 채우려면 한 번 실행
+-- 컬럼/인덱스가 이미 있으면 건너뛰므로 새 버전 기동 전후 어느 때나, 여러 번 실행해도 됨
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.COLUMNS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'saga_transactions' AND COLUMN_NAME = 'deadline') = 0,
+              'ALTER TABLE saga_transactions ADD COLUMN deadline DATETIME(6) NULL',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.STATISTICS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'saga_transactions' AND INDEX_NAME = 'idx_saga_status_deadline') = 0,
+              'CREATE INDEX idx_saga_status_deadline ON saga_transactions (status, deadline)',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 진행 중(status=1)인 Saga 는 마지막 단계 전이 시각 + 결제 대기 제한 시간(10초)으로 설정
+UPDATE saga_transactions SET deadline = DATE_ADD(updated_at, INTERVAL 10 SECOND) WHERE status = 1 AND deadline IS NULL;
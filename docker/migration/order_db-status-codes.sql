@@ -0,0 +1,17 @@
+-- order_db: 상태/단계 문자열을 SMALLINT 코드로 변환 (OrderStatus, SagaStatus, SagaStep 의 code)
+-- ddl-auto=update 는 기존 컬럼 타입을 바꾸지 않으므로 새 버전 배포 전에 한 번 실행
+
+UPDATE orders SET status = CASE status WHEN 'PENDING' THEN '1' WHEN 'COMPLETED' THEN '2' WHEN 'CANCELLED' THEN '3' ELSE status END;
+ALTER TABLE orders MODIFY status SMALLINT;
+
+UPDATE orders_archive SET status = CASE status WHEN 'PENDING' THEN '1' WHEN 'COMPLETED' THEN '2' WHEN 'CANCELLED' THEN '3' ELSE status END;
+ALTER TABLE orders_archive MODIFY status SMALLINT;
+
+UPDATE saga_transactions SET status = CASE status WHEN 'IN_PROGRESS' THEN '1' WHEN 'FINISHED' THEN '2' ELSE status END, current_step = CASE current_step WHEN 'STARTED' THEN '1' WHEN 'ORDER_CREATED' THEN '2' WHEN 'PAYMENT_REQUESTED' THEN '3' WHEN 'PAYMENT_PROCESSING' THEN '4' WHEN 'COMPLETED' THEN '5' WHEN 'COMPENSATED' THEN '6' WHEN 'COMPENSATION_FAILED' THEN '7' ELSE current_step END;
+ALTER TABLE saga_transactions MODIFY status SMALLINT, MODIFY current_step SMALLINT;
+
+UPDATE saga_transactions_archive SET status = CASE status WHEN 'IN_PROGRESS' THEN '1' WHEN 'FINISHED' THEN '2' ELSE status END, current_step = CASE current_step WHEN 'STARTED' THEN '1' WHEN 'ORDER_CREATED' THEN '2' WHEN 'PAYMENT_REQUESTED' THEN '3' WHEN 'PAYMENT_PROCESSING' THEN '4' WHEN 'COMPLETED' THEN '5' WHEN 'COMPENSATED' THEN '6' WHEN 'COMPENSATION_FAILED' THEN '7' ELSE current_step END;
+ALTER TABLE saga_transactions_archive MODIFY status SMALLINT, MODIFY current_step SMALLINT;
+
+UPDATE saga_events SET step = CASE step WHEN 'STARTED' THEN '1' WHEN 'ORDER_CREATED' THEN '2' WHEN 'PAYMENT_REQUESTED' THEN '3' WHEN 'PAYMENT_PROCESSING' THEN '4' WHEN 'COMPLETED' THEN '5' WHEN 'COMPENSATED' THEN '6' WHEN 'COMPENSATION_FAILED' THEN '7' ELSE step END;
+ALTER TABLE saga_events MODIFY step SMALLINT;
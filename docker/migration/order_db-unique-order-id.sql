@@ -0,0 +1,22 @@
+-- order_db: 주문 ID 유니크 인덱스 (같은 주문 ID 동시 접수 시 Saga 하나만 생성)
+-- ddl-auto=update 는 중복 행이 있으면 인덱스를 만들지 못하므로, 아래 조회 결과가 비어 있는지 먼저 확인 후 실행
+-- 인덱스가 이미 있으면 건너뛰므로 여러 번 실행해도 됨
+--
+--   SELECT order_id, COUNT(*) FROM orders GROUP BY order_id HAVING COUNT(*) > 1;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.STATISTICS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'orders' AND INDEX_NAME = 'uk_orders_order_id') = 0,
+              'CREATE UNIQUE INDEX uk_orders_order_id ON orders (order_id)',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 유니크 인덱스가 대신하므로 기존 일반 인덱스 제거
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.STATISTICS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'orders' AND INDEX_NAME = 'idx_orders_order_id') > 0,
+              'DROP INDEX idx_orders_order_id ON orders',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
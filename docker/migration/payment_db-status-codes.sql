@@ -0,0 +1,11 @@
+-- payment_db: 결제 상태 문자열을 SMALLINT 코드로 변환 (PaymentStatus 의 code)
+-- ddl-auto=update 는 기존 컬럼 타입을 바꾸지 않으므로 새 버전 배포 전에 한 번 실행
+
+UPDATE payment SET status = CASE status WHEN 'PROCESSING' THEN '1' WHEN 'COMPLETED' THEN '2' WHEN 'FAILED' THEN '3' WHEN 'ERROR' THEN '4' WHEN 'CANCELLED' THEN '5' WHEN 'CANCEL_FAILED' THEN '6' ELSE status END;
+ALTER TABLE payment MODIFY status SMALLINT;
+
+UPDATE payment_archive SET status = CASE status WHEN 'PROCESSING' THEN '1' WHEN 'COMPLETED' THEN '2' WHEN 'FAILED' THEN '3' WHEN 'ERROR' THEN '4' WHEN 'CANCELLED' THEN '5' WHEN 'CANCEL_FAILED' THEN '6' ELSE status END;
+ALTER TABLE payment_archive MODIFY status SMALLINT;
+
+UPDATE payment_view SET status = CASE status WHEN 'PROCESSING' THEN '1' WHEN 'COMPLETED' THEN '2' WHEN 'FAILED' THEN '3' WHEN 'ERROR' THEN '4' WHEN 'CANCELLED' THEN '5' WHEN 'CANCEL_FAILED' THEN '6' ELSE status END;
+ALTER TABLE payment_view MODIFY status SMALLINT;
@@ -1,16 +1,31 @@
 package com.example.order.config;
 
 import com.example.common.kafka.CommonKafkaConfig;
+import com.example.common.kafka.DeadLetterReplayer;
+import com.example.common.kafka.PoisonPillQuarantine;
+import com.example.common.kafka.ProducerFlushLifecycle;
 import com.example.order.dto.OrderRequest;
 import com.example.order.dto.PaymentResult;
 import com.example.order.dto.PaymentResultWithSaga;
+import com.example.common.kafka.SagaHeaders;
+import com.example.order.kafka.OrderInstance;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.header.Header;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.support.serializer.FailedDeserializationInfo;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 @Configuration
 public class KafkaConfig {
@@ -18,6 +33,18 @@ public class KafkaConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${saga.drain.listener-shutdown-ms:30000}")
+    private long listenerShutdownMs;
+
+    private final MeterRegistry meterRegistry;
+
+    public KafkaConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @Bean
     public ProducerFactory<String, OrderRequest> orderRequestProducerFactory() {
         return CommonKafkaConfig.createProducerFactory(bootstrapServers);
@@ -54,7 +81,13 @@ public class KafkaConfig {
     public ConcurrentKafkaListenerContainerFactory<String, PaymentResult> kafkaListenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<String, PaymentResult> factory =
             new ConcurrentKafkaListenerContainerFactory<>();
+        factory.getContainerProperties().setObservationEnabled(true);
+        CommonKafkaConfig.drainOnStop(factory, listenerShutdownMs);
         factory.setConsumerFactory(paymentResultConsumerFactory());
+        CommonKafkaConfig.quarantinePoisonPills(factory, poisonPillQuarantine());
+        if (virtualThreads) {
+            CommonKafkaConfig.useVirtualThreads(factory, "payment-result-listener");
+        }
         return factory;
     }
     
@@ -62,17 +95,101 @@ public class KafkaConfig {
     public ConcurrentKafkaListenerContainerFactory<String, PaymentResultWithSaga> sagaResultKafkaListenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<String, PaymentResultWithSaga> factory =
             new ConcurrentKafkaListenerContainerFactory<>();
+        factory.getContainerProperties().setObservationEnabled(true);
+        CommonKafkaConfig.drainOnStop(factory, listenerShutdownMs);
         factory.setConsumerFactory(sagaResultConsumerFactory());
+        CommonKafkaConfig.quarantinePoisonPills(factory, poisonPillQuarantine());
+        if (virtualThreads) {
+            CommonKafkaConfig.useVirtualThreads(factory, "saga-result-listener");
+        }
+        return factory;
+    }
+
+    /**
+     * 결과 알림 전용 컨슈머 (인스턴스별 그룹, 최신 오프셋부터 읽고 커밋하지 않음)
+     */
+    @Bean
+    public ConsumerFactory<String, PaymentResultWithSaga> resultNotifyConsumerFactory(OrderInstance orderInstance) {
+        return CommonKafkaConfig.createConsumerFactory(
+            bootstrapServers,
+            orderInstance.getNotifyGroupId(),
+            PaymentResultWithSaga.class,
+            Map.of(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest",
+                   ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false),
+            "com.example.order.dto",
+            "com.example.payment.dto"
+        );
+    }
+
+    /**
+     * 이 인스턴스가 보낸 결제 요청의 결과만 넘기는 알림 리스너 팩토리
+     * MANUAL 모드에서 확인(ack)하지 않으므로 오프셋이 남지 않고, 다른 인스턴스 결과는 필터에서 버림
+     * (역직렬화 실패 레코드도 버림, 격리는 order-saga-group 리스너가 한 번만 수행)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, PaymentResultWithSaga> resultNotifyKafkaListenerContainerFactory(
+            OrderInstance orderInstance) {
+        ConcurrentKafkaListenerContainerFactory<String, PaymentResultWithSaga> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setConsumerFactory(resultNotifyConsumerFactory(orderInstance));
+        byte[] instanceId = orderInstance.getInstanceId().getBytes(StandardCharsets.UTF_8);
+        factory.setRecordFilterStrategy(record -> {
+            Object value = record.value();
+            if (value instanceof FailedDeserializationInfo) {
+                return true;
+            }
+            Header origin = record.headers().lastHeader(SagaHeaders.ORIGIN_INSTANCE);
+            return origin == null || !Arrays.equals(origin.value(), instanceId);
+        });
+        if (virtualThreads) {
+            CommonKafkaConfig.useVirtualThreads(factory, "result-notify-listener");
+        }
         return factory;
     }
 
     @Bean("orderRequestKafkaTemplate")
     public KafkaTemplate<String, OrderRequest> kafkaTemplate() {
-        return new KafkaTemplate<>(orderRequestProducerFactory());
+        KafkaTemplate<String, OrderRequest> template = new KafkaTemplate<>(orderRequestProducerFactory());
+        template.setObservationEnabled(true);
+        return template;
     }
 
     @Bean("sagaKafkaTemplate")
     public KafkaTemplate<String, Object> sagaKafkaTemplate() {
-        return new KafkaTemplate<>(objectProducerFactory());
+        KafkaTemplate<String, Object> template = new KafkaTemplate<>(objectProducerFactory());
+        template.setObservationEnabled(true);
+        return template;
+    }
+
+    @Bean("quarantineKafkaTemplate")
+    public KafkaTemplate<byte[], byte[]> quarantineKafkaTemplate() {
+        return new KafkaTemplate<>(CommonKafkaConfig.createByteArrayProducerFactory(bootstrapServers));
+    }
+
+    /**
+     * 역직렬화 실패 레코드를 <토픽>-quarantine 으로 격리 (모든 리스너 컨테이너 팩토리에 적용)
+     */
+    @Bean
+    public PoisonPillQuarantine poisonPillQuarantine() {
+        return new PoisonPillQuarantine(quarantineKafkaTemplate(), meterRegistry);
+    }
+
+    /**
+     * 결제 결과 토픽의 격리 토픽
+     */
+    @Bean
+    public KafkaAdmin.NewTopics quarantineTopics() {
+        return CommonKafkaConfig.quarantineTopics("payment.result");
+    }
+
+    @Bean
+    public ProducerFlushLifecycle producerFlushLifecycle() {
+        return new ProducerFlushLifecycle(List.of(kafkaTemplate(), sagaKafkaTemplate(), quarantineKafkaTemplate()));
+    }
+
+    @Bean
+    public DeadLetterReplayer deadLetterReplayer() {
+        return new DeadLetterReplayer(bootstrapServers);
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.example.order.config;
+
+import com.example.order.streams.SagaViewQueryService;
+import com.example.order.streams.SagaViewTopology;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafkaStreams;
+import org.springframework.kafka.annotation.KafkaStreamsDefaultConfiguration;
+import org.springframework.kafka.config.KafkaStreamsConfiguration;
+import org.springframework.kafka.config.StreamsBuilderFactoryBean;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Saga 구체화 뷰 (Kafka Streams) 설정 - saga.streams.enabled=true 일 때만 활성화
+ */
+@Configuration
+@EnableKafkaStreams
+@ConditionalOnProperty(name = "saga.streams.enabled", havingValue = "true")
+public class SagaViewStreamsConfig {
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Value("${saga.streams.application-id:order-saga-view}")
+    private String applicationId;
+
+    @Value("${saga.streams.state-dir:./state/saga-view}")
+    private String stateDir;
+
+    @Value("${saga.streams.window-size:1m}")
+    private Duration windowSize;
+
+    @Value("${kafka.topics.payment-request}")
+    private String paymentRequestTopic;
+
+    @Value("${kafka.topics.payment-result}")
+    private String paymentResultTopic;
+
+    @Value("${kafka.topics.payment-cancel}")
+    private String paymentCancelTopic;
+
+    @Bean(name = KafkaStreamsDefaultConfiguration.DEFAULT_STREAMS_CONFIG_BEAN_NAME)
+    public KafkaStreamsConfiguration sagaViewStreamsConfiguration() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(StreamsConfig.APPLICATION_ID_CONFIG, applicationId);
+        config.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(StreamsConfig.STATE_DIR_CONFIG, stateDir);
+        config.put(StreamsConfig.DEFAULT_KEY_SERDE_CLASS_CONFIG, Serdes.StringSerde.class);
+        config.put(StreamsConfig.DEFAULT_VALUE_SERDE_CLASS_CONFIG, Serdes.StringSerde.class);
+        return new KafkaStreamsConfiguration(config);
+    }
+
+    @Bean
+    public SagaViewTopology sagaViewTopology(StreamsBuilder streamsBuilder) {
+        SagaViewTopology topology = new SagaViewTopology(
+            paymentRequestTopic, paymentResultTopic, paymentCancelTopic, windowSize);
+        topology.build(streamsBuilder);
+        return topology;
+    }
+
+    @Bean
+    public SagaViewQueryService sagaViewQueryService(StreamsBuilderFactoryBean streamsBuilderFactoryBean) {
+        return new SagaViewQueryService(streamsBuilderFactoryBean);
+    }
+}
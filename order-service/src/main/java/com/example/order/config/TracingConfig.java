@@ -0,0 +1,27 @@
+package com.example.order.config;
+
+import com.example.common.tracing.LocalSpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 로컬 트레이스 수집 (샘플링 비율은 management.tracing.sampling.probability)
+ */
+@Configuration
+public class TracingConfig {
+
+    @Value("${saga.tracing.file:}")
+    private String file;
+
+    @Value("${saga.tracing.capacity:10000}")
+    private int capacity;
+
+    @Bean
+    public LocalSpanExporter localSpanExporter() throws IOException {
+        return new LocalSpanExporter(file.isBlank() ? null : Path.of(file), capacity);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.order.controller;
+
+import com.example.order.dto.OrderRequest;
+import com.example.order.dto.OrderResponse;
+import com.example.order.service.AdmissionControlService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 주문 생성 API 공통 수용 제어 (한도 확인 -> 처리 -> 완료 기록/반환)
+ */
+@Component
+@RequiredArgsConstructor
+public class AdmissionGate {
+
+    private final AdmissionControlService admissionControlService;
+    private static final Logger log = LoggerFactory.getLogger(AdmissionGate.class);
+
+    /**
+     * 수용 한도 안에서 주문 처리
+     * 한도를 넘으면 503 + Retry-After, 처리 중 예외는 한도를 반납한 뒤 그대로 던짐
+     */
+    public ResponseEntity<OrderResponse> admit(OrderRequest orderRequest, Callable<OrderResponse> order) throws Exception {
+        // 수용 한도를 넘으면 즉시 거절
+        if (!admissionControlService.tryAcquire()) {
+            log.warn("주문 수용 한도 초과로 거절: orderId={}", orderRequest.getOrderId());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(admissionControlService.getRetryAfterSeconds()))
+                .body(new OrderResponse(orderRequest.getOrderId(), "REJECTED", "주문 처리량이 많아 잠시 후 다시 시도해주세요"));
+        }
+
+        long startNanos = System.nanoTime();
+        boolean completed = false;
+        try {
+            OrderResponse result = order.call();
+            completed = !"TIMEOUT".equals(result.getStatus());
+            return ResponseEntity.ok(result);
+        } finally {
+            admissionControlService.release((System.nanoTime() - startNanos) / 1_000_000, completed);
+        }
+    }
+}
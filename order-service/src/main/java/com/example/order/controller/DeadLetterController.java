@@ -0,0 +1,36 @@
+package com.example.order.controller;
+
+import com.example.common.kafka.DeadLetterReplayer;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/dlt")
+@RequiredArgsConstructor
+public class DeadLetterController {
+    
+    private final DeadLetterReplayer deadLetterReplayer;
+    private static final Logger log = LoggerFactory.getLogger(DeadLetterController.class);
+    
+    /**
+     * DLT 레코드를 원본 토픽으로 일괄 재주입 (예: payment.result-dlt)
+     */
+    @PostMapping("/{dltTopic}/replay")
+    public ResponseEntity<String> replay(@PathVariable String dltTopic,
+                                         @RequestParam(defaultValue = "100") int max) {
+        try {
+            int replayed = deadLetterReplayer.replay(dltTopic, max);
+            log.info("DLT 재주입 완료: topic={}, count={}", dltTopic, replayed);
+            return ResponseEntity.ok("재주입 완료: " + replayed + " 건");
+            
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("DLT 재주입 실패: topic={}, error={}", dltTopic, e.getMessage());
+            return ResponseEntity.internalServerError().body("DLT 재주입 실패: " + e.getMessage());
+        }
+    }
+}
@@ -7,7 +7,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,6 +17,7 @@ import org.slf4j.LoggerFactory;
 public class OrderController {
     
     private final OrderService orderService;
+    private final AdmissionGate admissionGate;
     private static final Logger log = LoggerFactory.getLogger(OrderController.class);
 
     /**
@@ -26,12 +26,10 @@ public class OrderController {
     @PostMapping
     public ResponseEntity<OrderResponse> createOrder(@RequestBody OrderRequest orderRequest) {
         try {
-            log.info("주문 생성 요청: orderId={} (Saga 패턴 사용)", orderRequest.getOrderId());
-            
-            CompletableFuture<OrderResponse> futureResult = orderService.createOrderWithSaga(orderRequest);
-            OrderResponse result = futureResult.get(11, TimeUnit.SECONDS);
-            
-            return ResponseEntity.ok(result);
+            return admissionGate.admit(orderRequest, () -> {
+                log.info("주문 생성 요청: orderId={} (Saga 패턴 사용)", orderRequest.getOrderId());
+                return orderService.createOrderWithSaga(orderRequest).get(11, TimeUnit.SECONDS);
+            });
         } catch (Exception e) {
             log.error("주문 생성 실패: {}", e.getMessage());
             OrderResponse errorResponse = new OrderResponse(
@@ -1,16 +1,23 @@
 package com.example.order.controller;
 
-import com.example.order.domain.SagaTransaction;
+import com.example.order.domain.SagaStepEvent;
 import com.example.order.dto.OrderRequest;
 import com.example.order.dto.OrderResponse;
+import com.example.order.dto.SagaSummary;
+import com.example.order.dto.SagaSummaryPage;
 import com.example.order.service.OrderService;
 import com.example.order.service.SagaMonitoringService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,7 +28,9 @@ import org.slf4j.LoggerFactory;
 public class SagaController {
     
     private final OrderService orderService;
+    private final AdmissionGate admissionGate;
     private final SagaMonitoringService sagaMonitoringService;
+    private final ObjectMapper objectMapper;
     
     private static final Logger log = LoggerFactory.getLogger(SagaController.class);
     
@@ -31,15 +40,11 @@ public class SagaController {
     @PostMapping("/orders")
     public ResponseEntity<OrderResponse> createOrderWithSaga(@RequestBody OrderRequest orderRequest) {
         try {
-            log.info("Saga 기반 주문 생성 요청: orderId={}", orderRequest.getOrderId());
-            
-            CompletableFuture<OrderResponse> futureResult = 
-                orderService.createOrderWithSaga(orderRequest);
-            
-            // 31초 타임아웃으로 결과 대기
-            OrderResponse result = futureResult.get(31, TimeUnit.SECONDS);
-            
-            return ResponseEntity.ok(result);
+            return admissionGate.admit(orderRequest, () -> {
+                log.info("Saga 기반 주문 생성 요청: orderId={}", orderRequest.getOrderId());
+                // 31초 타임아웃으로 결과 대기
+                return orderService.createOrderWithSaga(orderRequest).get(31, TimeUnit.SECONDS);
+            });
             
         } catch (Exception e) {
             log.error("Saga 주문 생성 실패: {}", e.getMessage());
@@ -58,7 +63,7 @@ public class SagaController {
     @GetMapping("/orders/{orderId}/status")
     public ResponseEntity<SagaStatusResponse> getSagaStatus(@PathVariable String orderId) {
         try {
-            SagaTransaction saga = sagaMonitoringService.getSagaByOrderId(orderId);
+            SagaSummary saga = sagaMonitoringService.getSagaSummaryByOrderId(orderId);
             
             if (saga == null) {
                 return ResponseEntity.notFound().build();
@@ -67,8 +72,8 @@ public class SagaController {
             SagaStatusResponse response = new SagaStatusResponse(
                 saga.getSagaId(),
                 saga.getOrderId(),
-                saga.getCurrentStep(),
-                saga.getStatus(),
+                saga.getCurrentStep().name(),
+                saga.getStatus().name(),
                 saga.getLastMessage(),
                 saga.getStartedAt(),
                 saga.getUpdatedAt()
@@ -83,13 +88,14 @@ public class SagaController {
     }
     
     /**
-     * 모든 진행 중인 Saga 조회
+     * 진행 중인 Saga 조회 (키셋 페이지, 다음 페이지는 nextCursor 로 요청)
      */
     @GetMapping("/transactions/in-progress")
-    public ResponseEntity<List<SagaTransaction>> getInProgressSagas() {
+    public ResponseEntity<SagaSummaryPage> getInProgressSagas(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "50") int size) {
         try {
-            List<SagaTransaction> inProgressSagas = sagaMonitoringService.getInProgressSagas();
-            return ResponseEntity.ok(inProgressSagas);
+            return ResponseEntity.ok(sagaMonitoringService.getInProgressSagas(cursor, size));
             
         } catch (Exception e) {
             log.error("진행 중인 Saga 조회 실패: {}", e.getMessage());
@@ -97,6 +103,46 @@ public class SagaController {
         }
     }
     
+    /**
+     * 진행 중인 Saga 전체를 JSON 배열로 스트리밍 (chunked 전송, 서버 메모리 일정)
+     */
+    @GetMapping(value = "/transactions/in-progress/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamInProgressSagas() {
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.writeStartArray();
+                int[] written = {0};
+                sagaMonitoringService.streamInProgressSagas(saga -> {
+                    try {
+                        generator.writeObject(saga);
+                        if (++written[0] % 500 == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+    
+    /**
+     * Saga 단계 이력 조회 (saga.event-sourcing.enabled=true 일 때 기록)
+     */
+    @GetMapping("/transactions/{sagaId}/timeline")
+    public ResponseEntity<List<SagaStepEvent>> getSagaTimeline(@PathVariable String sagaId) {
+        try {
+            List<SagaStepEvent> timeline = sagaMonitoringService.getTimeline(sagaId);
+            return timeline.isEmpty() ? ResponseEntity.notFound().build() : ResponseEntity.ok(timeline);
+            
+        } catch (Exception e) {
+            log.error("Saga 단계 이력 조회 실패: sagaId={}, error={}", sagaId, e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
     /**
      * 특정 Saga 수동 재시도
      */
@@ -0,0 +1,75 @@
+package com.example.order.controller;
+
+import com.example.order.streams.SagaView;
+import com.example.order.streams.SagaViewQueryService;
+import com.example.order.streams.StepLatency;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@RestController
+@RequestMapping("/api/saga/view")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "saga.streams.enabled", havingValue = "true")
+public class SagaViewController {
+
+    private final SagaViewQueryService sagaViewQueryService;
+
+    private static final Logger log = LoggerFactory.getLogger(SagaViewController.class);
+
+    /**
+     * 상태 저장소에서 Saga 현재 상태 조회
+     */
+    @GetMapping("/{sagaId}")
+    public ResponseEntity<SagaView> getSagaView(@PathVariable String sagaId) {
+        try {
+            SagaView view = sagaViewQueryService.getSagaView(sagaId);
+            return view != null ? ResponseEntity.ok(view) : ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            log.warn("Saga 뷰 조회 불가: sagaId={}, error={}", sagaId, e.getMessage());
+            return ResponseEntity.status(503).build();
+        }
+    }
+
+    /**
+     * 기간 내 단계별 건수 (기본: 최근 1시간)
+     */
+    @GetMapping("/steps/counts")
+    public ResponseEntity<Map<String, Long>> getStepCounts(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        try {
+            Instant end = to != null ? to : Instant.now();
+            Instant start = from != null ? from : end.minus(Duration.ofHours(1));
+            return ResponseEntity.ok(sagaViewQueryService.getStepCounts(start, end));
+        } catch (IllegalStateException e) {
+            log.warn("단계별 건수 조회 불가: {}", e.getMessage());
+            return ResponseEntity.status(503).build();
+        }
+    }
+
+    /**
+     * 기간 내 단계별 체류 시간 (기본: 최근 1시간)
+     */
+    @GetMapping("/steps/latencies")
+    public ResponseEntity<Map<String, StepLatency>> getStepLatencies(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        try {
+            Instant end = to != null ? to : Instant.now();
+            Instant start = from != null ? from : end.minus(Duration.ofHours(1));
+            return ResponseEntity.ok(sagaViewQueryService.getStepLatencies(start, end));
+        } catch (IllegalStateException e) {
+            log.warn("단계별 체류 시간 조회 불가: {}", e.getMessage());
+            return ResponseEntity.status(503).build();
+        }
+    }
+}
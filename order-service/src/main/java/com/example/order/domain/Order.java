@@ -7,13 +7,18 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+    // 같은 주문 ID 로 여러 인스턴스가 동시에 Saga 를 시작해도 주문은 하나만 저장됨
+    @Index(name = "uk_orders_order_id", columnList = "orderId", unique = true),
+    @Index(name = "idx_orders_saga_id", columnList = "sagaId")
+})
 @Getter
 @Setter
 public class Order {
@@ -23,7 +28,7 @@ public class Order {
     
     private String orderId;
     private BigDecimal amount;
-    private String status;
+    private OrderStatus status;
     private String failureReason;
     private String sagaId;  // Saga 트랜잭션 ID 연결
     private LocalDateTime createdAt;
@@ -0,0 +1,46 @@
+package com.example.order.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 주문 (콜드 테이블, archiveMonth 기준 분할)
+ */
+@Entity
+@Table(name = "orders_archive", indexes = {
+    @Index(name = "idx_orders_archive_order_id", columnList = "orderId"),
+    @Index(name = "idx_orders_archive_month", columnList = "archiveMonth")
+})
+@Getter
+@Setter
+public class OrderArchive {
+    @Id
+    private Long id;  // 원본 orders.id 유지
+
+    private String orderId;
+    private BigDecimal amount;
+    private OrderStatus status;
+    private String failureReason;
+    private String sagaId;
+    private LocalDateTime createdAt;
+
+    private Integer archiveMonth;  // yyyyMM
+    private LocalDateTime archivedAt;
+
+    public static OrderArchive from(Order order, Integer archiveMonth) {
+        OrderArchive archive = new OrderArchive();
+        archive.setId(order.getId());
+        archive.setOrderId(order.getOrderId());
+        archive.setAmount(order.getAmount());
+        archive.setStatus(order.getStatus());
+        archive.setFailureReason(order.getFailureReason());
+        archive.setSagaId(order.getSagaId());
+        archive.setCreatedAt(order.getCreatedAt());
+        archive.setArchiveMonth(archiveMonth);
+        archive.setArchivedAt(LocalDateTime.now());
+        return archive;
+    }
+}
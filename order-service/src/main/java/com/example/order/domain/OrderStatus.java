@@ -0,0 +1,36 @@
+package com.example.order.domain;
+
+/**
+ * 주문 상태 (code 는 DB 에 저장되므로 변경하지 않고 추가만 함)
+ */
+public enum OrderStatus {
+    PENDING(1),
+    COMPLETED(2),
+    CANCELLED(3);
+
+    private static final OrderStatus[] BY_CODE = new OrderStatus[16];
+
+    static {
+        for (OrderStatus value : values()) {
+            BY_CODE[value.code] = value;
+        }
+    }
+
+    private final short code;
+
+    OrderStatus(int code) {
+        this.code = (short) code;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    public static OrderStatus fromCode(short code) {
+        OrderStatus value = code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+        if (value == null) {
+            throw new IllegalArgumentException("알 수 없는 OrderStatus 코드: " + code);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.order.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * OrderStatus 을 SMALLINT 코드로 저장
+ */
+@Converter(autoApply = true)
+public class OrderStatusConverter implements AttributeConverter<OrderStatus, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(OrderStatus value) {
+        return value != null ? value.getCode() : null;
+    }
+
+    @Override
+    public OrderStatus convertToEntityAttribute(Short code) {
+        return code != null ? OrderStatus.fromCode(code) : null;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.order.domain;
+
+/**
+ * Saga 진행 상태 (code 는 DB 에 저장되므로 변경하지 않고 추가만 함)
+ */
+public enum SagaStatus {
+    IN_PROGRESS(1),
+    FINISHED(2);
+
+    private static final SagaStatus[] BY_CODE = new SagaStatus[16];
+
+    static {
+        for (SagaStatus value : values()) {
+            BY_CODE[value.code] = value;
+        }
+    }
+
+    private final short code;
+
+    SagaStatus(int code) {
+        this.code = (short) code;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    public static SagaStatus fromCode(short code) {
+        SagaStatus value = code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+        if (value == null) {
+            throw new IllegalArgumentException("알 수 없는 SagaStatus 코드: " + code);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.order.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * SagaStatus 을 SMALLINT 코드로 저장
+ */
+@Converter(autoApply = true)
+public class SagaStatusConverter implements AttributeConverter<SagaStatus, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(SagaStatus value) {
+        return value != null ? value.getCode() : null;
+    }
+
+    @Override
+    public SagaStatus convertToEntityAttribute(Short code) {
+        return code != null ? SagaStatus.fromCode(code) : null;
+    }
+}
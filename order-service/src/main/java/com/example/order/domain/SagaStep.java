@@ -0,0 +1,47 @@
+package com.example.order.domain;
+
+/**
+ * Saga 단계 (code 는 DB 에 저장되므로 변경하지 않고 추가만 함)
+ */
+public enum SagaStep {
+    STARTED(1),
+    ORDER_CREATED(2),
+    PAYMENT_REQUESTED(3),
+    PAYMENT_PROCESSING(4),
+    COMPLETED(5),
+    COMPENSATED(6),
+    COMPENSATION_FAILED(7);
+
+    private static final SagaStep[] BY_CODE = new SagaStep[16];
+
+    static {
+        for (SagaStep value : values()) {
+            BY_CODE[value.code] = value;
+        }
+    }
+
+    private final short code;
+
+    SagaStep(int code) {
+        this.code = (short) code;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    /**
+     * 종료 단계 여부 (이 단계로 전이하면 Saga 는 FINISHED)
+     */
+    public boolean isTerminal() {
+        return this == COMPLETED || this == COMPENSATED || this == COMPENSATION_FAILED;
+    }
+
+    public static SagaStep fromCode(short code) {
+        SagaStep value = code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+        if (value == null) {
+            throw new IllegalArgumentException("알 수 없는 SagaStep 코드: " + code);
+        }
+        return value;
+    }
+}
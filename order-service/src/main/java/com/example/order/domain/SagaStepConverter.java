@@ -0,0 +1,21 @@
+package com.example.order.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * SagaStep 을 SMALLINT 코드로 저장
+ */
+@Converter(autoApply = true)
+public class SagaStepConverter implements AttributeConverter<SagaStep, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(SagaStep value) {
+        return value != null ? value.getCode() : null;
+    }
+
+    @Override
+    public SagaStep convertToEntityAttribute(Short code) {
+        return code != null ? SagaStep.fromCode(code) : null;
+    }
+}
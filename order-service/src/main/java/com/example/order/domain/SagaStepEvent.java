@@ -0,0 +1,70 @@
+package com.example.order.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Saga 단계 전이 이벤트 (추가 전용, sagaId + seq 가 키이므로 같은 순번의 동시 전이는 중복 키로 실패)
+ */
+@Entity
+@Table(name = "saga_events", indexes = {
+    @Index(name = "idx_saga_events_occurred_at", columnList = "occurredAt")
+})
+@IdClass(SagaStepEvent.Key.class)
+@Getter
+@Setter
+public class SagaStepEvent implements Persistable<SagaStepEvent.Key> {
+    @Id
+    private String sagaId;
+    
+    @Id
+    private Integer seq;
+    
+    private String orderId;
+    private SagaStep step;
+    private String message;
+    private BigDecimal amount;  // STARTED 이벤트에만 기록
+    private LocalDateTime occurredAt;
+    
+    public static SagaStepEvent of(SagaTransaction saga) {
+        SagaStepEvent event = new SagaStepEvent();
+        event.setSagaId(saga.getSagaId());
+        event.setSeq(saga.getLastEventSeq());
+        event.setOrderId(saga.getOrderId());
+        event.setStep(saga.getCurrentStep());
+        event.setMessage(saga.getLastMessage());
+        event.setAmount(saga.getCurrentStep() == SagaStep.STARTED ? saga.getAmount() : null);
+        event.setOccurredAt(saga.getUpdatedAt() != null ? saga.getUpdatedAt() : LocalDateTime.now());
+        return event;
+    }
+    
+    @Override
+    public Key getId() {
+        return new Key(sagaId, seq);
+    }
+    
+    /**
+     * 항상 INSERT (merge 전 SELECT 생략)
+     */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String sagaId;
+        private Integer seq;
+    }
+}
@@ -7,7 +7,12 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "saga_transactions")
+@Table(name = "saga_transactions", indexes = {
+    @Index(name = "idx_saga_order_id", columnList = "orderId"),
+    @Index(name = "idx_saga_status_finished_at", columnList = "status, finishedAt"),
+    @Index(name = "idx_saga_status_id", columnList = "status, id"),
+    @Index(name = "idx_saga_status_deadline", columnList = "status, deadline")
+})
 @Getter
 @Setter
 public class SagaTransaction {
@@ -20,13 +25,31 @@ public class SagaTransaction {
     
     private String orderId;
     private BigDecimal amount;
-    private String currentStep;  // STARTED, ORDER_CREATED, PAYMENT_REQUESTED, COMPLETED, COMPENSATED
-    private String status;       // IN_PROGRESS, FINISHED
+    private SagaStep currentStep;
+    private SagaStatus status;
     private String lastMessage;
     
     private LocalDateTime startedAt;
     private LocalDateTime updatedAt;
     private LocalDateTime finishedAt;
+    private LocalDateTime deadline;  // 현재 단계 마감 시각 (지나면 보상, 종료되면 null)
+    
+    private Integer lastEventSeq;  // 이벤트 소싱 모드: 이 상태에 반영된 마지막 이벤트 순번
+    
+    /**
+     * 단계 전이 적용 (종료 단계면 FINISHED)
+     */
+    public void applyStep(SagaStep step, String message, LocalDateTime at) {
+        this.currentStep = step;
+        this.lastMessage = message;
+        this.updatedAt = at;
+        
+        if (step.isTerminal()) {
+            this.status = SagaStatus.FINISHED;
+            this.finishedAt = at;
+            this.deadline = null;
+        }
+    }
     
     @PrePersist
     protected void onCreate() {
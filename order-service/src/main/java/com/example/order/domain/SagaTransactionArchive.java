@@ -0,0 +1,75 @@
+package com.example.order.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 FINISHED Saga (콜드 테이블, archiveMonth 기준 분할)
+ */
+@Entity
+@Table(name = "saga_transactions_archive", indexes = {
+    @Index(name = "idx_saga_archive_order_id", columnList = "orderId"),
+    @Index(name = "idx_saga_archive_saga_id", columnList = "sagaId"),
+    @Index(name = "idx_saga_archive_month", columnList = "archiveMonth")
+})
+@Getter
+@Setter
+public class SagaTransactionArchive {
+    @Id
+    private Long id;  // 원본 saga_transactions.id 유지
+
+    @Column(nullable = false)
+    private String sagaId;
+
+    private String orderId;
+    private BigDecimal amount;
+    private SagaStep currentStep;
+    private SagaStatus status;
+    private String lastMessage;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+
+    private Integer archiveMonth;  // yyyyMM (finishedAt 기준)
+    private LocalDateTime archivedAt;
+
+    public static SagaTransactionArchive from(SagaTransaction saga) {
+        SagaTransactionArchive archive = new SagaTransactionArchive();
+        archive.setId(saga.getId());
+        archive.setSagaId(saga.getSagaId());
+        archive.setOrderId(saga.getOrderId());
+        archive.setAmount(saga.getAmount());
+        archive.setCurrentStep(saga.getCurrentStep());
+        archive.setStatus(saga.getStatus());
+        archive.setLastMessage(saga.getLastMessage());
+        archive.setStartedAt(saga.getStartedAt());
+        archive.setUpdatedAt(saga.getUpdatedAt());
+        archive.setFinishedAt(saga.getFinishedAt());
+        LocalDateTime partitionTime = saga.getFinishedAt() != null ? saga.getFinishedAt() : saga.getStartedAt();
+        archive.setArchiveMonth(partitionTime.getYear() * 100 + partitionTime.getMonthValue());
+        archive.setArchivedAt(LocalDateTime.now());
+        return archive;
+    }
+
+    /**
+     * 조회 응답용 (영속 상태가 아닌) SagaTransaction 변환
+     */
+    public SagaTransaction toSagaTransaction() {
+        SagaTransaction saga = new SagaTransaction();
+        saga.setId(id);
+        saga.setSagaId(sagaId);
+        saga.setOrderId(orderId);
+        saga.setAmount(amount);
+        saga.setCurrentStep(currentStep);
+        saga.setStatus(status);
+        saga.setLastMessage(lastMessage);
+        saga.setStartedAt(startedAt);
+        saga.setUpdatedAt(updatedAt);
+        saga.setFinishedAt(finishedAt);
+        return saga;
+    }
+}
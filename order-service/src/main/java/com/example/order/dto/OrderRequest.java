@@ -13,4 +13,5 @@ public class OrderRequest {
     private BigDecimal amount;
     private String currency;
     private String paymentMethod;
+    private String priority;  // 선택: HIGH 면 우선 레인, NORMAL 이면 금액/결제 수단과 관계없이 일반 레인
 } 
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.example.order.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -11,4 +12,11 @@ public class OrderResponse {
     private String orderId;
     private String status;
     private String message;
+    
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String sagaId;  // 재시도 응답에서 기존 Saga 를 알려줄 때만 채움
+    
+    public OrderResponse(String orderId, String status, String message) {
+        this(orderId, status, message, null);
+    }
 } 
\ No newline at end of file
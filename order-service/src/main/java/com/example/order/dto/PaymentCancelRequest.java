@@ -0,0 +1,14 @@
+package com.example.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentCancelRequest {
+    private String orderId;
+    private String sagaId;
+    private String reason;
+}
@@ -1,11 +1,16 @@
 package com.example.order.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 
+/**
+ * Saga 결제 요청 (saga.kafka.minor-unit-amounts=true 이면 amount 대신 amountMinor 로 전송)
+ */
 @Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @NoArgsConstructor
 @AllArgsConstructor
 public class PaymentRequestWithSaga {
@@ -14,4 +19,5 @@ public class PaymentRequestWithSaga {
     private String currency;
     private String paymentMethod;
     private String sagaId;
+    private Long amountMinor;  // 최소 화폐 단위 금액 (MinorUnits.SCALE)
 } 
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.example.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마감 스케줄러용 프로젝션 (마감 시각 선점에 필요한 컬럼만 조회)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SagaDeadline {
+    private Long id;
+    private String sagaId;
+    private LocalDateTime deadline;
+}
@@ -0,0 +1,32 @@
+package com.example.order.dto;
+
+import com.example.order.domain.SagaStatus;
+import com.example.order.domain.SagaStep;
+import com.example.order.domain.SagaTransaction;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Saga 조회용 프로젝션 (엔티티 대신 필요한 컬럼만 조회)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SagaSummary {
+    private Long id;
+    private String sagaId;
+    private String orderId;
+    private SagaStep currentStep;
+    private SagaStatus status;
+    private String lastMessage;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    
+    public static SagaSummary from(SagaTransaction saga) {
+        return new SagaSummary(saga.getId(), saga.getSagaId(), saga.getOrderId(), saga.getCurrentStep(),
+            saga.getStatus(), saga.getLastMessage(), saga.getStartedAt(), saga.getUpdatedAt());
+    }
+}
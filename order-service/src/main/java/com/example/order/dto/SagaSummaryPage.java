@@ -0,0 +1,18 @@
+package com.example.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Saga 목록 조회 결과 (nextCursor 가 null 이면 마지막 페이지)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SagaSummaryPage {
+    private List<SagaSummary> items;
+    private Long nextCursor;
+}
@@ -0,0 +1,29 @@
+package com.example.order.kafka;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 order-service 인스턴스의 식별자
+ * (결제 요청 헤더에 실어 보내고, 결과 알림 리스너가 자기 인스턴스의 결과만 골라 대기 중인 Future를 완료)
+ */
+@Component
+public class OrderInstance {
+
+    private final String instanceId;
+
+    public OrderInstance(@Value("${order.instance-id}") String instanceId) {
+        this.instanceId = instanceId;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * 결과 알림 전용 그룹 (오프셋을 커밋하지 않으므로 인스턴스가 사라지면 그룹도 남지 않음)
+     */
+    public String getNotifyGroupId() {
+        return "order-notify-" + instanceId;
+    }
+}
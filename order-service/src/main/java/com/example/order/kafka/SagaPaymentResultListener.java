@@ -3,40 +3,69 @@ package com.example.order.kafka;
 import com.example.order.dto.PaymentResultWithSaga;
 import com.example.order.dto.PaymentResult;
 import com.example.order.service.OrderService;
+import com.example.common.journal.SagaJournal;
 import lombok.RequiredArgsConstructor;
+import java.nio.charset.StandardCharsets;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * 공용 그룹(order-saga-group)으로 결제 결과를 받아 Saga 상태 갱신
+ * (대기 중인 주문이 다른 인스턴스에 있으면 그 인스턴스의 SagaPaymentResultNotifier 가 응답을 완료)
+ */
 @Component
 @RequiredArgsConstructor
 public class SagaPaymentResultListener {
     
     private final OrderService orderService;
+    private final SagaJournal journal;
     private static final Logger log = LoggerFactory.getLogger(SagaPaymentResultListener.class);
     
+    @RetryableTopic(
+        attempts = "${saga.retry.attempts:4}",
+        backoff = @Backoff(
+            delayExpression = "${saga.retry.delay-ms:1000}",
+            multiplierExpression = "${saga.retry.multiplier:2.0}",
+            maxDelayExpression = "${saga.retry.max-delay-ms:10000}"),
+        kafkaTemplate = "sagaKafkaTemplate"
+    )
     @KafkaListener(
         topics = "payment.result", 
         groupId = "order-saga-group",
         containerFactory = "sagaResultKafkaListenerContainerFactory"
     )
     public void handleSagaPaymentResult(PaymentResultWithSaga result) {
-        try {
+        if (journal.logSampled()) {
             log.info("Saga 결제 결과 수신: orderId={}, status={}, sagaId={}", 
                     result.getOrderId(), result.getStatus(), result.getSagaId());
-            
-            // PaymentResult 객체 생성
-            PaymentResult paymentResult = new PaymentResult(
-                result.getOrderId(), 
-                result.getStatus(), 
-                result.getMessage()
-            );
-            
-            // 결제 결과 처리
-            orderService.handlePaymentResult(paymentResult, result.getSagaId());
-        } catch (Exception e) {
-            log.error("Saga 결제 결과 처리 중 오류: error={}", e.getMessage(), e);
         }
+        
+        // PaymentResult 객체 생성
+        PaymentResult paymentResult = new PaymentResult(
+            result.getOrderId(), 
+            result.getStatus(), 
+            result.getMessage()
+        );
+        
+        // 결제 결과 처리
+        orderService.handlePaymentResult(paymentResult, result.getSagaId());
+    }
+    
+    /**
+     * 재시도를 모두 소진한 결제 결과 (DLT)
+     */
+    @DltHandler
+    public void handleDeadLetter(PaymentResultWithSaga result,
+                                 @Header(name = KafkaHeaders.DLT_EXCEPTION_MESSAGE, required = false) byte[] error) {
+        log.error("결제 결과 DLT 이동: orderId={}, sagaId={}, error={}",
+                result.getOrderId(), result.getSagaId(),
+                error != null ? new String(error, StandardCharsets.UTF_8) : null);
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.example.order.kafka;
+
+import com.example.order.dto.PaymentResult;
+import com.example.order.dto.PaymentResultWithSaga;
+import com.example.order.service.OrderService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 인스턴스가 보낸 결제 요청의 결과 알림
+ *
+ * payment.result 는 두 리스너가 함께 구독함
+ * - SagaPaymentResultListener (order-saga-group): 모든 인스턴스가 한 그룹으로 나눠 받아 Saga 상태를 한 번만 갱신.
+ *   요청을 보낸 인스턴스가 죽어도 살아 있는 인스턴스가 결과를 처리하므로 성공한 결제가 마감 보상으로 취소되지 않음
+ * - 이 리스너 (order-notify-<instance>): 인스턴스마다 모든 결과를 받아 ORIGIN_INSTANCE 헤더가 자기 것인 결과로
+ *   대기 중인 HTTP 응답만 완료. DB 는 건드리지 않고 오프셋도 커밋하지 않으므로 재시도/DLT 토픽이 필요 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class SagaPaymentResultNotifier {
+
+    private final OrderService orderService;
+
+    @KafkaListener(
+        topics = "payment.result",
+        groupId = "#{@orderInstance.notifyGroupId}",
+        containerFactory = "resultNotifyKafkaListenerContainerFactory"
+    )
+    public void handlePaymentResultNotification(PaymentResultWithSaga result) {
+        orderService.notifyPaymentResult(
+            new PaymentResult(result.getOrderId(), result.getStatus(), result.getMessage()),
+            result.getSagaId());
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.order.repository;
+
+import com.example.order.domain.OrderArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OrderArchiveRepository extends JpaRepository<OrderArchive, Long> {
+    OrderArchive findFirstByOrderIdOrderByIdDesc(String orderId);
+}
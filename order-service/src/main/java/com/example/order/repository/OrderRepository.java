@@ -3,9 +3,11 @@ package com.example.order.repository;
 import com.example.order.domain.Order;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
     Order findByOrderId(String orderId);
     List<Order> findBySagaId(String sagaId);
+    List<Order> findBySagaIdIn(Collection<String> sagaIds);
 } 
\ No newline at end of file
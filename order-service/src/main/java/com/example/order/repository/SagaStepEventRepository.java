@@ -0,0 +1,23 @@
+package com.example.order.repository;
+
+import com.example.order.domain.SagaStepEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SagaStepEventRepository extends JpaRepository<SagaStepEvent, SagaStepEvent.Key> {
+    List<SagaStepEvent> findBySagaIdOrderBySeq(String sagaId);
+    List<SagaStepEvent> findBySagaIdAndSeqGreaterThanOrderBySeq(String sagaId, Integer seq);
+    
+    @Query("SELECT DISTINCT e.sagaId FROM SagaStepEvent e WHERE e.occurredAt >= :since")
+    List<String> findSagaIdsWithEventsSince(@Param("since") LocalDateTime since);
+    
+    @Modifying
+    @Query("DELETE FROM SagaStepEvent e WHERE e.sagaId IN :sagaIds")
+    int deleteBySagaIdIn(@Param("sagaIds") Collection<String> sagaIds);
+}
@@ -0,0 +1,8 @@
+package com.example.order.repository;
+
+import com.example.order.domain.SagaTransactionArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SagaTransactionArchiveRepository extends JpaRepository<SagaTransactionArchive, Long> {
+    SagaTransactionArchive findFirstByOrderIdOrderByIdDesc(String orderId);
+}
@@ -1,19 +1,95 @@
 package com.example.order.repository;
 
+import com.example.order.domain.SagaStatus;
+import com.example.order.domain.SagaStep;
 import com.example.order.domain.SagaTransaction;
+import com.example.order.dto.SagaDeadline;
+import com.example.order.dto.SagaSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface SagaTransactionRepository extends JpaRepository<SagaTransaction, Long> {
     SagaTransaction findBySagaId(String sagaId);
     SagaTransaction findByOrderId(String orderId);
     
-    @Query("SELECT s FROM SagaTransaction s WHERE s.status = 'IN_PROGRESS' AND s.startedAt < :timeoutThreshold")
-    List<SagaTransaction> findTimeoutTransactions(@Param("timeoutThreshold") LocalDateTime timeoutThreshold);
+    long countByStatus(SagaStatus status);
     
-    List<SagaTransaction> findByCurrentStepAndStatus(String currentStep, String status);
+    long countByCurrentStepAndStatus(SagaStep currentStep, SagaStatus status);
+    
+    /**
+     * 마감 시각이 until 이전인 Saga (status, deadline 인덱스 범위 조회, 마감 순)
+     */
+    @Query("SELECT new com.example.order.dto.SagaDeadline(s.id, s.sagaId, s.deadline) FROM SagaTransaction s " +
+           "WHERE s.status = :status AND s.deadline <= :until ORDER BY s.deadline")
+    List<SagaDeadline> findDeadlinesBefore(@Param("status") SagaStatus status,
+                                           @Param("until") LocalDateTime until,
+                                           Pageable pageable);
+    
+    /**
+     * 마감 시각이 expected 그대로일 때만 next 로 변경 (여러 인스턴스 중 한 곳만 성공)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE SagaTransaction s SET s.deadline = :next WHERE s.id = :id AND s.deadline = :expected")
+    int moveDeadline(@Param("id") Long id, @Param("expected") LocalDateTime expected, @Param("next") LocalDateTime next);
+    
+    /**
+     * 이벤트 소싱 스냅샷 반영 - 단계/상태 컬럼만 갱신하고 deadline 은 건드리지 않음 (moveDeadline 과 경합하지 않음)
+     * 더 뒤의 이벤트까지 반영된 스냅샷은 되돌리지 않음
+     */
+    @Modifying
+    @Query("UPDATE SagaTransaction s SET s.currentStep = :step, s.status = :status, s.lastMessage = :message, " +
+           "s.updatedAt = :updatedAt, s.finishedAt = :finishedAt, s.lastEventSeq = :seq " +
+           "WHERE s.id = :id AND (s.lastEventSeq IS NULL OR s.lastEventSeq < :seq)")
+    int applySnapshot(@Param("id") Long id, @Param("step") SagaStep step, @Param("status") SagaStatus status,
+                      @Param("message") String message, @Param("updatedAt") LocalDateTime updatedAt,
+                      @Param("finishedAt") LocalDateTime finishedAt, @Param("seq") Integer seq);
+    
+    /**
+     * 종료된 Saga 의 마감 시각 제거
+     */
+    @Modifying
+    @Query("UPDATE SagaTransaction s SET s.deadline = NULL WHERE s.id = :id AND s.status = :status")
+    int clearDeadline(@Param("id") Long id, @Param("status") SagaStatus status);
+    
+    String SUMMARY_SELECT = "SELECT new com.example.order.dto.SagaSummary(s.id, s.sagaId, s.orderId, s.currentStep, " +
+                            "s.status, s.lastMessage, s.startedAt, s.updatedAt) FROM SagaTransaction s ";
+    
+    /**
+     * 주문의 Saga 요약 (같은 주문 ID 로 여러 Saga 가 있으면 최신 순, 첫 행만 쓰려면 PageRequest.of(0, 1))
+     */
+    @Query(SUMMARY_SELECT + "WHERE s.orderId = :orderId ORDER BY s.id DESC")
+    List<SagaSummary> findSummariesByOrderId(@Param("orderId") String orderId, Pageable pageable);
+    
+    /**
+     * 상태별 Saga 키셋 페이지네이션 (id 오름차순, cursor 초과)
+     */
+    @Query(SUMMARY_SELECT + "WHERE s.status = :status AND s.id > :cursor ORDER BY s.id")
+    List<SagaSummary> findSummariesByStatus(@Param("status") SagaStatus status, @Param("cursor") Long cursor, Pageable pageable);
+    
+    /**
+     * 상태별 Saga 전체 스트리밍 (MySQL 은 fetchSize=Integer.MIN_VALUE 일 때 행 단위 전진 커서로 읽음)
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SUMMARY_SELECT + "WHERE s.status = :status ORDER BY s.id")
+    Stream<SagaSummary> streamSummariesByStatus(@Param("status") SagaStatus status);
+    
+    @Query("SELECT s FROM SagaTransaction s WHERE s.status = :status AND s.finishedAt < :threshold ORDER BY s.id")
+    List<SagaTransaction> findByStatusFinishedBefore(@Param("status") SagaStatus status,
+                                                     @Param("threshold") LocalDateTime threshold,
+                                                     Pageable pageable);
 } 
\ No newline at end of file
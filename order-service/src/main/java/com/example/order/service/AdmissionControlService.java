@@ -0,0 +1,131 @@
+package com.example.order.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 주문 API 수용 제어 (AIMD 방식 적응형 동시 처리 한도)
+ * - 완료 지연이 목표 이하이고 결제 랙이 허용치 이하면 한도를 천천히 증가
+ * - 지연 초과, 타임아웃, 랙 초과 시 한도를 곱셈으로 감소
+ * - 한도를 넘는 요청은 즉시 거절 (503 + Retry-After)
+ * - 종료(드레인) 중에는 새 요청을 모두 거절
+ */
+@Service
+public class AdmissionControlService {
+
+    private final PaymentLagMonitor paymentLagMonitor;
+
+    @Value("${saga.admission.enabled:true}")
+    private boolean enabled;
+
+    @Value("${saga.admission.min-limit:5}")
+    private int minLimit;
+
+    @Value("${saga.admission.max-limit:500}")
+    private int maxLimit;
+
+    @Value("${saga.admission.target-latency-ms:5000}")
+    private long targetLatencyMs;
+
+    @Value("${saga.admission.max-lag:1000}")
+    private long maxLag;
+
+    @Value("${saga.admission.decrease-factor:0.8}")
+    private double decreaseFactor;
+
+    @Value("${saga.admission.retry-after-seconds:2}")
+    private int retryAfterSeconds;
+
+    private double limit;
+    private int inFlight = 0;
+    private long lastDecreaseNanos = 0;
+    private volatile boolean draining = false;
+
+    private static final Logger log = LoggerFactory.getLogger(AdmissionControlService.class);
+
+    public AdmissionControlService(PaymentLagMonitor paymentLagMonitor,
+                                   @Value("${saga.admission.initial-limit:50}") int initialLimit) {
+        this.paymentLagMonitor = paymentLagMonitor;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * 요청 수용 여부 판단 (수용 시 반드시 release 호출)
+     */
+    public synchronized boolean tryAcquire() {
+        if (draining) {
+            return false;
+        }
+        if (!enabled) {
+            inFlight++;
+            return true;
+        }
+        if (paymentLagMonitor.getCurrentLag() > maxLag) {
+            decrease("결제 랙 초과");
+        }
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * 요청 완료 기록
+     *
+     * @param latencyMs 주문 생성부터 결과 수신까지 걸린 시간
+     * @param completed 제한 시간 안에 Saga 결과를 받았는지 여부
+     */
+    public synchronized void release(long latencyMs, boolean completed) {
+        inFlight = Math.max(0, inFlight - 1);
+        if (!enabled) {
+            return;
+        }
+
+        if (!completed || latencyMs > targetLatencyMs) {
+            decrease("완료 지연 " + latencyMs + "ms");
+        } else if (paymentLagMonitor.getCurrentLag() <= maxLag) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    private void decrease(String reason) {
+        // 한 번의 과부하 신호에 연속으로 줄어들지 않도록 목표 지연 시간 동안 1회만 감소
+        long now = System.nanoTime();
+        if (now - lastDecreaseNanos < targetLatencyMs * 1_000_000L) {
+            return;
+        }
+        lastDecreaseNanos = now;
+
+        double previous = limit;
+        limit = Math.max(minLimit, limit * decreaseFactor);
+        log.warn("주문 수용 한도 감소: {} -> {} (사유: {}, inFlight={})", (int) previous, (int) limit, reason, inFlight);
+    }
+
+    /**
+     * 종료 준비 - 이후 요청은 모두 거절 (로드밸런서가 다른 인스턴스로 재시도)
+     */
+    public void startDraining() {
+        draining = true;
+        log.info("주문 수용 중단 (드레인 시작): inFlight={}", getInFlight());
+    }
+
+    public boolean isDraining() {
+        return draining;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.order.service;
+
+/**
+ * 같은 주문 ID 의 주문이 이미 저장되어 있음 (orders.order_id 유니크 인덱스 위반)
+ * 다른 인스턴스가 같은 주문 ID 로 먼저 Saga 를 시작한 경우로, 새 Saga 는 롤백되고 기존 Saga 에 연결됨
+ */
+public class DuplicateOrderException extends RuntimeException {
+    
+    private final String orderId;
+    
+    public DuplicateOrderException(String orderId, Throwable cause) {
+        super("이미 접수된 주문: orderId=" + orderId, cause);
+        this.orderId = orderId;
+    }
+    
+    public String getOrderId() {
+        return orderId;
+    }
+}
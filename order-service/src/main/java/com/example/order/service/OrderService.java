@@ -5,7 +5,17 @@ import com.example.order.dto.OrderResponse;
 import com.example.order.dto.PaymentResult;
 import com.example.order.repository.OrderRepository;
 import com.example.order.domain.Order;
+import com.example.order.domain.OrderArchive;
+import com.example.order.domain.OrderStatus;
+import com.example.order.domain.SagaStatus;
+import com.example.order.domain.SagaStep;
+import com.example.order.dto.SagaSummary;
+import com.example.common.journal.SagaJournal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 
 import java.util.concurrent.CompletableFuture;
@@ -21,40 +31,100 @@ public class OrderService {
     
     private final SagaOrchestratorService sagaOrchestratorService;
     private final OrderRepository orderRepository;
+    private final SagaArchiveService sagaArchiveService;
+    private final SagaJournal journal;
+    private final SagaShardExecutor sagaShardExecutor;
+    private final SagaMonitoringService sagaMonitoringService;
+    private final RecentOrderCache recentOrderCache;
+    private final PaymentLaneClassifier paymentLaneClassifier;
+    private final MeterRegistry meterRegistry;
     
     // 주문 결과를 저장할 Map (Saga ID 기반)
     private final ConcurrentHashMap<String, CompletableFuture<OrderResponse>> orderResults = new ConcurrentHashMap<>();
     // 주문 ID와 Saga ID를 매핑하는 Map
     private final ConcurrentHashMap<String, String> sagaOrderMapping = new ConcurrentHashMap<>();
     
+    @Value("${saga.timeout-ms:10000}")
+    private long sagaTimeoutMs;
+    
     private static final Logger log = LoggerFactory.getLogger(OrderService.class);
     
     /**
      * 보상 트랜잭션을 포함한 주문 생성
+     * 클라이언트가 준 주문 ID 로 재시도하면 새 Saga 를 만들지 않고 기존 Saga 의 결과를 반환
      */
     public CompletableFuture<OrderResponse> createOrderWithSaga(OrderRequest request) {
+        if (request.getOrderId() != null) {
+            CompletableFuture<OrderResponse> existing = findExistingOrder(request.getOrderId());
+            if (existing != null) {
+                return existing;
+            }
+        }
+        
         CompletableFuture<OrderResponse> resultFuture = new CompletableFuture<>();
+        String sagaId = java.util.UUID.randomUUID().toString();
         
-        try {
-            // 주문 ID가 없는 경우 생성
-            if (request.getOrderId() == null) {
-                request.setOrderId(java.util.UUID.randomUUID().toString());
+        // 주문 ID가 없는 경우 생성
+        if (request.getOrderId() == null) {
+            request.setOrderId(java.util.UUID.randomUUID().toString());
+        }
+        String orderId = request.getOrderId();
+        
+        // 같은 주문 ID 동시 요청은 먼저 선점한 Saga 에 붙음
+        CompletableFuture<OrderResponse> claimed = recentOrderCache.putIfAbsent(orderId, resultFuture);
+        if (claimed != null) {
+            return claimed;
+        }
+        // 타임아웃/오류 응답은 최종 결과가 아니므로 캐시에서 빼서 다음 재시도가 DB 상태를 보도록 함
+        resultFuture.thenAccept(response -> {
+            if ("TIMEOUT".equals(response.getStatus()) || "ERROR".equals(response.getStatus())) {
+                recentOrderCache.remove(orderId, resultFuture);
             }
-            
-            // Saga 트랜잭션 시작
-            String sagaId = sagaOrchestratorService.startOrderPaymentSaga(request);
-            
-            // 결과 대기를 위한 Future 등록
+        });
+        
+        // 레인별 주문 응답 시간 (우선 레인이 일반 레인 적체와 무관하게 유지되는지 확인)
+        String lane = paymentLaneClassifier.classify(request).getTag();
+        long startNanos = System.nanoTime();
+        resultFuture.thenAccept(response -> Timer.builder("saga.lane.latency")
+            .tag("lane", lane)
+            .tag("status", response.getStatus())
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry)
+            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS));
+        
+        try {
+            // 결과 대기를 위한 Future 등록 (결과가 시작 처리 직후 도착해도 놓치지 않도록 먼저 등록)
             orderResults.put(sagaId, resultFuture);
             // Saga ID와 주문 ID 매핑
             sagaOrderMapping.put(sagaId, request.getOrderId());
             
-            // 타임아웃 설정 (10초)
-            setTimeout(sagaId, 10000);
+            // Saga 트랜잭션 시작 (해당 Saga 샤드에서 실행)
+            sagaShardExecutor.call(sagaId, () -> sagaOrchestratorService.startOrderPaymentSaga(request, sagaId));
+            
+            // 응답 대기 타임아웃 설정 (기본 10초)
+            setTimeout(sagaId, sagaTimeoutMs);
             
-            log.info("주문 생성 Saga 시작: sagaId={}, orderId={}", sagaId, request.getOrderId());
+            if (journal.logSampled()) {
+                log.info("주문 생성 Saga 시작: sagaId={}, orderId={}", sagaId, request.getOrderId());
+            }
+            
+        } catch (DuplicateOrderException e) {
+            // 다른 인스턴스가 같은 주문 ID 로 먼저 Saga 를 시작함 -> 그 Saga 의 현재 상태로 응답
+            orderResults.remove(sagaId);
+            sagaOrderMapping.remove(sagaId);
+            recentOrderCache.remove(orderId, resultFuture);
+            log.info("동시 접수된 주문을 기존 Saga 에 연결: orderId={}", orderId);
+            CompletableFuture<OrderResponse> existing = findExistingOrder(orderId);
+            if (existing == null) {
+                resultFuture.complete(new OrderResponse(orderId, "ERROR", "주문 생성 실패: " + e.getMessage()));
+            } else {
+                existing.whenComplete((response, error) -> resultFuture.complete(response != null ? response
+                    : new OrderResponse(orderId, "ERROR", "주문 생성 실패: " + error.getMessage())));
+            }
             
         } catch (Exception e) {
+            orderResults.remove(sagaId);
+            sagaOrderMapping.remove(sagaId);
             log.error("주문 생성 중 오류 발생: {}", e.getMessage());
             OrderResponse errorResponse = new OrderResponse(
                 request.getOrderId(), 
@@ -67,15 +137,53 @@ public class OrderService {
         return resultFuture;
     }
     
+    /**
+     * 이미 접수된 주문 조회 (최근 주문 캐시 -> DB 순)
+     *
+     * @return 기존 주문이 없으면 null
+     */
+    private CompletableFuture<OrderResponse> findExistingOrder(String orderId) {
+        CompletableFuture<OrderResponse> cached = recentOrderCache.get(orderId);
+        if (cached != null) {
+            if (journal.logSampled()) {
+                log.info("재시도 주문을 기존 결과에 연결: orderId={}, done={}", orderId, cached.isDone());
+            }
+            return cached;
+        }
+        
+        SagaSummary saga = sagaMonitoringService.getSagaSummaryByOrderId(orderId);
+        if (saga == null) {
+            return null;
+        }
+        
+        log.info("이미 접수된 주문 재요청: orderId={}, sagaId={}, step={}", orderId, saga.getSagaId(), saga.getCurrentStep());
+        if (saga.getStatus() == SagaStatus.IN_PROGRESS) {
+            // 다른 인스턴스가 처리 중이거나 응답 대기가 타임아웃된 Saga -> 현재 단계와 sagaId 를 그대로 알려줌
+            return CompletableFuture.completedFuture(new OrderResponse(
+                orderId, saga.getCurrentStep().name(), "이미 처리 중인 주문입니다", saga.getSagaId()));
+        }
+        
+        CompletableFuture<OrderResponse> finished = CompletableFuture.completedFuture(new OrderResponse(
+            orderId,
+            saga.getCurrentStep() == SagaStep.COMPLETED ? "COMPLETED" : "FAILED",
+            saga.getLastMessage(),
+            saga.getSagaId()));
+        CompletableFuture<OrderResponse> claimed = recentOrderCache.putIfAbsent(orderId, finished);
+        return claimed != null ? claimed : finished;
+    }
+    
     /**
      * 결제 결과 수신 시 호출되는 메서드
      */
     public void handlePaymentResult(PaymentResult result, String sagaId) {
         try {
-            log.info("결제 결과 수신: sagaId={}, status={}, message={}", sagaId, result.getStatus(), result.getMessage());
+            if (journal.logSampled()) {
+                log.info("결제 결과 수신: sagaId={}, status={}, message={}", sagaId, result.getStatus(), result.getMessage());
+            }
             
-            // Saga 오케스트레이터에 결과 전달
-            sagaOrchestratorService.handlePaymentResult(sagaId, result.getStatus(), result.getMessage());
+            // Saga 오케스트레이터에 결과 전달 (해당 Saga 샤드에서 실행)
+            sagaShardExecutor.run(sagaId, () ->
+                sagaOrchestratorService.handlePaymentResult(sagaId, result.getStatus(), result.getMessage()));
             
             // 주문 ID 확인 (result.getOrderId()가 null인 경우 매핑에서 찾기)
             String orderId = result.getOrderId();
@@ -89,28 +197,21 @@ public class OrderService {
                 List<Order> orders = orderRepository.findBySagaId(sagaId);
                 if (!orders.isEmpty()) {
                     orderId = orders.get(0).getOrderId();
-                    log.info("DB에서 주문 ID 찾음: sagaId={}, orderId={}", sagaId, orderId);
+                    if (journal.logSampled()) {
+                        log.info("DB에서 주문 ID 찾음: sagaId={}, orderId={}", sagaId, orderId);
+                    }
                 }
             }
             
-            // 대기 중인 Future에 결과 전달
-            CompletableFuture<OrderResponse> future = orderResults.get(sagaId);
-            if (future != null) {
-                OrderResponse response = new OrderResponse(
-                    orderId, // null이 아닌 orderId 사용
-                    result.getStatus(),
-                    result.getMessage()
-                );
-                future.complete(response);
-                orderResults.remove(sagaId);
-                sagaOrderMapping.remove(sagaId);
-                
-                log.info("주문 결과 완료: sagaId={}, orderId={}, status={}", 
-                        sagaId, orderId, result.getStatus());
-            } else {
-                log.warn("대기 중인 Future가 없음: sagaId={}", sagaId);
+            // 이 인스턴스가 기다리는 주문이면 바로 응답 (다른 인스턴스의 주문은 결과 알림 리스너가 응답)
+            if (!completePendingOrder(sagaId, orderId, result) && log.isDebugEnabled()) {
+                log.debug("이 인스턴스에 대기 중인 Future가 없음: sagaId={}", sagaId);
             }
             
+        } catch (DataAccessException e) {
+            // 일시적 DB 오류는 재시도 토픽으로 넘김 (대기 중인 Future는 유지)
+            log.warn("결제 결과 처리 중 DB 오류, 재시도 예정: sagaId={}, error={}", sagaId, e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("결제 결과 처리 중 오류 발생: sagaId={}, error={}", sagaId, e.getMessage());
             
@@ -134,15 +235,48 @@ public class OrderService {
         }
     }
     
+    /**
+     * 결과 알림 리스너에서 호출: Saga 상태는 건드리지 않고 이 인스턴스에 대기 중인 주문만 완료
+     * (Saga 갱신은 공용 그룹 리스너가 handlePaymentResult 로 한 번만 수행)
+     */
+    public void notifyPaymentResult(PaymentResult result, String sagaId) {
+        String orderId = result.getOrderId() != null ? result.getOrderId() : sagaOrderMapping.get(sagaId);
+        completePendingOrder(sagaId, orderId, result);
+    }
+    
+    /**
+     * 대기 중인 Future에 결과 전달
+     *
+     * @return 이 인스턴스에 대기 중인 Future가 있었는지 여부
+     */
+    private boolean completePendingOrder(String sagaId, String orderId, PaymentResult result) {
+        CompletableFuture<OrderResponse> future = orderResults.remove(sagaId);
+        if (future == null) {
+            return false;
+        }
+        sagaOrderMapping.remove(sagaId);
+        future.complete(new OrderResponse(orderId, result.getStatus(), result.getMessage()));
+        
+        if (journal.logSampled()) {
+            log.info("주문 결과 완료: sagaId={}, orderId={}, status={}", 
+                    sagaId, orderId, result.getStatus());
+        }
+        return true;
+    }
+    
     /**
      * 주문 조회 기능
      */
     public OrderResponse getOrder(String orderId) {
         Order order = orderRepository.findByOrderId(orderId);
         if (order == null) {
+            OrderArchive archived = sagaArchiveService.findArchivedOrder(orderId);
+            if (archived != null) {
+                return new OrderResponse(orderId, archived.getStatus().name(), "주문 조회 성공 (아카이브)");
+            }
             return new OrderResponse(orderId, "NOT_FOUND", "주문을 찾을 수 없습니다");
         }
-        return new OrderResponse(orderId, order.getStatus(), "주문 조회 성공");
+        return new OrderResponse(orderId, order.getStatus().name(), "주문 조회 성공");
     }
     
     /**
@@ -157,8 +291,8 @@ public class OrderService {
                 // 결제 실패인 경우 주문 취소 처리
                 if ("ERROR".equals(status) || "FAILED".equals(status)) {
                     compensateOrder(order, message);
-                } else {
-                    order.setStatus(status);
+                } else if ("COMPLETED".equals(status)) {
+                    order.setStatus(OrderStatus.COMPLETED);
                     orderRepository.save(order);
                 }
                 
@@ -177,7 +311,7 @@ public class OrderService {
     private void compensateOrder(Order order, String failureReason) {
         try {
             // 주문 상태를 CANCELLED로 변경
-            order.setStatus("CANCELLED");
+            order.setStatus(OrderStatus.CANCELLED);
             order.setFailureReason(failureReason);
             orderRepository.save(order);
             
@@ -193,7 +327,14 @@ public class OrderService {
     }
     
     /**
-     * 타임아웃 처리
+     * 결과를 기다리는 주문 수 (종료 드레인 판단용)
+     */
+    public int getPendingCount() {
+        return orderResults.size();
+    }
+    
+    /**
+     * 결과 대기 타임아웃 (클라이언트 응답만 TIMEOUT 으로 종료)
      */
     private void setTimeout(String sagaId, long timeout) {
         CompletableFuture.delayedExecutor(timeout, TimeUnit.MILLISECONDS)
@@ -205,18 +346,7 @@ public class OrderService {
                     // 주문 ID 확인
                     String orderId = sagaOrderMapping.get(sagaId);
                     
-                    // 타임아웃 시에도 보상 트랜잭션 실행
-                    try {
-                        // SagaTransaction 조회
-                        sagaOrchestratorService.compensateSaga(
-                            // sagaTransaction을 조회해서 전달해야 함
-                            null, // 실제로는 repository에서 조회
-                            "처리 시간 초과"
-                        );
-                    } catch (Exception e) {
-                        log.error("타임아웃 보상 트랜잭션 실행 중 오류: {}", e.getMessage());
-                    }
-                    
+                    // 보상은 saga_transactions.deadline 기준으로 SagaDeadlineScheduler 가 처리 (여기서는 응답만 종료)
                     OrderResponse timeoutResponse = new OrderResponse(
                         orderId, // null이 아닌 orderId 사용
                         "TIMEOUT", 
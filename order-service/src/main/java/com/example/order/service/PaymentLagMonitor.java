@@ -0,0 +1,99 @@
+package com.example.order.service;
+
+import com.example.common.kafka.PaymentLane;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * payment-service 결제 요청 랙(미처리 레코드 수) 추적
+ * 일반 레인(payment.request / payment-saga-group)과 우선 레인(payment.request.priority / payment-priority-group)의 합
+ */
+@Service
+public class PaymentLagMonitor {
+
+    private final AdminClient adminClient;
+
+    @Value("${saga.admission.payment-group:payment-saga-group}")
+    private String paymentGroup;
+
+    @Value("${kafka.topics.payment-request}")
+    private String paymentRequestTopic;
+
+    @Value("${saga.admission.payment-priority-group:payment-priority-group}")
+    private String priorityGroup;
+
+    private volatile long currentLag = 0;
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentLagMonitor.class);
+
+    public PaymentLagMonitor(KafkaAdmin kafkaAdmin) {
+        this.adminClient = AdminClient.create(kafkaAdmin.getConfigurationProperties());
+    }
+
+    /**
+     * 주기적으로 랙 갱신
+     */
+    @Scheduled(fixedDelayString = "${saga.admission.lag-check-interval-ms:5000}")
+    public void refreshLag() {
+        try {
+            currentLag = lagOf(paymentGroup, paymentRequestTopic) + lagOf(priorityGroup, PaymentLane.PRIORITY.getTopic());
+
+        } catch (Exception e) {
+            log.warn("결제 컨슈머 랙 조회 실패: groups={},{}, error={}", paymentGroup, priorityGroup, e.getMessage());
+        }
+    }
+
+    /**
+     * 컨슈머 그룹의 토픽 랙 (커밋 오프셋이 없으면 0)
+     */
+    private long lagOf(String group, String topic) throws Exception {
+        Map<TopicPartition, OffsetAndMetadata> committed = adminClient
+            .listConsumerGroupOffsets(group)
+            .partitionsToOffsetAndMetadata()
+            .get(3, TimeUnit.SECONDS);
+
+        Map<TopicPartition, OffsetSpec> latestRequest = committed.keySet().stream()
+            .filter(tp -> tp.topic().equals(topic))
+            .collect(Collectors.toMap(tp -> tp, tp -> OffsetSpec.latest()));
+        if (latestRequest.isEmpty()) {
+            return 0;
+        }
+
+        Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> latest = adminClient
+            .listOffsets(latestRequest)
+            .all()
+            .get(3, TimeUnit.SECONDS);
+
+        long lag = 0;
+        for (Map.Entry<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> entry : latest.entrySet()) {
+            OffsetAndMetadata offset = committed.get(entry.getKey());
+            if (offset != null) {
+                lag += Math.max(0, entry.getValue().offset() - offset.offset());
+            }
+        }
+        return lag;
+    }
+
+    public long getCurrentLag() {
+        return currentLag;
+    }
+
+    @PreDestroy
+    public void close() {
+        adminClient.close();
+    }
+}
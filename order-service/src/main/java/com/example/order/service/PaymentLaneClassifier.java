@@ -0,0 +1,45 @@
+package com.example.order.service;
+
+import com.example.common.kafka.PaymentLane;
+import com.example.order.dto.OrderRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+/**
+ * 주문을 결제 요청 레인으로 분류
+ * 명시적 priority 필드 > 금액 기준(saga.lanes.priority-amount 이상) > 결제 수단(saga.lanes.priority-methods) 순
+ */
+@Component
+public class PaymentLaneClassifier {
+
+    private final boolean enabled;
+    private final BigDecimal priorityAmount;
+    private final Set<String> priorityMethods;
+
+    public PaymentLaneClassifier(@Value("${saga.lanes.enabled:true}") boolean enabled,
+                                 @Value("${saga.lanes.priority-amount:1000000}") BigDecimal priorityAmount,
+                                 @Value("${saga.lanes.priority-methods:}") Set<String> priorityMethods) {
+        this.enabled = enabled;
+        this.priorityAmount = priorityAmount;
+        this.priorityMethods = priorityMethods;
+    }
+
+    public PaymentLane classify(OrderRequest request) {
+        if (!enabled) {
+            return PaymentLane.NORMAL;
+        }
+        if (request.getPriority() != null) {
+            return "HIGH".equalsIgnoreCase(request.getPriority()) ? PaymentLane.PRIORITY : PaymentLane.NORMAL;
+        }
+        if (request.getAmount() != null && request.getAmount().compareTo(priorityAmount) >= 0) {
+            return PaymentLane.PRIORITY;
+        }
+        if (request.getPaymentMethod() != null && priorityMethods.contains(request.getPaymentMethod())) {
+            return PaymentLane.PRIORITY;
+        }
+        return PaymentLane.NORMAL;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.order.service;
+
+import com.example.order.dto.OrderResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 최근 주문 ID -> 결과 Future (LRU)
+ * 처리 중이면 대기 중인 Future, 끝났으면 완료된 Future 를 그대로 돌려주어
+ * 같은 주문 ID 재시도가 DB 조회나 새 Saga 없이 기존 결과에 붙도록 함
+ */
+@Component
+public class RecentOrderCache {
+
+    private final Map<String, CompletableFuture<OrderResponse>> orders;
+
+    public RecentOrderCache(@Value("${saga.idempotency.cache-size:10000}") int cacheSize) {
+        this.orders = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<OrderResponse>> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    public synchronized CompletableFuture<OrderResponse> get(String orderId) {
+        return orders.get(orderId);
+    }
+
+    /**
+     * 주문 ID 선점 (이미 있으면 기존 Future 반환, 없으면 등록 후 null)
+     */
+    public synchronized CompletableFuture<OrderResponse> putIfAbsent(String orderId, CompletableFuture<OrderResponse> future) {
+        CompletableFuture<OrderResponse> existing = orders.get(orderId);
+        if (existing == null) {
+            orders.put(orderId, future);
+        }
+        return existing;
+    }
+
+    /**
+     * 해당 Future 가 등록된 경우에만 제거 (다음 재시도는 DB 상태로 판단)
+     */
+    public synchronized void remove(String orderId, CompletableFuture<OrderResponse> future) {
+        orders.remove(orderId, future);
+    }
+}
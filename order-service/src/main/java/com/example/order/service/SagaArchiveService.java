@@ -0,0 +1,146 @@
+package com.example.order.service;
+
+import com.example.order.domain.Order;
+import com.example.order.domain.OrderArchive;
+import com.example.order.domain.SagaStatus;
+import com.example.order.domain.SagaTransaction;
+import com.example.order.domain.SagaTransactionArchive;
+import com.example.order.repository.OrderArchiveRepository;
+import com.example.order.repository.OrderRepository;
+import com.example.order.repository.SagaStepEventRepository;
+import com.example.order.repository.SagaTransactionArchiveRepository;
+import com.example.order.repository.SagaTransactionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 보관 기간이 지난 FINISHED Saga 와 주문을 아카이브 테이블로 이동
+ * (배치 단위 트랜잭션으로 잠금 시간을 제한)
+ */
+@Service
+public class SagaArchiveService {
+
+    private final SagaTransactionRepository sagaTransactionRepository;
+    private final SagaTransactionArchiveRepository sagaTransactionArchiveRepository;
+    private final OrderRepository orderRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final SagaStepEventRepository sagaStepEventRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${saga.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${saga.archive.retention:7d}")
+    private Duration retention;
+
+    @Value("${saga.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${saga.archive.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    private static final Logger log = LoggerFactory.getLogger(SagaArchiveService.class);
+
+    public SagaArchiveService(SagaTransactionRepository sagaTransactionRepository,
+                              SagaTransactionArchiveRepository sagaTransactionArchiveRepository,
+                              OrderRepository orderRepository,
+                              OrderArchiveRepository orderArchiveRepository,
+                              SagaStepEventRepository sagaStepEventRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.sagaTransactionRepository = sagaTransactionRepository;
+        this.sagaTransactionArchiveRepository = sagaTransactionArchiveRepository;
+        this.orderRepository = orderRepository;
+        this.orderArchiveRepository = orderArchiveRepository;
+        this.sagaStepEventRepository = sagaStepEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 주기적으로 아카이브 실행
+     */
+    @Scheduled(fixedDelayString = "${saga.archive.interval-ms:600000}")
+    public void archiveFinishedSagas() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            LocalDateTime threshold = LocalDateTime.now().minus(retention);
+            int total = 0;
+
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                Integer archived = transactionTemplate.execute(status -> archiveBatch(threshold));
+                if (archived == null || archived == 0) {
+                    break;
+                }
+                total += archived;
+            }
+
+            if (total > 0) {
+                log.info("Saga 아카이브 완료: {} 건 (기준 시각={})", total, threshold);
+            }
+
+        } catch (Exception e) {
+            log.error("Saga 아카이브 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 한 배치 이동 (하나의 트랜잭션)
+     */
+    private int archiveBatch(LocalDateTime threshold) {
+        List<SagaTransaction> sagas = sagaTransactionRepository.findByStatusFinishedBefore(
+            SagaStatus.FINISHED, threshold, PageRequest.of(0, batchSize));
+        if (sagas.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Integer> monthBySagaId = new HashMap<>();
+        List<SagaTransactionArchive> sagaArchives = sagas.stream()
+            .map(SagaTransactionArchive::from)
+            .peek(archive -> monthBySagaId.put(archive.getSagaId(), archive.getArchiveMonth()))
+            .collect(Collectors.toList());
+
+        List<Order> orders = orderRepository.findBySagaIdIn(monthBySagaId.keySet());
+        List<OrderArchive> orderArchives = orders.stream()
+            .map(order -> OrderArchive.from(order, monthBySagaId.get(order.getSagaId())))
+            .collect(Collectors.toList());
+
+        sagaTransactionArchiveRepository.saveAll(sagaArchives);
+        orderArchiveRepository.saveAll(orderArchives);
+
+        orderRepository.deleteAllByIdInBatch(orders.stream().map(Order::getId).collect(Collectors.toList()));
+        sagaTransactionRepository.deleteAllByIdInBatch(sagas.stream().map(SagaTransaction::getId).collect(Collectors.toList()));
+        sagaStepEventRepository.deleteBySagaIdIn(monthBySagaId.keySet());
+
+        return sagas.size();
+    }
+
+    /**
+     * 아카이브에서 주문의 Saga 조회
+     */
+    public SagaTransaction findArchivedSagaByOrderId(String orderId) {
+        SagaTransactionArchive archive = sagaTransactionArchiveRepository.findFirstByOrderIdOrderByIdDesc(orderId);
+        return archive != null ? archive.toSagaTransaction() : null;
+    }
+
+    /**
+     * 아카이브에서 주문 조회
+     */
+    public OrderArchive findArchivedOrder(String orderId) {
+        return orderArchiveRepository.findFirstByOrderIdOrderByIdDesc(orderId);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.order.service;
+
+import com.example.order.domain.SagaStep;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Saga 단계별 제한 시간 (단계에 들어선 시각 + 제한 시간 = 마감 시각)
+ */
+@Component
+public class SagaDeadlinePolicy {
+
+    @Value("${saga.deadline.started-ms:5000}")
+    private long startedMs;
+
+    @Value("${saga.deadline.order-created-ms:5000}")
+    private long orderCreatedMs;
+
+    @Value("${saga.deadline.payment-requested-ms:${saga.timeout-ms:10000}}")
+    private long paymentRequestedMs;
+
+    @Value("${saga.deadline.payment-processing-ms:30000}")
+    private long paymentProcessingMs;
+
+    /**
+     * @return 종료 단계면 null
+     */
+    public LocalDateTime deadlineFor(SagaStep step, LocalDateTime enteredAt) {
+        switch (step) {
+            case STARTED:
+                return enteredAt.plusNanos(startedMs * 1_000_000L);
+            case ORDER_CREATED:
+                return enteredAt.plusNanos(orderCreatedMs * 1_000_000L);
+            case PAYMENT_REQUESTED:
+                return enteredAt.plusNanos(paymentRequestedMs * 1_000_000L);
+            case PAYMENT_PROCESSING:
+                return enteredAt.plusNanos(paymentProcessingMs * 1_000_000L);
+            default:
+                return null;
+        }
+    }
+}
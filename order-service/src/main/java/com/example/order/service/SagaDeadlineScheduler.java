@@ -0,0 +1,139 @@
+package com.example.order.service;
+
+import com.example.order.domain.SagaStatus;
+import com.example.order.dto.SagaDeadline;
+import com.example.order.repository.SagaTransactionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saga 마감 스케줄러 (saga_transactions.deadline 기준)
+ * - poll-interval-ms 마다 lookahead-ms 안에 마감되는 Saga 를 (status, deadline) 인덱스 범위 조회로 미리 읽어 메모리 타이머에 등록
+ * - 마감 시각이 되면 deadline 을 조건부 UPDATE 로 선점(claim-lease-ms 뒤로 미룸)한 인스턴스 한 곳만 해당 Saga 샤드에서 보상
+ * - 선점 후 보상 전에 인스턴스가 죽으면 미룬 마감 시각에 다른 인스턴스가 다시 처리
+ * lookahead-ms >= poll-interval-ms 이면 마감 후 발화까지의 지연은 타이머 정밀도 + 선점 UPDATE 한 번 수준
+ */
+@Service
+public class SagaDeadlineScheduler {
+
+    private final SagaTransactionRepository sagaTransactionRepository;
+    private final SagaOrchestratorService sagaOrchestratorService;
+    private final SagaShardExecutor sagaShardExecutor;
+    private final ScheduledExecutorService timer;
+    // sagaId -> 타이머에 등록된 마감 시각 (같은 마감을 매 조회마다 다시 등록하지 않도록)
+    private final ConcurrentHashMap<String, LocalDateTime> armed = new ConcurrentHashMap<>();
+    private final Counter fired;
+    private final Counter lostClaims;
+    private final Timer fireDelay;
+
+    @Value("${saga.deadline.lookahead-ms:5000}")
+    private long lookaheadMs;
+
+    @Value("${saga.deadline.batch-size:500}")
+    private int batchSize;
+
+    @Value("${saga.deadline.claim-lease-ms:30000}")
+    private long claimLeaseMs;
+
+    private static final Logger log = LoggerFactory.getLogger(SagaDeadlineScheduler.class);
+
+    public SagaDeadlineScheduler(SagaTransactionRepository sagaTransactionRepository,
+                                 SagaOrchestratorService sagaOrchestratorService,
+                                 SagaShardExecutor sagaShardExecutor,
+                                 MeterRegistry meterRegistry) {
+        this.sagaTransactionRepository = sagaTransactionRepository;
+        this.sagaOrchestratorService = sagaOrchestratorService;
+        this.sagaShardExecutor = sagaShardExecutor;
+        this.timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "saga-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.fired = Counter.builder("saga.deadline.fired").register(meterRegistry);
+        this.lostClaims = Counter.builder("saga.deadline.claim-lost").register(meterRegistry);
+        this.fireDelay = Timer.builder("saga.deadline.fire-delay")
+            .description("마감 시각부터 선점까지 걸린 시간")
+            .register(meterRegistry);
+        Gauge.builder("saga.deadline.armed", armed, ConcurrentHashMap::size).register(meterRegistry);
+    }
+
+    /**
+     * 곧 마감되는 Saga 미리 읽기 (기동 직후 첫 실행에서 이전 인스턴스가 남긴 마감도 함께 등록됨)
+     */
+    @Scheduled(fixedDelayString = "${saga.deadline.poll-interval-ms:1000}")
+    public void prefetch() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<SagaDeadline> due = sagaTransactionRepository.findDeadlinesBefore(
+                SagaStatus.IN_PROGRESS, now.plusNanos(lookaheadMs * 1_000_000L), PageRequest.of(0, batchSize));
+
+            for (SagaDeadline deadline : due) {
+                if (deadline.getDeadline().equals(armed.put(deadline.getSagaId(), deadline.getDeadline()))) {
+                    continue;
+                }
+                long delayMs = Math.max(0, Duration.between(now, deadline.getDeadline()).toMillis());
+                timer.schedule(() -> fire(deadline), delayMs, TimeUnit.MILLISECONDS);
+            }
+
+            if (due.size() == batchSize) {
+                log.warn("마감 임박 Saga 가 한 번에 읽는 수({})를 넘음 - 나머지는 다음 조회에서 처리", batchSize);
+            }
+
+        } catch (Exception e) {
+            log.error("Saga 마감 조회 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    private void fire(SagaDeadline deadline) {
+        String sagaId = deadline.getSagaId();
+        armed.remove(sagaId, deadline.getDeadline());
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime lease = now.plusNanos(claimLeaseMs * 1_000_000L);
+            // 다른 인스턴스가 먼저 선점했거나, 단계가 바뀌어 마감 시각이 달라졌거나, 이미 종료된 경우 0
+            if (sagaTransactionRepository.moveDeadline(deadline.getId(), deadline.getDeadline(), lease) == 0) {
+                lostClaims.increment();
+                return;
+            }
+            fired.increment();
+            fireDelay.record(Duration.between(deadline.getDeadline(), now).isNegative()
+                ? Duration.ZERO : Duration.between(deadline.getDeadline(), now));
+
+            sagaShardExecutor.runAsync(sagaId, () -> {
+                if (sagaOrchestratorService.compensateIfExpired(sagaId, lease)) {
+                    log.warn("마감 시각 초과 Saga 보상 처리: sagaId={}, deadline={}", sagaId, deadline.getDeadline());
+                }
+            }).exceptionally(e -> {
+                // 선점한 마감 시각(lease)에 다시 시도됨
+                log.error("마감 Saga 보상 실패: sagaId={}, error={}", sagaId, e.getMessage());
+                return null;
+            });
+
+        } catch (Exception e) {
+            log.error("Saga 마감 선점 중 오류 발생: sagaId={}, error={}", sagaId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+}
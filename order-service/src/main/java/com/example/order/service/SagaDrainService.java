@@ -0,0 +1,77 @@
+package com.example.order.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 롤링 배포 시 진행 중인 Saga 인계
+ * - 종료: 새 주문 수용을 멈추고, 결과를 기다리는 주문이 끝날 때까지 최대 saga.drain.timeout-ms 대기
+ *   (Kafka 리스너 컨테이너보다 먼저 멈추므로 대기 중에도 결제 결과는 계속 수신)
+ * - 시작: 이전 인스턴스가 남긴 IN_PROGRESS Saga 는 deadline 컬럼 기준으로 SagaDeadlineScheduler 가 이어서 처리
+ */
+@Service
+public class SagaDrainService implements SmartLifecycle {
+
+    private final AdmissionControlService admissionControlService;
+    private final OrderService orderService;
+
+    @Value("${saga.drain.timeout-ms:20000}")
+    private long drainTimeoutMs;
+
+    private volatile boolean running = false;
+
+    private static final Logger log = LoggerFactory.getLogger(SagaDrainService.class);
+
+    public SagaDrainService(AdmissionControlService admissionControlService,
+                            OrderService orderService) {
+        this.admissionControlService = admissionControlService;
+        this.orderService = orderService;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        admissionControlService.startDraining();
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(drainTimeoutMs);
+        int pending = orderService.getPendingCount();
+        while (pending > 0 && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            pending = orderService.getPendingCount();
+        }
+
+        if (pending > 0) {
+            log.warn("드레인 대기 시간 초과: 남은 주문={} (마감 스케줄러가 이어서 정리)", pending);
+        } else {
+            log.info("드레인 완료: 대기 중인 주문 없음");
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Kafka 리스너 컨테이너(Integer.MAX_VALUE - 100)와 웹 서버보다 먼저 멈춤
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.order.service;
+
+import com.example.order.domain.SagaStatus;
+import com.example.order.domain.SagaStepEvent;
+import com.example.order.domain.SagaTransaction;
+import com.example.order.repository.SagaStepEventRepository;
+import com.example.order.repository.SagaTransactionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 이벤트 소싱 Saga 저장소 (saga.event-sourcing.enabled=true)
+ * - 단계 전이는 saga_events 에 INSERT 만 하고, saga_transactions 행은 주기적으로 갱신되는 스냅샷으로 사용
+ * - 현재 상태 = 스냅샷 + 스냅샷 이후 이벤트
+ */
+@Service
+public class SagaEventStore {
+    
+    private final SagaTransactionRepository sagaTransactionRepository;
+    private final SagaStepEventRepository sagaStepEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${saga.event-sourcing.enabled:false}")
+    private boolean enabled;
+    
+    @Value("${saga.event-sourcing.snapshot-lookback:10m}")
+    private Duration snapshotLookback;
+    
+    private LocalDateTime lastSnapshotRun;
+    
+    private static final Logger log = LoggerFactory.getLogger(SagaEventStore.class);
+    
+    public SagaEventStore(SagaTransactionRepository sagaTransactionRepository,
+                          SagaStepEventRepository sagaStepEventRepository,
+                          PlatformTransactionManager transactionManager) {
+        this.sagaTransactionRepository = sagaTransactionRepository;
+        this.sagaStepEventRepository = sagaStepEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Saga 시작 - 초기 스냅샷과 STARTED 이벤트 저장 (반환값은 영속 상태가 아닌 작업용 객체)
+     */
+    public SagaTransaction create(SagaTransaction saga) {
+        saga.setLastEventSeq(1);
+        sagaTransactionRepository.save(copyOf(saga));
+        sagaStepEventRepository.save(SagaStepEvent.of(saga));
+        return saga;
+    }
+    
+    /**
+     * 단계 전이 이벤트 추가 (saga 에는 이미 전이가 적용되어 있어야 함)
+     */
+    public void append(SagaTransaction saga) {
+        saga.setLastEventSeq(saga.getLastEventSeq() != null ? saga.getLastEventSeq() + 1 : 1);
+        sagaStepEventRepository.save(SagaStepEvent.of(saga));
+    }
+    
+    /**
+     * 현재 상태 조회 (스냅샷 복사본에 이후 이벤트 적용)
+     */
+    public SagaTransaction load(String sagaId) {
+        SagaTransaction snapshot = sagaTransactionRepository.findBySagaId(sagaId);
+        if (snapshot == null) {
+            return null;
+        }
+        SagaTransaction saga = copyOf(snapshot);
+        int fromSeq = saga.getLastEventSeq() != null ? saga.getLastEventSeq() : 0;
+        for (SagaStepEvent event : sagaStepEventRepository.findBySagaIdAndSeqGreaterThanOrderBySeq(sagaId, fromSeq)) {
+            saga.applyStep(event.getStep(), event.getMessage(), event.getOccurredAt());
+            saga.setLastEventSeq(event.getSeq());
+        }
+        return saga;
+    }
+    
+    /**
+     * Saga 전체 단계 이력
+     */
+    public List<SagaStepEvent> timeline(String sagaId) {
+        return sagaStepEventRepository.findBySagaIdOrderBySeq(sagaId);
+    }
+    
+    /**
+     * 최근 이벤트가 있는 Saga 의 스냅샷 갱신 (타임아웃/진행 중 조회는 스냅샷 기준)
+     */
+    @Scheduled(fixedDelayString = "${saga.event-sourcing.snapshot-interval-ms:5000}")
+    public void snapshot() {
+        if (!enabled) {
+            return;
+        }
+        
+        try {
+            LocalDateTime runStartedAt = LocalDateTime.now();
+            // 직전 실행과 구간을 겹쳐 커밋이 늦은 이벤트도 반영
+            LocalDateTime since = lastSnapshotRun != null
+                ? lastSnapshotRun.minusMinutes(1)
+                : runStartedAt.minus(snapshotLookback);
+            
+            List<String> sagaIds = sagaStepEventRepository.findSagaIdsWithEventsSince(since);
+            int updated = 0;
+            for (String sagaId : sagaIds) {
+                Boolean changed = transactionTemplate.execute(status -> snapshotSaga(sagaId));
+                if (Boolean.TRUE.equals(changed)) {
+                    updated++;
+                }
+            }
+            lastSnapshotRun = runStartedAt;
+            
+            if (updated > 0) {
+                log.debug("Saga 스냅샷 갱신: {} 건", updated);
+            }
+            
+        } catch (Exception e) {
+            log.error("Saga 스냅샷 갱신 중 오류 발생: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 스냅샷 이후 이벤트를 행에 반영
+     * 엔티티를 flush 하면 읽은 시점의 deadline 까지 덮어써 그 사이 moveDeadline 이 되돌아가므로, 복사본에 적용한 뒤
+     * deadline 을 제외한 컬럼만 조건부 UPDATE
+     */
+    private boolean snapshotSaga(String sagaId) {
+        SagaTransaction stored = sagaTransactionRepository.findBySagaId(sagaId);
+        if (stored == null) {
+            return false;
+        }
+        SagaTransaction snapshot = copyOf(stored);
+        int fromSeq = snapshot.getLastEventSeq() != null ? snapshot.getLastEventSeq() : 0;
+        List<SagaStepEvent> events = sagaStepEventRepository.findBySagaIdAndSeqGreaterThanOrderBySeq(sagaId, fromSeq);
+        if (events.isEmpty()) {
+            return false;
+        }
+        for (SagaStepEvent event : events) {
+            snapshot.applyStep(event.getStep(), event.getMessage(), event.getOccurredAt());
+            snapshot.setLastEventSeq(event.getSeq());
+        }
+        // updatedAt 은 마지막 이벤트 시각 (스냅샷 시각으로 바뀌면 마감/모니터링 기준이 밀림)
+        if (sagaTransactionRepository.applySnapshot(snapshot.getId(), snapshot.getCurrentStep(), snapshot.getStatus(),
+                snapshot.getLastMessage(), snapshot.getUpdatedAt(), snapshot.getFinishedAt(), snapshot.getLastEventSeq()) == 0) {
+            return false;
+        }
+        if (snapshot.getStatus() == SagaStatus.FINISHED) {
+            sagaTransactionRepository.clearDeadline(snapshot.getId(), SagaStatus.FINISHED);
+        }
+        return true;
+    }
+    
+    private static SagaTransaction copyOf(SagaTransaction source) {
+        SagaTransaction copy = new SagaTransaction();
+        copy.setId(source.getId());
+        copy.setSagaId(source.getSagaId());
+        copy.setOrderId(source.getOrderId());
+        copy.setAmount(source.getAmount());
+        copy.setCurrentStep(source.getCurrentStep());
+        copy.setStatus(source.getStatus());
+        copy.setLastMessage(source.getLastMessage());
+        copy.setStartedAt(source.getStartedAt());
+        copy.setUpdatedAt(source.getUpdatedAt());
+        copy.setFinishedAt(source.getFinishedAt());
+        copy.setDeadline(source.getDeadline());
+        copy.setLastEventSeq(source.getLastEventSeq());
+        return copy;
+    }
+}
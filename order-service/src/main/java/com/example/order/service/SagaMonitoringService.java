@@ -1,61 +1,47 @@
 package com.example.order.service;
 
+import com.example.order.domain.SagaStatus;
+import com.example.order.domain.SagaStep;
+import com.example.order.domain.SagaStepEvent;
 import com.example.order.domain.SagaTransaction;
+import com.example.order.dto.SagaSummary;
+import com.example.order.dto.SagaSummaryPage;
 import com.example.order.repository.SagaTransactionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Saga 운영 조회 (/api/saga/orders/{orderId}/status, /api/saga/transactions/**)
+ *
+ * saga.streams.enabled 여부와 관계없이 saga_transactions(MySQL)를 읽음
+ * 구체화 뷰(SagaViewQueryService)로 옮기지 않는 이유
+ * - 뷰는 결제 요청/결과/취소 토픽에 보이는 단계만 알고 SagaStep 전체를 담지 않음
+ * - 상태 저장소는 이 인스턴스에 할당된 파티션 몫만 가지므로 목록/건수가 인스턴스마다 일부만 나옴
+ * - 키가 sagaId 라 orderId 조회와 id 키셋 페이지를 지원하지 않음
+ * 뷰는 sagaId 단건 조회와 단계별 집계(/api/saga/view/**)에만 사용
+ */
 @Service
 @RequiredArgsConstructor
 public class SagaMonitoringService {
     
     private final SagaTransactionRepository sagaTransactionRepository;
     private final SagaOrchestratorService sagaOrchestratorService;
+    private final SagaArchiveService sagaArchiveService;
+    private final SagaEventStore sagaEventStore;
     
-    private static final Logger log = LoggerFactory.getLogger(SagaMonitoringService.class);
+    private static final int MAX_PAGE_SIZE = 200;
     
-    /**
-     * 주기적으로 타임아웃된 Saga 트랜잭션 정리
-     */
-    @Scheduled(fixedRate = 30000)
-    @Transactional
-    public void cleanupTimeoutTransactions() {
-        try {
-            // 1분 이상 된 IN_PROGRESS 상태의 트랜잭션 조회
-            LocalDateTime timeoutThreshold = LocalDateTime.now().minusMinutes(1);
-            List<SagaTransaction> timeoutTransactions = 
-                sagaTransactionRepository.findTimeoutTransactions(timeoutThreshold);
-            
-            if (!timeoutTransactions.isEmpty()) {
-                log.info("타임아웃된 Saga 트랜잭션 {} 개 발견", timeoutTransactions.size());
-                
-                for (SagaTransaction saga : timeoutTransactions) {
-                    try {
-                        log.warn("타임아웃 Saga 보상 처리: sagaId={}, orderId={}, duration={}분", 
-                                saga.getSagaId(), 
-                                saga.getOrderId(),
-                                java.time.Duration.between(saga.getStartedAt(), LocalDateTime.now()).toMinutes());
-                        
-                        sagaOrchestratorService.compensateSaga(saga, "처리 시간 초과 (1분)");
-                        
-                    } catch (Exception e) {
-                        log.error("타임아웃 Saga 보상 처리 실패: sagaId={}, error={}", 
-                                 saga.getSagaId(), e.getMessage());
-                    }
-                }
-            }
-            
-        } catch (Exception e) {
-            log.error("타임아웃 트랜잭션 정리 중 오류 발생: {}", e.getMessage());
-        }
-    }
+    private static final Logger log = LoggerFactory.getLogger(SagaMonitoringService.class);
     
     /**
      * Saga 상태 통계 조회 (매시간 실행)
@@ -64,21 +50,18 @@ public class SagaMonitoringService {
     public void logSagaStatistics() {
         try {
             // 진행 중인 트랜잭션 수
-            List<SagaTransaction> inProgressSagas = 
-                sagaTransactionRepository.findByCurrentStepAndStatus("*", "IN_PROGRESS");
+            long inProgressSagas = sagaTransactionRepository.countByStatus(SagaStatus.IN_PROGRESS);
             
             // 최근 1시간 내 완료된 트랜잭션 수
             LocalDateTime oneHourAgo = LocalDateTime.now().minusHours(1);
 
             log.info("=== Saga 트랜잭션 상태 통계 ===");
-            log.info("진행 중인 Saga: {} 개", inProgressSagas.size());
+            log.info("진행 중인 Saga: {} 개", inProgressSagas);
             log.info("==============================");
             
             // 각 단계별 상태 로깅
-            logStepStatistics("ORDER_CREATED");
-            logStepStatistics("PAYMENT_REQUESTED");
-            logStepStatistics("COMPLETED");
-            logStepStatistics("COMPENSATED");
+            logStepStatistics(SagaStep.ORDER_CREATED);
+            logStepStatistics(SagaStep.PAYMENT_REQUESTED);
             
         } catch (Exception e) {
             log.error("Saga 통계 조회 중 오류 발생: {}", e.getMessage());
@@ -88,13 +71,12 @@ public class SagaMonitoringService {
     /**
      * 특정 단계의 통계 로깅
      */
-    private void logStepStatistics(String step) {
+    private void logStepStatistics(SagaStep step) {
         try {
-            List<SagaTransaction> stepSagas = 
-                sagaTransactionRepository.findByCurrentStepAndStatus(step, "IN_PROGRESS");
+            long stepSagas = sagaTransactionRepository.countByCurrentStepAndStatus(step, SagaStatus.IN_PROGRESS);
             
-            if (!stepSagas.isEmpty()) {
-                log.info("{} 상태의 Saga: {} 개", step, stepSagas.size());
+            if (stepSagas > 0) {
+                log.info("{} 상태의 Saga: {} 개", step, stepSagas);
             }
             
         } catch (Exception e) {
@@ -108,14 +90,14 @@ public class SagaMonitoringService {
     @Transactional
     public void retrySaga(String sagaId) {
         try {
-            SagaTransaction saga = sagaTransactionRepository.findBySagaId(sagaId);
+            SagaTransaction saga = sagaOrchestratorService.findSaga(sagaId);
             
             if (saga == null) {
                 log.error("Saga를 찾을 수 없음: sagaId={}", sagaId);
                 return;
             }
             
-            if (!"IN_PROGRESS".equals(saga.getStatus())) {
+            if (saga.getStatus() != SagaStatus.IN_PROGRESS) {
                 log.error("재시도할 수 없는 Saga 상태: sagaId={}, status={}", sagaId, saga.getStatus());
                 return;
             }
@@ -124,11 +106,11 @@ public class SagaMonitoringService {
             
             // 현재 단계에 따라 적절한 재시도 로직 실행
             switch (saga.getCurrentStep()) {
-                case "ORDER_CREATED":
+                case ORDER_CREATED:
                     // 결제 요청 재전송
                     // sagaOrchestratorService.retryPaymentRequest(saga);
                     break;
-                case "PAYMENT_REQUESTED":
+                case PAYMENT_REQUESTED:
                     // 결제 상태 재확인
                     // sagaOrchestratorService.checkPaymentStatus(saga);
                     break;
@@ -142,16 +124,51 @@ public class SagaMonitoringService {
     }
     
     /**
-     * 특정 주문의 Saga 상태 조회
+     * 특정 주문의 Saga 상태 조회 (핫 테이블에 없으면 아카이브 조회)
      */
-    public SagaTransaction getSagaByOrderId(String orderId) {
-        return sagaTransactionRepository.findByOrderId(orderId);
+    public SagaSummary getSagaSummaryByOrderId(String orderId) {
+        List<SagaSummary> summaries = sagaTransactionRepository.findSummariesByOrderId(orderId, PageRequest.of(0, 1));
+        SagaSummary summary = summaries.isEmpty() ? null : summaries.get(0);
+        if (summary == null) {
+            SagaTransaction archived = sagaArchiveService.findArchivedSagaByOrderId(orderId);
+            return archived != null ? SagaSummary.from(archived) : null;
+        }
+        if (sagaEventStore.isEnabled()) {
+            // 이벤트 소싱 모드에서는 행이 스냅샷 시점 상태이므로 이벤트까지 반영해서 반환
+            SagaTransaction saga = sagaEventStore.load(summary.getSagaId());
+            return saga != null ? SagaSummary.from(saga) : summary;
+        }
+        return summary;
+    }
+    
+    /**
+     * Saga 단계 이력 (이벤트 소싱 모드에서만 기록됨)
+     */
+    public List<SagaStepEvent> getTimeline(String sagaId) {
+        return sagaEventStore.timeline(sagaId);
     }
     
     /**
-     * 모든 진행 중인 Saga 조회
+     * 진행 중인 Saga 목록 (id 오름차순 키셋 페이지)
      */
-    public List<SagaTransaction> getInProgressSagas() {
-        return sagaTransactionRepository.findByCurrentStepAndStatus("*", "IN_PROGRESS");
+    public SagaSummaryPage getInProgressSagas(Long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<SagaSummary> items = sagaTransactionRepository.findSummariesByStatus(
+            SagaStatus.IN_PROGRESS,
+            cursor != null ? cursor : 0L,
+            PageRequest.of(0, pageSize));
+        
+        Long nextCursor = items.size() == pageSize ? items.get(items.size() - 1).getId() : null;
+        return new SagaSummaryPage(items, nextCursor);
+    }
+    
+    /**
+     * 진행 중인 Saga 전체를 전진 커서로 한 건씩 전달 (메모리 사용량 일정)
+     */
+    @Transactional(readOnly = true)
+    public void streamInProgressSagas(Consumer<SagaSummary> consumer) {
+        try (Stream<SagaSummary> stream = sagaTransactionRepository.streamSummariesByStatus(SagaStatus.IN_PROGRESS)) {
+            stream.forEach(consumer);
+        }
     }
 } 
\ No newline at end of file
@@ -3,22 +3,37 @@ package com.example.order.service;
 import com.example.order.dto.OrderRequest;
 import com.example.order.dto.OrderResponse;
 import com.example.order.domain.Order;
+import com.example.order.domain.OrderStatus;
+import com.example.order.domain.SagaStatus;
+import com.example.order.domain.SagaStep;
 import com.example.order.domain.SagaTransaction;
 import com.example.order.repository.OrderRepository;
 import com.example.order.repository.SagaTransactionRepository;
+import com.example.order.dto.PaymentCancelRequest;
 import com.example.order.dto.PaymentRequestWithSaga;
+import com.example.order.kafka.OrderInstance;
+import com.example.common.journal.SagaEvent;
+import com.example.common.journal.SagaJournal;
+import com.example.common.kafka.MinorUnits;
+import com.example.common.kafka.PaymentLane;
+import com.example.common.kafka.SagaHeaders;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.time.LocalDateTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import java.util.Map;
-import java.util.HashMap;
 import java.util.List;
 
 @Service
@@ -27,39 +42,54 @@ public class SagaOrchestratorService {
     
     private final OrderRepository orderRepository;
     private final SagaTransactionRepository sagaTransactionRepository;
+    private final OrderInstance orderInstance;
+    private final ObservationRegistry observationRegistry;
+    private final SagaJournal journal;
+    private final SagaEventStore sagaEventStore;
+    private final SagaDeadlinePolicy sagaDeadlinePolicy;
+    private final PaymentLaneClassifier paymentLaneClassifier;
     
     @Qualifier("sagaKafkaTemplate")
     private final KafkaTemplate<String, Object> kafkaTemplate;
+    
+    @Value("${saga.kafka.minor-unit-amounts:false}")
+    private boolean minorUnitAmounts;
+    
     private static final Logger log = LoggerFactory.getLogger(SagaOrchestratorService.class);
     
     /**
      * Saga 트랜잭션 시작 - 주문 생성부터 결제 완료까지의 전체 플로우를 관리
      */
     @Transactional
-    public String startOrderPaymentSaga(OrderRequest request) {
+    public String startOrderPaymentSaga(OrderRequest request, String sagaId) {
         // 1. 주문 ID 생성 (없는 경우)
         String orderId = request.getOrderId() != null ? request.getOrderId() : UUID.randomUUID().toString();
         request.setOrderId(orderId); // 명시적으로 OrderRequest에 설정
         
         // 2. Saga 트랜잭션 기록 생성
-        SagaTransaction sagaTransaction = createSagaTransaction(request);
+        SagaTransaction sagaTransaction = observeStep("saga.create-transaction", () -> createSagaTransaction(request, sagaId));
         
         try {
             // 3. 주문 생성 (첫 번째 단계)
-            Order order = createOrder(request, sagaTransaction.getSagaId());
+            Order order = observeStep("saga.create-order", () -> createOrder(request, sagaTransaction.getSagaId()));
             
             // 로깅 추가
-            log.info("주문 생성: orderId={}, sagaId={}", order.getOrderId(), sagaTransaction.getSagaId());
+            if (journal.logSampled()) {
+                log.info("주문 생성: orderId={}, sagaId={}", order.getOrderId(), sagaTransaction.getSagaId());
+            }
             
             // 4. Saga 상태 업데이트
-            updateSagaStep(sagaTransaction, "ORDER_CREATED", "주문이 생성되었습니다.");
+            updateSagaStep(sagaTransaction, SagaStep.ORDER_CREATED, "주문이 생성되었습니다.");
             
             // 5. 결제 요청 전송 (두 번째 단계)
-            sendPaymentRequest(request, sagaTransaction.getSagaId());
-            updateSagaStep(sagaTransaction, "PAYMENT_REQUESTED", "결제 요청이 전송되었습니다.");
+            observeStep("saga.send-payment-request", () -> sendPaymentRequest(request, sagaTransaction.getSagaId()));
+            updateSagaStep(sagaTransaction, SagaStep.PAYMENT_REQUESTED, "결제 요청이 전송되었습니다.");
             
             return sagaTransaction.getSagaId();
             
+        } catch (DataIntegrityViolationException e) {
+            // 같은 주문 ID 를 다른 인스턴스가 먼저 저장함 - 보상 없이 롤백 (결제 요청 전이므로 보낼 취소도 없음)
+            throw new DuplicateOrderException(orderId, e);
         } catch (Exception e) {
             // 실패 시 즉시 보상 트랜잭션 실행
             compensateSaga(sagaTransaction, e.getMessage());
@@ -72,21 +102,30 @@ public class SagaOrchestratorService {
      */
     @Transactional
     public void handlePaymentResult(String sagaId, String status, String message) {
-        log.info("결제 결과 처리: sagaId={}, status={}, message={}", sagaId, status, message);
+        journal.append(SagaEvent.PAYMENT_RESULT_RECEIVED, sagaId, "COMPLETED".equals(status) || "SUCCESS".equals(status) ? 1 : 0, 0L);
+        if (journal.logSampled()) {
+            log.info("결제 결과 처리: sagaId={}, status={}, message={}", sagaId, status, message);
+        }
         
-        SagaTransaction sagaTransaction = sagaTransactionRepository.findBySagaId(sagaId);
+        SagaTransaction sagaTransaction = findSaga(sagaId);
         
         if (sagaTransaction == null) {
             log.error("Saga transaction not found: {}", sagaId);
             return;
         }
         
+        // 중복 전달된 결과는 무시 (Saga 상태는 한 번만 전이)
+        if (sagaTransaction.getStatus() == SagaStatus.FINISHED) {
+            log.warn("이미 종료된 Saga 결과 무시: sagaId={}, currentStep={}", sagaId, sagaTransaction.getCurrentStep());
+            return;
+        }
+        
         if ("COMPLETED".equals(status) || "SUCCESS".equals(status)) {
             // 결제 성공 - Saga 완료
-            completeSaga(sagaTransaction);
+            observeStep("saga.complete", () -> completeSaga(sagaTransaction));
         } else {
             // 결제 실패 - 보상 트랜잭션 실행
-            compensateSaga(sagaTransaction, message);
+            observeStep("saga.compensate", () -> compensateSaga(sagaTransaction, message));
         }
     }
     
@@ -95,21 +134,23 @@ public class SagaOrchestratorService {
      */
     @Transactional
     public void compensateSaga(SagaTransaction sagaTransaction, String reason) {
-        log.info("보상 트랜잭션 시작: sagaId={}, orderId={}, reason={}", 
-                sagaTransaction.getSagaId(), sagaTransaction.getOrderId(), reason);
+        if (journal.logSampled()) {
+            log.info("보상 트랜잭션 시작: sagaId={}, orderId={}, reason={}", 
+                    sagaTransaction.getSagaId(), sagaTransaction.getOrderId(), reason);
+        }
         
         try {
             // 현재 단계에 따라 보상 작업 수행
-            String currentStep = sagaTransaction.getCurrentStep();
+            SagaStep currentStep = sagaTransaction.getCurrentStep();
             
             switch (currentStep) {
-                case "PAYMENT_REQUESTED":
-                case "PAYMENT_PROCESSING":
+                case PAYMENT_REQUESTED:
+                case PAYMENT_PROCESSING:
                     // 결제 취소 요청 (필요시)
                     cancelPaymentIfNeeded(sagaTransaction);
                     // fall through to order cancellation
                     
-                case "ORDER_CREATED":
+                case ORDER_CREATED:
                     // 주문 취소
                     cancelOrder(sagaTransaction, reason);
                     break;
@@ -119,23 +160,53 @@ public class SagaOrchestratorService {
             }
             
             // Saga 상태를 COMPENSATED로 변경
-            updateSagaStep(sagaTransaction, "COMPENSATED", 
+            updateSagaStep(sagaTransaction, SagaStep.COMPENSATED, 
                          "보상 트랜잭션이 완료되었습니다. 사유: " + reason);
+            journal.append(SagaEvent.SAGA_COMPENSATED, sagaTransaction.getSagaId());
             
         } catch (Exception e) {
             log.error("보상 트랜잭션 실패: sagaId={}, error={}", 
                      sagaTransaction.getSagaId(), e.getMessage());
-            updateSagaStep(sagaTransaction, "COMPENSATION_FAILED", 
+            updateSagaStep(sagaTransaction, SagaStep.COMPENSATION_FAILED, 
                          "보상 트랜잭션 실패: " + e.getMessage());
+            journal.append(SagaEvent.COMPENSATION_FAILED, sagaTransaction.getSagaId());
         }
     }
     
+    /**
+     * 마감 시각이 지난 Saga 처리 (마감 스케줄러가 마감 시각을 선점한 뒤 Saga 샤드를 통해 호출)
+     * 현재 단계의 마감이 아직 남아 있으면(이벤트 소싱 모드의 스냅샷 지연 등) 마감 시각만 다시 설정
+     *
+     * @param claimedDeadline 선점하면서 기록한 마감 시각
+     * @return 보상을 실행했으면 true
+     */
+    @Transactional
+    public boolean compensateIfExpired(String sagaId, LocalDateTime claimedDeadline) {
+        SagaTransaction sagaTransaction = findSaga(sagaId);
+        if (sagaTransaction == null || sagaTransaction.getStatus() != SagaStatus.IN_PROGRESS) {
+            return false;
+        }
+        
+        SagaStep step = sagaTransaction.getCurrentStep();
+        LocalDateTime stepDeadline = sagaDeadlinePolicy.deadlineFor(step, sagaTransaction.getUpdatedAt());
+        if (stepDeadline != null && stepDeadline.isAfter(LocalDateTime.now())) {
+            sagaTransactionRepository.moveDeadline(sagaTransaction.getId(), claimedDeadline, stepDeadline);
+            return false;
+        }
+        
+        journal.append(SagaEvent.SAGA_TIMEOUT, sagaId);
+        compensateSaga(sagaTransaction, "처리 시간 초과 (" + step + ")");
+        return true;
+    }
+    
     /**
      * Saga 완료 처리
      */
     private void completeSaga(SagaTransaction sagaTransaction) {
-        log.info("Saga 완료 처리 시작: sagaId={}, orderId={}", 
-               sagaTransaction.getSagaId(), sagaTransaction.getOrderId());
+        if (journal.logSampled()) {
+            log.info("Saga 완료 처리 시작: sagaId={}, orderId={}", 
+                   sagaTransaction.getSagaId(), sagaTransaction.getOrderId());
+        }
         
         // SagaId로 주문 찾기 (주문ID로 찾기가 실패할 경우 대비)
         Order order = orderRepository.findByOrderId(sagaTransaction.getOrderId());
@@ -145,23 +216,30 @@ public class SagaOrchestratorService {
             List<Order> ordersBySagaId = orderRepository.findBySagaId(sagaTransaction.getSagaId());
             if (!ordersBySagaId.isEmpty()) {
                 order = ordersBySagaId.get(0);
-                log.info("SagaId로 주문 찾음: sagaId={}, orderId={}", 
-                       sagaTransaction.getSagaId(), order.getOrderId());
+                if (journal.logSampled()) {
+                    log.info("SagaId로 주문 찾음: sagaId={}, orderId={}", 
+                           sagaTransaction.getSagaId(), order.getOrderId());
+                }
             }
         }
         
         if (order != null) {
-            order.setStatus("COMPLETED");
+            order.setStatus(OrderStatus.COMPLETED);
             orderRepository.save(order);
-            log.info("주문 상태 업데이트 완료: orderId={}, status=COMPLETED", order.getOrderId());
+            if (journal.logSampled()) {
+                log.info("주문 상태 업데이트 완료: orderId={}, status=COMPLETED", order.getOrderId());
+            }
         } else {
             log.error("주문을 찾을 수 없어 상태 업데이트 실패: orderId={}, sagaId={}", 
                     sagaTransaction.getOrderId(), sagaTransaction.getSagaId());
         }
         
-        updateSagaStep(sagaTransaction, "COMPLETED", "주문과 결제가 모두 성공적으로 완료되었습니다.");
-        log.info("Saga 완료: sagaId={}, orderId={}", 
-                sagaTransaction.getSagaId(), sagaTransaction.getOrderId());
+        updateSagaStep(sagaTransaction, SagaStep.COMPLETED, "주문과 결제가 모두 성공적으로 완료되었습니다.");
+        journal.append(SagaEvent.SAGA_COMPLETED, sagaTransaction.getSagaId());
+        if (journal.logSampled()) {
+            log.info("Saga 완료: sagaId={}, orderId={}", 
+                    sagaTransaction.getSagaId(), sagaTransaction.getOrderId());
+        }
     }
     
     /**
@@ -171,11 +249,14 @@ public class SagaOrchestratorService {
         Order order = new Order();
         order.setOrderId(request.getOrderId());  // 반드시 request의 orderId 사용
         order.setAmount(request.getAmount());
-        order.setStatus("PENDING");
+        order.setStatus(OrderStatus.PENDING);
         order.setSagaId(sagaId);  // Saga ID 연결
         
         Order savedOrder = orderRepository.save(order);
-        log.info("주문 저장 완료: orderId={}, sagaId={}", savedOrder.getOrderId(), sagaId);
+        journal.append(SagaEvent.ORDER_CREATED, sagaId);
+        if (journal.logSampled()) {
+            log.info("주문 저장 완료: orderId={}, sagaId={}", savedOrder.getOrderId(), sagaId);
+        }
         
         return savedOrder;
     }
@@ -187,15 +268,23 @@ public class SagaOrchestratorService {
         // Saga ID를 포함한 결제 요청 객체 생성
         PaymentRequestWithSaga paymentRequest = new PaymentRequestWithSaga(
             request.getOrderId(),
-            request.getAmount(),
+            minorUnitAmounts ? null : request.getAmount(),
             request.getCurrency(),
             request.getPaymentMethod(),
-            sagaId
+            sagaId,
+            minorUnitAmounts ? MinorUnits.toMinor(request.getAmount()) : null
         );
         
-        // 결제 요청 전송
-        kafkaTemplate.send("payment.request", paymentRequest);
-        log.info("결제 요청 전송 완료: orderId={}, sagaId={}", request.getOrderId(), sagaId);
+        // 결제 요청 전송 (주문 레인 토픽, sagaId 키, 결과를 기다리는 인스턴스 식별자를 헤더로 전달)
+        PaymentLane lane = paymentLaneClassifier.classify(request);
+        ProducerRecord<String, Object> record = new ProducerRecord<>(lane.getTopic(), sagaId, paymentRequest);
+        record.headers().add(SagaHeaders.ORIGIN_INSTANCE,
+            orderInstance.getInstanceId().getBytes(StandardCharsets.UTF_8));
+        kafkaTemplate.send(record);
+        journal.append(SagaEvent.PAYMENT_REQUESTED, sagaId);
+        if (journal.logSampled()) {
+            log.info("결제 요청 전송 완료: orderId={}, sagaId={}, lane={}", request.getOrderId(), sagaId, lane);
+        }
     }
     
     /**
@@ -214,11 +303,14 @@ public class SagaOrchestratorService {
         }
         
         if (order != null) {
-            order.setStatus("CANCELLED");
+            order.setStatus(OrderStatus.CANCELLED);
             order.setFailureReason(reason);
             orderRepository.save(order);
             
-            log.info("주문 취소 완료: orderId={}, reason={}", order.getOrderId(), reason);
+            journal.append(SagaEvent.ORDER_CANCELLED, sagaTransaction.getSagaId());
+            if (journal.logSampled()) {
+                log.info("주문 취소 완료: orderId={}, reason={}", order.getOrderId(), reason);
+            }
         } else {
             log.error("취소할 주문을 찾을 수 없음: orderId={}, sagaId={}", 
                     sagaTransaction.getOrderId(), sagaTransaction.getSagaId());
@@ -229,34 +321,54 @@ public class SagaOrchestratorService {
      * 결제 취소 (필요시)
      */
     private void cancelPaymentIfNeeded(SagaTransaction sagaTransaction) {
-        // 결제 서비스에 취소 요청 전송
-        Map<String, Object> cancelRequest = new HashMap<>();
-        cancelRequest.put("orderId", sagaTransaction.getOrderId());
-        cancelRequest.put("sagaId", sagaTransaction.getSagaId());
-        cancelRequest.put("reason", "Order compensation required");
+        // 결제 서비스에 취소 요청 전송 (sagaId 키)
+        PaymentCancelRequest cancelRequest = new PaymentCancelRequest(
+            sagaTransaction.getOrderId(),
+            sagaTransaction.getSagaId(),
+            "Order compensation required"
+        );
         
-        kafkaTemplate.send("payment.cancel", cancelRequest);
-        log.info("결제 취소 요청 전송: sagaId={}", sagaTransaction.getSagaId());
+        kafkaTemplate.send("payment.cancel", sagaTransaction.getSagaId(), cancelRequest);
+        journal.append(SagaEvent.PAYMENT_CANCEL_REQUESTED, sagaTransaction.getSagaId());
+        if (journal.logSampled()) {
+            log.info("결제 취소 요청 전송: sagaId={}", sagaTransaction.getSagaId());
+        }
+    }
+    
+    /**
+     * Saga 단계 스팬 (현재 트레이스 컨텍스트의 하위 스팬)
+     */
+    private <T> T observeStep(String name, Supplier<T> step) {
+        return Observation.createNotStarted(name, observationRegistry).observe(step);
+    }
+    
+    private void observeStep(String name, Runnable step) {
+        Observation.createNotStarted(name, observationRegistry).observe(step);
     }
     
     /**
      * Saga 트랜잭션 생성
      */
-    private SagaTransaction createSagaTransaction(OrderRequest request) {
+    private SagaTransaction createSagaTransaction(OrderRequest request, String sagaId) {
         SagaTransaction saga = new SagaTransaction();
-        String sagaId = UUID.randomUUID().toString();
         saga.setSagaId(sagaId);
         
         // OrderRequest에서 orderId 사용
         saga.setOrderId(request.getOrderId());  // 주문 ID 정확하게 설정
         saga.setAmount(request.getAmount());
-        saga.setCurrentStep("STARTED");
-        saga.setStatus("IN_PROGRESS");
+        saga.setCurrentStep(SagaStep.STARTED);
+        saga.setStatus(SagaStatus.IN_PROGRESS);
         saga.setStartedAt(LocalDateTime.now());
+        saga.setDeadline(sagaDeadlinePolicy.deadlineFor(SagaStep.STARTED, saga.getStartedAt()));
         
-        SagaTransaction savedSaga = sagaTransactionRepository.save(saga);
-        log.info("Saga 트랜잭션 생성 완료: sagaId={}, orderId={}", 
-                savedSaga.getSagaId(), savedSaga.getOrderId());
+        SagaTransaction savedSaga = sagaEventStore.isEnabled()
+            ? sagaEventStore.create(saga)
+            : sagaTransactionRepository.save(saga);
+        journal.append(SagaEvent.SAGA_STARTED, savedSaga.getSagaId());
+        if (journal.logSampled()) {
+            log.info("Saga 트랜잭션 생성 완료: sagaId={}, orderId={}", 
+                    savedSaga.getSagaId(), savedSaga.getOrderId());
+        }
         
         return savedSaga;
     }
@@ -264,16 +376,26 @@ public class SagaOrchestratorService {
     /**
      * Saga 단계 업데이트
      */
-    private void updateSagaStep(SagaTransaction saga, String step, String message) {
-        saga.setCurrentStep(step);
-        saga.setLastMessage(message);
-        saga.setUpdatedAt(LocalDateTime.now());
+    private void updateSagaStep(SagaTransaction saga, SagaStep step, String message) {
+        LocalDateTime now = LocalDateTime.now();
+        saga.applyStep(step, message, now);
+        // 이벤트 소싱 모드는 행의 마감 시각이 시작 단계 기준으로 남으며, 마감 시 현재 단계 기준으로 다시 설정됨
+        saga.setDeadline(sagaDeadlinePolicy.deadlineFor(step, now));
         
-        if ("COMPLETED".equals(step) || "COMPENSATED".equals(step) || "COMPENSATION_FAILED".equals(step)) {
-            saga.setStatus("FINISHED");
-            saga.setFinishedAt(LocalDateTime.now());
+        // 이벤트 소싱 모드는 행을 갱신하지 않고 전이 이벤트만 추가
+        if (sagaEventStore.isEnabled()) {
+            sagaEventStore.append(saga);
+        } else {
+            sagaTransactionRepository.save(saga);
         }
-        
-        sagaTransactionRepository.save(saga);
+    }
+    
+    /**
+     * Saga 현재 상태 조회 (이벤트 소싱 모드는 스냅샷 + 이후 이벤트)
+     */
+    public SagaTransaction findSaga(String sagaId) {
+        return sagaEventStore.isEnabled()
+            ? sagaEventStore.load(sagaId)
+            : sagaTransactionRepository.findBySagaId(sagaId);
     }
 } 
\ No newline at end of file
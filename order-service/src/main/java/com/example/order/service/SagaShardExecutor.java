@@ -0,0 +1,107 @@
+package com.example.order.service;
+
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * sagaId 해시로 나눈 단일 스레드 실행기 (Saga 별 메일박스)
+ * 같은 Saga 의 상태 전이(시작, 결제 결과, 타임아웃, 스위퍼)는 한 스레드에서 순서대로 실행되고,
+ * 서로 다른 Saga 는 샤드 수만큼 병렬로 처리됨
+ */
+@Component
+public class SagaShardExecutor {
+    
+    private final ThreadPoolExecutor[] shards;
+    private final Thread[] shardThreads;
+    private final ContextSnapshotFactory contextSnapshotFactory = ContextSnapshotFactory.builder().build();
+    
+    private static final Logger log = LoggerFactory.getLogger(SagaShardExecutor.class);
+    
+    public SagaShardExecutor(@Value("${saga.executor.shards:16}") int shardCount,
+                             MeterRegistry meterRegistry) {
+        this.shards = new ThreadPoolExecutor[shardCount];
+        this.shardThreads = new Thread[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            int index = i;
+            shards[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), r -> {
+                Thread thread = new Thread(r, "saga-shard-" + index);
+                shardThreads[index] = thread;
+                return thread;
+            });
+            shards[i].prestartCoreThread();
+        }
+        
+        Gauge.builder("saga.executor.queued", this, SagaShardExecutor::getQueued)
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Saga 샤드에서 실행하고 결과를 기다림 (작업의 런타임 예외는 그대로 전달)
+     */
+    public <T> T call(String sagaId, Supplier<T> task) {
+        int shard = shardOf(sagaId);
+        // 이미 해당 샤드 스레드라면 바로 실행 (자기 자신을 기다리는 교착 방지)
+        if (Thread.currentThread() == shardThreads[shard]) {
+            return task.get();
+        }
+        try {
+            return CompletableFuture.supplyAsync(task, contextSnapshotFactory.captureAll().wrapExecutor(shards[shard])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+    
+    public void run(String sagaId, Runnable task) {
+        call(sagaId, () -> {
+            task.run();
+            return null;
+        });
+    }
+    
+    /**
+     * Saga 샤드에서 비동기 실행 (타이머 콜백 등 기다릴 필요가 없는 경우)
+     */
+    public CompletableFuture<Void> runAsync(String sagaId, Runnable task) {
+        return CompletableFuture.runAsync(task, contextSnapshotFactory.captureAll().wrapExecutor(shards[shardOf(sagaId)]));
+    }
+    
+    public int getQueued() {
+        int queued = 0;
+        for (ThreadPoolExecutor shard : shards) {
+            queued += shard.getQueue().size();
+        }
+        return queued;
+    }
+    
+    private int shardOf(String sagaId) {
+        return Math.floorMod(sagaId.hashCode(), shards.length);
+    }
+    
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ThreadPoolExecutor shard : shards) {
+            shard.shutdown();
+        }
+        for (ThreadPoolExecutor shard : shards) {
+            if (!shard.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Saga 샤드 종료 대기 시간 초과: 남은 작업={}", shard.getQueue().size());
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.order.streams;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * sagaId 기준으로 구체화된 Saga 현재 상태
+ */
+@Data
+@NoArgsConstructor
+public class SagaView {
+    private String sagaId;
+    private String orderId;
+    private String currentStep;
+    private String status;       // IN_PROGRESS, FINISHED
+    private String lastMessage;
+    private long requestedAt;
+    private long updatedAt;
+    private String previousStep;         // 직전 단계
+    private long previousStepMillis;     // 직전 단계에 머문 시간 (-1: 없음)
+
+    /**
+     * 이벤트를 현재 상태에 반영
+     */
+    public SagaView apply(SagaViewEvent event) {
+        if (sagaId == null) {
+            sagaId = event.getSagaId();
+            previousStepMillis = -1;
+        }
+        if (event.getOrderId() != null) {
+            orderId = event.getOrderId();
+        }
+
+        if (currentStep != null && updatedAt > 0) {
+            previousStep = currentStep;
+            previousStepMillis = Math.max(0, event.getTimestamp() - updatedAt);
+        } else {
+            previousStep = null;
+            previousStepMillis = -1;
+        }
+
+        if (SagaViewTopology.STEP_PAYMENT_REQUESTED.equals(event.getStep())) {
+            requestedAt = event.getTimestamp();
+        }
+
+        currentStep = event.getStep();
+        lastMessage = event.getMessage();
+        updatedAt = event.getTimestamp();
+        status = SagaViewTopology.STEP_COMPLETED.equals(currentStep)
+                || SagaViewTopology.STEP_COMPENSATED.equals(currentStep) ? "FINISHED" : "IN_PROGRESS";
+        return this;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.order.streams;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * payment.request / payment.result / payment.cancel 레코드를 정규화한 Saga 이벤트
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SagaViewEvent {
+    private String sagaId;
+    private String orderId;
+    private String step;
+    private String message;
+    private long timestamp;  // 레코드 타임스탬프 (epoch millis)
+}
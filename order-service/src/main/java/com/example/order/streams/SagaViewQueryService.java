@@ -0,0 +1,80 @@
+package com.example.order.streams;
+
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.StoreQueryParameters;
+import org.apache.kafka.streams.kstream.Windowed;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
+import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
+import org.apache.kafka.streams.state.ReadOnlyWindowStore;
+import org.springframework.kafka.config.StreamsBuilderFactoryBean;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Saga 상태 저장소 인터랙티브 쿼리 (MySQL을 거치지 않는 조회)
+ */
+public class SagaViewQueryService {
+
+    private final StreamsBuilderFactoryBean streamsBuilderFactoryBean;
+
+    public SagaViewQueryService(StreamsBuilderFactoryBean streamsBuilderFactoryBean) {
+        this.streamsBuilderFactoryBean = streamsBuilderFactoryBean;
+    }
+
+    /**
+     * sagaId의 현재 상태 조회
+     */
+    public SagaView getSagaView(String sagaId) {
+        ReadOnlyKeyValueStore<String, SagaView> store = streams().store(
+            StoreQueryParameters.fromNameAndType(SagaViewTopology.SAGA_VIEW_STORE,
+                QueryableStoreTypes.<String, SagaView>keyValueStore()));
+        return store.get(sagaId);
+    }
+
+    /**
+     * 기간 내 단계별 진입 건수
+     */
+    public Map<String, Long> getStepCounts(Instant from, Instant to) {
+        ReadOnlyWindowStore<String, Long> store = streams().store(
+            StoreQueryParameters.fromNameAndType(SagaViewTopology.STEP_COUNT_STORE,
+                QueryableStoreTypes.<String, Long>windowStore()));
+
+        Map<String, Long> counts = new TreeMap<>();
+        try (KeyValueIterator<Windowed<String>, Long> it = store.fetchAll(from, to)) {
+            it.forEachRemaining(entry -> counts.merge(entry.key.key(), entry.value, Long::sum));
+        }
+        return counts;
+    }
+
+    /**
+     * 기간 내 단계별 체류 시간
+     */
+    public Map<String, StepLatency> getStepLatencies(Instant from, Instant to) {
+        ReadOnlyWindowStore<String, StepLatency> store = streams().store(
+            StoreQueryParameters.fromNameAndType(SagaViewTopology.STEP_LATENCY_STORE,
+                QueryableStoreTypes.<String, StepLatency>windowStore()));
+
+        Map<String, StepLatency> latencies = new TreeMap<>();
+        try (KeyValueIterator<Windowed<String>, StepLatency> it = store.fetchAll(from, to)) {
+            it.forEachRemaining(entry -> latencies.merge(entry.key.key(), entry.value, (a, b) -> {
+                StepLatency merged = new StepLatency();
+                merged.setCount(a.getCount() + b.getCount());
+                merged.setTotalMillis(a.getTotalMillis() + b.getTotalMillis());
+                merged.setMaxMillis(Math.max(a.getMaxMillis(), b.getMaxMillis()));
+                return merged;
+            }));
+        }
+        return latencies;
+    }
+
+    private KafkaStreams streams() {
+        KafkaStreams kafkaStreams = streamsBuilderFactoryBean.getKafkaStreams();
+        if (kafkaStreams == null || kafkaStreams.state() != KafkaStreams.State.RUNNING) {
+            throw new IllegalStateException("Saga 뷰 스트림이 실행 중이 아닙니다");
+        }
+        return kafkaStreams;
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.order.streams;
+
+import com.example.order.dto.PaymentCancelRequest;
+import com.example.order.dto.PaymentRequestWithSaga;
+import com.example.order.dto.PaymentResultWithSaga;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.*;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessor;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessorContext;
+import org.apache.kafka.streams.processor.api.FixedKeyRecord;
+import org.apache.kafka.streams.state.Stores;
+import org.apache.kafka.streams.state.WindowStore;
+import org.springframework.kafka.support.serializer.JsonSerde;
+
+import java.time.Duration;
+
+/**
+ * 결제 토픽들을 sagaId 기준 상태 저장소(RocksDB)로 구체화하는 Kafka Streams 토폴로지
+ */
+public class SagaViewTopology {
+
+    public static final String SAGA_VIEW_STORE = "saga-view-store";
+    public static final String STEP_COUNT_STORE = "saga-step-count-store";
+    public static final String STEP_LATENCY_STORE = "saga-step-latency-store";
+
+    public static final String STEP_PAYMENT_REQUESTED = "PAYMENT_REQUESTED";
+    public static final String STEP_COMPLETED = "COMPLETED";
+    public static final String STEP_PAYMENT_FAILED = "PAYMENT_FAILED";
+    public static final String STEP_COMPENSATED = "COMPENSATED";
+
+    private final String paymentRequestTopic;
+    private final String paymentResultTopic;
+    private final String paymentCancelTopic;
+    private final Duration windowSize;
+
+    public SagaViewTopology(String paymentRequestTopic, String paymentResultTopic,
+                            String paymentCancelTopic, Duration windowSize) {
+        this.paymentRequestTopic = paymentRequestTopic;
+        this.paymentResultTopic = paymentResultTopic;
+        this.paymentCancelTopic = paymentCancelTopic;
+        this.windowSize = windowSize;
+    }
+
+    public void build(StreamsBuilder builder) {
+        JsonSerde<SagaViewEvent> eventSerde = new JsonSerde<>(SagaViewEvent.class).ignoreTypeHeaders();
+        JsonSerde<SagaView> viewSerde = new JsonSerde<>(SagaView.class).ignoreTypeHeaders();
+        JsonSerde<StepLatency> latencySerde = new JsonSerde<>(StepLatency.class).ignoreTypeHeaders();
+
+        // 1. 세 토픽을 sagaId 키의 단일 이벤트 스트림으로 정규화
+        KStream<String, SagaViewEvent> requests = builder
+            .stream(paymentRequestTopic, Consumed.with(Serdes.String(),
+                    new JsonSerde<>(PaymentRequestWithSaga.class).ignoreTypeHeaders()))
+            .filter((key, request) -> request != null && request.getSagaId() != null)
+            .map((key, request) -> KeyValue.pair(request.getSagaId(), new SagaViewEvent(
+                request.getSagaId(), request.getOrderId(), STEP_PAYMENT_REQUESTED, "결제 요청", 0L)));
+
+        KStream<String, SagaViewEvent> results = builder
+            .stream(paymentResultTopic, Consumed.with(Serdes.String(),
+                    new JsonSerde<>(PaymentResultWithSaga.class).ignoreTypeHeaders()))
+            .filter((key, result) -> result != null && result.getSagaId() != null)
+            .map((key, result) -> KeyValue.pair(result.getSagaId(), new SagaViewEvent(
+                result.getSagaId(), result.getOrderId(), resultStep(result.getStatus()), result.getMessage(), 0L)));
+
+        KStream<String, SagaViewEvent> cancels = builder
+            .stream(paymentCancelTopic, Consumed.with(Serdes.String(),
+                    new JsonSerde<>(PaymentCancelRequest.class).ignoreTypeHeaders()))
+            .filter((key, cancel) -> cancel != null && cancel.getSagaId() != null)
+            .map((key, cancel) -> KeyValue.pair(cancel.getSagaId(), new SagaViewEvent(
+                cancel.getSagaId(), cancel.getOrderId(), STEP_COMPENSATED, cancel.getReason(), 0L)));
+
+        KStream<String, SagaViewEvent> events = requests.merge(results).merge(cancels)
+            .processValues(RecordTimestamp::new);
+
+        // 2. sagaId 별 현재 상태 (캐시를 끄고 모든 전이를 다운스트림에 전달)
+        KTable<String, SagaView> views = events
+            .groupByKey(Grouped.with(Serdes.String(), eventSerde))
+            .aggregate(
+                SagaView::new,
+                (sagaId, event, view) -> view.apply(event),
+                Materialized.<String, SagaView>as(Stores.persistentKeyValueStore(SAGA_VIEW_STORE))
+                    .withKeySerde(Serdes.String())
+                    .withValueSerde(viewSerde)
+                    .withCachingDisabled());
+
+        // 3. 윈도우 단위 단계별 진입 건수
+        events
+            .groupBy((sagaId, event) -> event.getStep(), Grouped.with(Serdes.String(), eventSerde))
+            .windowedBy(TimeWindows.ofSizeWithNoGrace(windowSize))
+            .count(Materialized.<String, Long, WindowStore<Bytes, byte[]>>as(STEP_COUNT_STORE)
+                .withKeySerde(Serdes.String())
+                .withValueSerde(Serdes.Long()));
+
+        // 4. 윈도우 단위 단계별 체류 시간 (직전 단계 기준)
+        views.toStream()
+            .filter((sagaId, view) -> view != null && view.getPreviousStep() != null && view.getPreviousStepMillis() >= 0)
+            .map((sagaId, view) -> KeyValue.pair(view.getPreviousStep(), view.getPreviousStepMillis()))
+            .groupByKey(Grouped.with(Serdes.String(), Serdes.Long()))
+            .windowedBy(TimeWindows.ofSizeWithNoGrace(windowSize))
+            .aggregate(
+                StepLatency::new,
+                (step, millis, latency) -> latency.add(millis),
+                Materialized.<String, StepLatency, WindowStore<Bytes, byte[]>>as(STEP_LATENCY_STORE)
+                    .withKeySerde(Serdes.String())
+                    .withValueSerde(latencySerde));
+    }
+
+    private static String resultStep(String status) {
+        return "COMPLETED".equals(status) || "SUCCESS".equals(status) ? STEP_COMPLETED : STEP_PAYMENT_FAILED;
+    }
+
+    /**
+     * 레코드 타임스탬프를 이벤트에 기록
+     */
+    private static class RecordTimestamp implements FixedKeyProcessor<String, SagaViewEvent, SagaViewEvent> {
+
+        private FixedKeyProcessorContext<String, SagaViewEvent> context;
+
+        @Override
+        public void init(FixedKeyProcessorContext<String, SagaViewEvent> context) {
+            this.context = context;
+        }
+
+        @Override
+        public void process(FixedKeyRecord<String, SagaViewEvent> record) {
+            SagaViewEvent event = record.value();
+            event.setTimestamp(record.timestamp());
+            context.forward(record.withValue(event));
+        }
+    }
+}
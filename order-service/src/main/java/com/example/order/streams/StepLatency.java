@@ -0,0 +1,26 @@
+package com.example.order.streams;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 단계별 체류 시간 집계 (윈도우 단위)
+ */
+@Data
+@NoArgsConstructor
+public class StepLatency {
+    private long count;
+    private long totalMillis;
+    private long maxMillis;
+
+    public StepLatency add(long millis) {
+        count++;
+        totalMillis += millis;
+        maxMillis = Math.max(maxMillis, millis);
+        return this;
+    }
+
+    public long getAvgMillis() {
+        return count == 0 ? 0 : totalMillis / count;
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.order.streams;
+
+import com.example.order.dto.PaymentCancelRequest;
+import com.example.order.dto.PaymentRequestWithSaga;
+import com.example.order.dto.PaymentResultWithSaga;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.Topology;
+import org.apache.kafka.streams.TopologyDescription;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 -> 결과 -> 취소 이벤트가 sagaId 별 상태 저장소로 접히는지 확인
+ */
+class SagaViewTopologyTest {
+
+    private static final String REQUEST_TOPIC = "payment.request";
+    private static final String RESULT_TOPIC = "payment.result";
+    private static final String CANCEL_TOPIC = "payment.cancel";
+    private static final Instant T0 = Instant.parse("2024-01-01T00:00:00Z");
+
+    @TempDir
+    Path stateDir;
+
+    private Topology topology;
+    private TopologyTestDriver driver;
+    private TestInputTopic<String, Object> requests;
+    private TestInputTopic<String, Object> results;
+    private TestInputTopic<String, Object> cancels;
+
+    @BeforeEach
+    void setUp() {
+        StreamsBuilder builder = new StreamsBuilder();
+        new SagaViewTopology(REQUEST_TOPIC, RESULT_TOPIC, CANCEL_TOPIC, Duration.ofMinutes(1)).build(builder);
+
+        Properties config = new Properties();
+        config.put(StreamsConfig.APPLICATION_ID_CONFIG, "saga-view-test");
+        config.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "dummy:9092");
+        config.put(StreamsConfig.STATE_DIR_CONFIG, stateDir.toString());
+        topology = builder.build();
+        driver = new TopologyTestDriver(topology, config);
+
+        StringSerializer keySerializer = new StringSerializer();
+        JsonSerializer<Object> valueSerializer = new JsonSerializer<>().noTypeInfo();
+        requests = driver.createInputTopic(REQUEST_TOPIC, keySerializer, valueSerializer);
+        results = driver.createInputTopic(RESULT_TOPIC, keySerializer, valueSerializer);
+        cancels = driver.createInputTopic(CANCEL_TOPIC, keySerializer, valueSerializer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        driver.close();
+    }
+
+    @Test
+    void foldsRequestResultAndCancelIntoView() {
+        requests.pipeInput("saga-1", request("saga-1"), T0);
+        results.pipeInput("saga-1", new PaymentResultWithSaga("order-saga-1", "COMPLETED", "승인", "saga-1"),
+            T0.plusMillis(300));
+
+        SagaView completed = views().get("saga-1");
+        assertThat(completed.getOrderId()).isEqualTo("order-saga-1");
+        assertThat(completed.getCurrentStep()).isEqualTo(SagaViewTopology.STEP_COMPLETED);
+        assertThat(completed.getStatus()).isEqualTo("FINISHED");
+        assertThat(completed.getRequestedAt()).isEqualTo(T0.toEpochMilli());
+        assertThat(completed.getPreviousStep()).isEqualTo(SagaViewTopology.STEP_PAYMENT_REQUESTED);
+        assertThat(completed.getPreviousStepMillis()).isEqualTo(300);
+
+        cancels.pipeInput("saga-1", new PaymentCancelRequest("order-saga-1", "saga-1", "재고 부족"),
+            T0.plusMillis(1_000));
+
+        SagaView compensated = views().get("saga-1");
+        assertThat(compensated.getCurrentStep()).isEqualTo(SagaViewTopology.STEP_COMPENSATED);
+        assertThat(compensated.getLastMessage()).isEqualTo("재고 부족");
+        assertThat(compensated.getStatus()).isEqualTo("FINISHED");
+        assertThat(compensated.getPreviousStep()).isEqualTo(SagaViewTopology.STEP_COMPLETED);
+        assertThat(compensated.getPreviousStepMillis()).isEqualTo(700);
+        assertThat(compensated.getUpdatedAt()).isEqualTo(T0.plusMillis(1_000).toEpochMilli());
+    }
+
+    @Test
+    void foldsFailedResultIntoView() {
+        requests.pipeInput("saga-2", request("saga-2"), T0);
+        results.pipeInput("saga-2", new PaymentResultWithSaga("order-saga-2", "FAILED", "한도 초과", "saga-2"),
+            T0.plusMillis(50));
+
+        SagaView failed = views().get("saga-2");
+        assertThat(failed.getCurrentStep()).isEqualTo(SagaViewTopology.STEP_PAYMENT_FAILED);
+        assertThat(failed.getStatus()).isEqualTo("IN_PROGRESS");
+        assertThat(failed.getLastMessage()).isEqualTo("한도 초과");
+    }
+
+    @Test
+    void ignoresRecordsWithoutSagaId() {
+        requests.pipeInput("order-3", new PaymentRequestWithSaga("order-3", BigDecimal.TEN, "KRW", "CARD", null, null), T0);
+
+        assertThat(views().approximateNumEntries()).isZero();
+    }
+
+    @Test
+    void subscribesOnlyToMainTopics() {
+        // 패턴 구독이면 -retry-*, -dlt 토픽까지 읽어 같은 레코드를 두 번 반영함
+        Set<String> sources = new HashSet<>();
+        for (TopologyDescription.Subtopology subtopology : topology.describe().subtopologies()) {
+            for (TopologyDescription.Node node : subtopology.nodes()) {
+                if (node instanceof TopologyDescription.Source source) {
+                    assertThat(source.topicPattern()).isNull();
+                    source.topicSet().stream()
+                        .filter(topic -> !topic.endsWith("-repartition"))
+                        .forEach(sources::add);
+                }
+            }
+        }
+        assertThat(sources).containsExactlyInAnyOrder(REQUEST_TOPIC, RESULT_TOPIC, CANCEL_TOPIC);
+    }
+
+    private KeyValueStore<String, SagaView> views() {
+        return driver.getKeyValueStore(SagaViewTopology.SAGA_VIEW_STORE);
+    }
+
+    private static PaymentRequestWithSaga request(String sagaId) {
+        return new PaymentRequestWithSaga("order-" + sagaId, new BigDecimal("10000"), "KRW", "CARD", sagaId, 1_000_000L);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.payment.config;
+
+import com.example.common.journal.SagaJournal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Saga 이벤트 바이너리 저널 (단계별 INFO 로그 대신 기록, INFO 로그는 샘플링)
+ */
+@Configuration
+public class JournalConfig {
+
+    @Value("${payment.journal.dir:./journal/payment}")
+    private String dir;
+
+    @Value("${payment.journal.segment-bytes:67108864}")
+    private int segmentBytes;
+
+    @Value("${payment.journal.max-segments:8}")
+    private int maxSegments;
+
+    @Value("${payment.journal.log-sample-rate:100}")
+    private int logSampleRate;
+
+    @Bean(destroyMethod = "close")
+    public SagaJournal sagaJournal() throws IOException {
+        return new SagaJournal(Path.of(dir), segmentBytes, maxSegments, SagaJournal.SOURCE_PAYMENT, logSampleRate);
+    }
+}
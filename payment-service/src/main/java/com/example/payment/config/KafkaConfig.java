@@ -1,10 +1,21 @@
 package com.example.payment.config;
 
 import com.example.common.kafka.CommonKafkaConfig;
+import com.example.common.kafka.DeadLetterReplayer;
+import com.example.common.kafka.PoisonPillQuarantine;
+import com.example.common.kafka.ProducerFlushLifecycle;
 import com.example.payment.dto.OrderRequest;
 import com.example.payment.dto.PaymentResult;
 import com.example.payment.dto.PaymentRequestWithSaga;
 import com.example.payment.dto.PaymentCancelRequest;
+import com.example.payment.kafka.AdaptiveFlowControl;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.CooperativeStickyAssignor;
+import org.apache.kafka.clients.consumer.RangeAssignor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +28,95 @@ public class KafkaConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${payment.drain.listener-shutdown-ms:30000}")
+    private long listenerShutdownMs;
+
+    @Value("${payment.instance-id}")
+    private String instanceId;
+
+    @Value("${payment.flow-control.max-poll-interval-ms:300000}")
+    private long maxPollIntervalMs;
+
+    @Value("${payment.flow-control.safety-factor:0.5}")
+    private double safetyFactor;
+
+    @Value("${payment.flow-control.initial-poll-records:20}")
+    private int initialPollRecords;
+
+    @Value("${payment.flow-control.min-poll-records:1}")
+    private int minPollRecords;
+
+    @Value("${payment.flow-control.max-poll-records:500}")
+    private int maxPollRecords;
+
+    @Value("${payment.flow-control.pause-latency-ms:10000}")
+    private long pauseLatencyMs;
+
+    @Value("${payment.flow-control.pause-duration-ms:5000}")
+    private long pauseDurationMs;
+
+    @Value("${payment.flow-control.min-restart-interval-ms:300000}")
+    private long minRestartIntervalMs;
+
+    @Value("${payment.lanes.priority.concurrency:2}")
+    private int priorityConcurrency;
+
+    @Value("${payment.sharding.enabled:false}")
+    private boolean sharding;
+
+    private final MeterRegistry meterRegistry;
+
+    public KafkaConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 결제 리스너 공통 컨슈머 설정
+     * (협력적 스티키 할당 + 정적 멤버십으로 재시작 시 전체 리밸런스 방지)
+     */
+    private Map<String, Object> paymentConsumerOverrides(String memberName) {
+        return paymentConsumerOverrides(memberName, false);
+    }
+
+    /**
+     * sagaId 키로 샤드를 정하는 토픽의 컨슈머 설정
+     * 샤딩 사용 시 RangeAssignor 로 연속된 파티션을 나눠 받아 컨슈머마다 한 샤드만 사용
+     * (CooperativeStickyAssignor 는 파티션을 흩어 배정할 수 있음, 롤링 배포 중 기존 멤버와 그룹을 이루도록 함께 나열)
+     */
+    private Map<String, Object> paymentConsumerOverrides(String memberName, boolean shardAligned) {
+        Map<String, Object> overrides = new HashMap<>();
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, initialPollRecords);
+        overrides.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, (int) maxPollIntervalMs);
+        overrides.put(ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG, shardAligned && sharding
+            ? List.of(RangeAssignor.class.getName(), CooperativeStickyAssignor.class.getName())
+            : CooperativeStickyAssignor.class.getName());
+        overrides.put(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG, instanceId + "-" + memberName);
+        return overrides;
+    }
+
+    private AdaptiveFlowControl flowControl(String listenerId) {
+        return new AdaptiveFlowControl(listenerId, maxPollIntervalMs, safetyFactor,
+            initialPollRecords, minPollRecords, maxPollRecords, pauseLatencyMs, pauseDurationMs, minRestartIntervalMs);
+    }
+
+    @Bean
+    public AdaptiveFlowControl sagaRequestFlowControl() {
+        return flowControl("payment-saga-request");
+    }
+
+    @Bean
+    public AdaptiveFlowControl priorityRequestFlowControl() {
+        return flowControl("payment-priority-request");
+    }
+
+    @Bean
+    public AdaptiveFlowControl cancelFlowControl() {
+        return flowControl("payment-cancel");
+    }
+
     @Bean
     public ProducerFactory<String, PaymentResult> paymentResultProducerFactory() {
         return CommonKafkaConfig.createProducerFactory(bootstrapServers);
@@ -44,6 +144,22 @@ public class KafkaConfig {
             bootstrapServers,
             "payment-saga-group",
             PaymentRequestWithSaga.class,
+            paymentConsumerOverrides("saga-request", true),
+            "com.example.payment.dto",
+            "com.example.order.dto"
+        );
+    }
+
+    /**
+     * 우선 레인 컨슈머 (별도 그룹이라 일반 레인 적체/일시 중지와 무관하게 소비)
+     */
+    @Bean
+    public ConsumerFactory<String, PaymentRequestWithSaga> priorityRequestConsumerFactory() {
+        return CommonKafkaConfig.createConsumerFactory(
+            bootstrapServers,
+            "payment-priority-group",
+            PaymentRequestWithSaga.class,
+            paymentConsumerOverrides("priority-request", true),
             "com.example.payment.dto",
             "com.example.order.dto"
         );
@@ -55,7 +171,24 @@ public class KafkaConfig {
             bootstrapServers,
             "payment-cancel-group",
             PaymentCancelRequest.class,
-            "com.example.payment.dto"
+            paymentConsumerOverrides("cancel", true),
+            "com.example.payment.dto",
+            "com.example.order.dto"
+        );
+    }
+
+    /**
+     * 결제 취소 단건 재시도 컨슈머 (일괄 취소와 그룹/정적 멤버 ID 를 분리해 서로 펜싱/리밸런스하지 않음)
+     */
+    @Bean
+    public ConsumerFactory<String, PaymentCancelRequest> cancelRetryConsumerFactory() {
+        return CommonKafkaConfig.createConsumerFactory(
+            bootstrapServers,
+            "payment-cancel-retry-group",
+            PaymentCancelRequest.class,
+            paymentConsumerOverrides("cancel-retry"),
+            "com.example.payment.dto",
+            "com.example.order.dto"
         );
     }
 
@@ -63,7 +196,13 @@ public class KafkaConfig {
     public ConcurrentKafkaListenerContainerFactory<String, OrderRequest> kafkaListenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<String, OrderRequest> factory =
             new ConcurrentKafkaListenerContainerFactory<>();
+        factory.getContainerProperties().setObservationEnabled(true);
+        CommonKafkaConfig.drainOnStop(factory, listenerShutdownMs);
         factory.setConsumerFactory(orderRequestConsumerFactory());
+        CommonKafkaConfig.quarantinePoisonPills(factory, poisonPillQuarantine());
+        if (virtualThreads) {
+            CommonKafkaConfig.useVirtualThreads(factory, "order-request-listener");
+        }
         return factory;
     }
 
@@ -71,25 +210,110 @@ public class KafkaConfig {
     public ConcurrentKafkaListenerContainerFactory<String, PaymentRequestWithSaga> sagaKafkaListenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<String, PaymentRequestWithSaga> factory =
             new ConcurrentKafkaListenerContainerFactory<>();
+        factory.getContainerProperties().setObservationEnabled(true);
+        CommonKafkaConfig.drainOnStop(factory, listenerShutdownMs);
         factory.setConsumerFactory(sagaRequestConsumerFactory());
+        if (virtualThreads) {
+            CommonKafkaConfig.useVirtualThreads(factory, "saga-listener");
+        }
+        CommonKafkaConfig.quarantinePoisonPills(factory, poisonPillQuarantine(), sagaRequestFlowControl(), null);
         return factory;
     }
 
+    /**
+     * 우선 레인 컨테이너 팩토리 (전용 컨슈머 스레드 payment.lanes.priority.concurrency 개)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, PaymentRequestWithSaga> priorityKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, PaymentRequestWithSaga> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.getContainerProperties().setObservationEnabled(true);
+        CommonKafkaConfig.drainOnStop(factory, listenerShutdownMs);
+        factory.setConsumerFactory(priorityRequestConsumerFactory());
+        factory.setConcurrency(priorityConcurrency);
+        if (virtualThreads) {
+            CommonKafkaConfig.useVirtualThreads(factory, "priority-listener");
+        }
+        CommonKafkaConfig.quarantinePoisonPills(factory, poisonPillQuarantine(), priorityRequestFlowControl(), null);
+        return factory;
+    }
+
+    /**
+     * 결제 취소 컨테이너 팩토리 (일괄 리스너는 batch = "true" 로 사용)
+     */
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, PaymentCancelRequest> cancelKafkaListenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<String, PaymentCancelRequest> factory =
             new ConcurrentKafkaListenerContainerFactory<>();
+        factory.getContainerProperties().setObservationEnabled(true);
+        CommonKafkaConfig.drainOnStop(factory, listenerShutdownMs);
         factory.setConsumerFactory(cancelRequestConsumerFactory());
+        if (virtualThreads) {
+            CommonKafkaConfig.useVirtualThreads(factory, "cancel-listener");
+        }
+        CommonKafkaConfig.quarantinePoisonPills(factory, poisonPillQuarantine(), cancelFlowControl(), cancelFlowControl());
+        return factory;
+    }
+
+    /**
+     * 결제 취소 단건 재시도 컨테이너 팩토리
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, PaymentCancelRequest> cancelRetryKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, PaymentCancelRequest> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.getContainerProperties().setObservationEnabled(true);
+        CommonKafkaConfig.drainOnStop(factory, listenerShutdownMs);
+        factory.setConsumerFactory(cancelRetryConsumerFactory());
+        if (virtualThreads) {
+            CommonKafkaConfig.useVirtualThreads(factory, "cancel-retry-listener");
+        }
+        CommonKafkaConfig.quarantinePoisonPills(factory, poisonPillQuarantine());
         return factory;
     }
 
     @Bean("paymentResultKafkaTemplate")
     public KafkaTemplate<String, PaymentResult> kafkaTemplate() {
-        return new KafkaTemplate<>(paymentResultProducerFactory());
+        KafkaTemplate<String, PaymentResult> template = new KafkaTemplate<>(paymentResultProducerFactory());
+        template.setObservationEnabled(true);
+        return template;
     }
 
     @Bean("paymentSagaKafkaTemplate")
     public KafkaTemplate<String, Object> sagaKafkaTemplate() {
-        return new KafkaTemplate<>(objectProducerFactory());
+        KafkaTemplate<String, Object> template = new KafkaTemplate<>(objectProducerFactory());
+        template.setObservationEnabled(true);
+        return template;
+    }
+
+    @Bean("quarantineKafkaTemplate")
+    public KafkaTemplate<byte[], byte[]> quarantineKafkaTemplate() {
+        return new KafkaTemplate<>(CommonKafkaConfig.createByteArrayProducerFactory(bootstrapServers));
+    }
+
+    /**
+     * 역직렬화 실패 레코드를 <토픽>-quarantine 으로 격리 (모든 리스너 컨테이너 팩토리에 적용)
+     */
+    @Bean
+    public PoisonPillQuarantine poisonPillQuarantine() {
+        return new PoisonPillQuarantine(quarantineKafkaTemplate(), meterRegistry);
+    }
+
+    /**
+     * 결제 요청/우선 요청/취소/취소 재시도 토픽의 격리 토픽
+     */
+    @Bean
+    public KafkaAdmin.NewTopics quarantineTopics() {
+        return CommonKafkaConfig.quarantineTopics("payment.request", "payment.request.priority", "payment.cancel", "payment.cancel.retry");
+    }
+
+    @Bean
+    public ProducerFlushLifecycle producerFlushLifecycle() {
+        return new ProducerFlushLifecycle(List.of(kafkaTemplate(), sagaKafkaTemplate(), quarantineKafkaTemplate()));
+    }
+
+    @Bean
+    public DeadLetterReplayer deadLetterReplayer() {
+        return new DeadLetterReplayer(bootstrapServers);
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
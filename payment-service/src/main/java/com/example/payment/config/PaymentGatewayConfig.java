@@ -0,0 +1,146 @@
+package com.example.payment.config;
+
+import com.example.payment.gateway.AuthorizationBatcher;
+import com.example.payment.gateway.GatewayBehavior;
+import com.example.payment.gateway.GatewayOutageModel;
+import com.example.payment.gateway.HistogramGatewayBehavior;
+import com.example.payment.gateway.PaymentGateway;
+import com.example.payment.gateway.PaymentGatewaySimulator;
+import com.example.payment.gateway.TraceGatewayBehavior;
+import com.example.payment.gateway.UniformGatewayBehavior;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class PaymentGatewayConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentGatewayConfig.class);
+
+    @Value("${payment.gateway.cancel.parallelism:8}")
+    private int cancelParallelism;
+
+    @Value("${payment.gateway.batch.window-ms:20}")
+    private long batchWindowMs;
+
+    @Value("${payment.gateway.batch.max-size:50}")
+    private int batchMaxSize;
+
+    @Value("${payment.gateway.batch.call-parallelism:8}")
+    private int batchCallParallelism;
+
+    @Value("${payment.gateway.batch.queue-capacity:16}")
+    private int batchQueueCapacity;
+
+    @Value("${payment.gateway.simulator.seed:#{null}}")
+    private Long simulatorSeed;
+
+    @Value("${payment.gateway.simulator.authorize.model:uniform}")
+    private String authorizeModel;
+
+    @Value("${payment.gateway.simulator.authorize.min-latency-ms:1000}")
+    private long authorizeMinLatencyMs;
+
+    @Value("${payment.gateway.simulator.authorize.max-latency-ms:3000}")
+    private long authorizeMaxLatencyMs;
+
+    @Value("${payment.gateway.simulator.authorize.success-rate:0.9}")
+    private double authorizeSuccessRate;
+
+    @Value("${payment.gateway.simulator.authorize.source:}")
+    private String authorizeSource;
+
+    @Value("${payment.gateway.simulator.cancel.model:uniform}")
+    private String cancelModel;
+
+    @Value("${payment.gateway.simulator.cancel.min-latency-ms:100}")
+    private long cancelMinLatencyMs;
+
+    @Value("${payment.gateway.simulator.cancel.max-latency-ms:500}")
+    private long cancelMaxLatencyMs;
+
+    @Value("${payment.gateway.simulator.cancel.success-rate:0.95}")
+    private double cancelSuccessRate;
+
+    @Value("${payment.gateway.simulator.cancel.source:}")
+    private String cancelSource;
+
+    @Value("${payment.gateway.simulator.outage.enter-probability:0}")
+    private double outageEnterProbability;
+
+    @Value("${payment.gateway.simulator.outage.exit-probability:0.05}")
+    private double outageExitProbability;
+
+    @Value("${payment.gateway.simulator.outage.latency-multiplier:5}")
+    private double outageLatencyMultiplier;
+
+    @Value("${payment.gateway.simulator.outage.success-rate:0.1}")
+    private double outageSuccessRate;
+
+    /**
+     * 게이트웨이 시뮬레이터 - 승인/취소별 지연/결과 모델 선택 (uniform | histogram | trace)
+     * 시드를 지정하면 모델별 난수열이 고정되어 부하 테스트 결과를 재현할 수 있음
+     */
+    @Bean
+    public PaymentGatewaySimulator paymentGatewaySimulator(ResourceLoader resourceLoader) {
+        long seed = simulatorSeed != null ? simulatorSeed : new Random().nextLong();
+        GatewayOutageModel outage = new GatewayOutageModel(outageEnterProbability, outageExitProbability,
+            outageLatencyMultiplier, outageSuccessRate, new Random(seed + 2));
+
+        GatewayBehavior authorize = outage.wrap(behavior(resourceLoader, "authorize", authorizeModel, authorizeSource,
+            authorizeMinLatencyMs, authorizeMaxLatencyMs, authorizeSuccessRate, new Random(seed)));
+        GatewayBehavior cancel = outage.wrap(behavior(resourceLoader, "cancel", cancelModel, cancelSource,
+            cancelMinLatencyMs, cancelMaxLatencyMs, cancelSuccessRate, new Random(seed + 1)));
+
+        log.info("게이트웨이 시뮬레이터: authorize={}, cancel={}, outageEnter={}, seed={}",
+            authorizeModel, cancelModel, outageEnterProbability, seed);
+        return new PaymentGatewaySimulator(authorize, cancel);
+    }
+
+    private GatewayBehavior behavior(ResourceLoader resourceLoader, String operation, String model, String source,
+                                     long minLatencyMs, long maxLatencyMs, double successRate, Random random) {
+        switch (model) {
+            case "uniform":
+                return new UniformGatewayBehavior(minLatencyMs, maxLatencyMs, successRate, random);
+            case "histogram":
+                return HistogramGatewayBehavior.load(resourceLoader.getResource(requireSource(operation, source)), random);
+            case "trace":
+                return TraceGatewayBehavior.load(resourceLoader.getResource(requireSource(operation, source)), random);
+            default:
+                throw new IllegalArgumentException("알 수 없는 게이트웨이 모델: " + operation + "=" + model);
+        }
+    }
+
+    private String requireSource(String operation, String source) {
+        if (source.isBlank()) {
+            throw new IllegalArgumentException("payment.gateway.simulator." + operation + ".source 필요");
+        }
+        return source;
+    }
+
+    /**
+     * 승인 마이크로 배치 (payment.gateway.batch.enabled=true 일 때만 사용)
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "payment.gateway.batch.enabled", havingValue = "true")
+    public AuthorizationBatcher authorizationBatcher(PaymentGateway paymentGateway) {
+        return new AuthorizationBatcher(paymentGateway::authorizeBatch,
+            batchWindowMs, batchMaxSize, batchCallParallelism, batchQueueCapacity);
+    }
+
+    /**
+     * 일괄 취소 시 게이트웨이 취소 호출 병렬도 제한
+     */
+    @Bean(name = "paymentCancelExecutor", destroyMethod = "shutdown")
+    public ExecutorService paymentCancelExecutor() {
+        return Executors.newFixedThreadPool(cancelParallelism);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.payment.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // 스케줄링 활성화를 위한 설정
+}
@@ -0,0 +1,100 @@
+package com.example.payment.config;
+
+import com.example.payment.shard.ShardRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 결제 DB 샤딩 (payment.sharding.enabled=true 일 때만 사용)
+ * 샤드 0 = spring.datasource (기존 DB, 읽기 모델 포함), 샤드 1..n = payment.sharding.urls
+ * 계정/드라이버는 spring.datasource 를 그대로 사용
+ */
+@Configuration
+@ConditionalOnProperty(name = "payment.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardingConfig.class);
+
+    @Value("${payment.sharding.urls:}")
+    private List<String> urls;
+
+    @Value("${payment.sharding.id-stride:64}")
+    private int idStride;
+
+    @Value("${payment.sharding.init-schema:true}")
+    private boolean initSchema;
+
+    @Value("${payment.sharding.schema-script:classpath:db/payment-shard-schema.sql}")
+    private Resource schemaScript;
+
+    @Bean
+    @Primary
+    public ShardRoutingDataSource dataSource(DataSourceProperties properties) {
+        List<String> shardUrls = new ArrayList<>();
+        shardUrls.add(properties.getUrl());
+        urls.stream().filter(url -> !url.isBlank()).map(String::trim).forEach(shardUrls::add);
+        if (shardUrls.size() > idStride) {
+            throw new IllegalArgumentException("샤드 수(" + shardUrls.size() + ")가 payment.sharding.id-stride(" + idStride + ")보다 큼");
+        }
+
+        List<DataSource> shards = new ArrayList<>();
+        for (int i = 0; i < shardUrls.size(); i++) {
+            HikariDataSource shard = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(shardUrls.get(i))
+                .build();
+            shard.setPoolName("payment-shard-" + i);
+            if (isMySql(shardUrls.get(i))) {
+                // 샤드마다 AUTO_INCREMENT 나머지를 달리해 payment.id 를 전역 유일하게 유지 (읽기 모델/아카이브 키, 재샤딩 시 그대로 이동)
+                shard.setConnectionInitSql("SET SESSION auto_increment_increment = " + idStride
+                    + ", auto_increment_offset = " + (i + 1));
+            }
+            shards.add(shard);
+        }
+
+        if (initSchema) {
+            initializeShards(shards, shardUrls);
+        }
+        log.info("결제 샤드 DataSource: {} 개, idStride={}", shards.size(), idStride);
+        return new ShardRoutingDataSource(shards);
+    }
+
+    /**
+     * 모든 샤드에 결제 테이블 생성 후 AUTO_INCREMENT 를 전체 샤드 최대 id 이후로 올림
+     * (샤딩 전에 샤드 0 에서 연속으로 발급된 id 와 새 샤드의 id 가 겹치지 않도록)
+     */
+    private void initializeShards(List<DataSource> shards, List<String> shardUrls) {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(schemaScript);
+        long maxId = 0;
+        for (DataSource shard : shards) {
+            populator.execute(shard);
+            JdbcTemplate jdbc = new JdbcTemplate(shard);
+            maxId = Math.max(maxId, jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) FROM payment", Long.class));
+            maxId = Math.max(maxId, jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) FROM payment_archive", Long.class));
+        }
+        for (int i = 0; i < shards.size(); i++) {
+            if (isMySql(shardUrls.get(i))) {
+                // 이미 사용 중인 id 이하로는 내려가지 않으므로 여러 인스턴스가 동시에 기동해도 안전
+                new JdbcTemplate(shards.get(i)).execute("ALTER TABLE payment AUTO_INCREMENT = " + (maxId + 1));
+            }
+        }
+    }
+
+    private boolean isMySql(String url) {
+        return url.startsWith("jdbc:mysql:");
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.payment.controller;
+
+import com.example.common.journal.JournalEntry;
+import com.example.common.journal.SagaJournal;
+import com.example.common.journal.SagaJournalReader;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/journal")
+@RequiredArgsConstructor
+public class JournalController {
+    
+    private final SagaJournal sagaJournal;
+    private static final Logger log = LoggerFactory.getLogger(JournalController.class);
+    
+    /**
+     * 저널 디코딩 조회 (sagaId 필터, 최근 N 건)
+     */
+    @GetMapping
+    public ResponseEntity<List<JournalEntry>> read(@RequestParam(required = false) String sagaId,
+                                                   @RequestParam(defaultValue = "100") int tail) {
+        try {
+            return ResponseEntity.ok(SagaJournalReader.read(sagaJournal.getDirectory(), sagaId, tail));
+        } catch (Exception e) {
+            log.error("저널 조회 실패: sagaId={}, error={}", sagaId, e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.payment.controller;
+
+import com.example.payment.domain.PaymentStatus;
+import com.example.payment.domain.PaymentView;
+import com.example.payment.dto.PaymentPage;
+import com.example.payment.service.PaymentQueryService;
+import com.example.payment.service.PaymentViewProjector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/payments")
+@RequiredArgsConstructor
+public class PaymentQueryController {
+    
+    private final PaymentQueryService paymentQueryService;
+    private final PaymentViewProjector paymentViewProjector;
+    
+    /**
+     * 주문 ID로 결제 조회
+     */
+    @GetMapping("/order/{orderId}")
+    public ResponseEntity<List<PaymentView>> getByOrderId(@PathVariable String orderId) {
+        List<PaymentView> payments = paymentQueryService.findByOrderId(orderId);
+        return payments.isEmpty() ? ResponseEntity.notFound().build() : ResponseEntity.ok(payments);
+    }
+    
+    /**
+     * Saga ID로 결제 조회
+     */
+    @GetMapping("/saga/{sagaId}")
+    public ResponseEntity<List<PaymentView>> getBySagaId(@PathVariable String sagaId) {
+        List<PaymentView> payments = paymentQueryService.findBySagaId(sagaId);
+        return payments.isEmpty() ? ResponseEntity.notFound().build() : ResponseEntity.ok(payments);
+    }
+    
+    /**
+     * 상태/기간 조건 목록 조회 (예: /api/payments?status=FAILED&from=2024-01-01T00:00:00&size=50)
+     */
+    @GetMapping
+    public ResponseEntity<PaymentPage> search(
+            @RequestParam(required = false) PaymentStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(paymentQueryService.search(status, from, to, cursor, size));
+    }
+    
+    /**
+     * 읽기 모델 재구성 요청 (비동기)
+     */
+    @PostMapping("/view/rebuild")
+    public ResponseEntity<String> rebuild() {
+        paymentViewProjector.rebuild();
+        return ResponseEntity.accepted().body("결제 읽기 모델 재구성 시작");
+    }
+}
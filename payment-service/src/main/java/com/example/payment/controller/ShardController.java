@@ -0,0 +1,48 @@
+package com.example.payment.controller;
+
+import com.example.payment.dto.ReshardStatus;
+import com.example.payment.service.PaymentReshardService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/shards")
+@RequiredArgsConstructor
+public class ShardController {
+
+    private final PaymentReshardService paymentReshardService;
+    private static final Logger log = LoggerFactory.getLogger(ShardController.class);
+
+    /**
+     * 샤드 배치, 샤드별 결제 건수, 재샤딩 진행 상황
+     */
+    @GetMapping
+    public ResponseEntity<ReshardStatus> getStatus() {
+        try {
+            return ResponseEntity.ok(paymentReshardService.getStatus());
+        } catch (Exception e) {
+            log.error("샤드 상태 조회 실패: error={}", e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * 온라인 재샤딩 시작 (비동기, 진행 상황은 GET /api/shards)
+     */
+    @PostMapping("/reshard")
+    public ResponseEntity<String> reshard() {
+        try {
+            if (!paymentReshardService.start()) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("재샤딩이 이미 실행 중");
+            }
+            return ResponseEntity.accepted().body("재샤딩 시작");
+
+        } catch (IllegalStateException e) {
+            return ResponseEntity.badRequest().body("샤딩이 꺼져 있음: " + e.getMessage());
+        }
+    }
+}
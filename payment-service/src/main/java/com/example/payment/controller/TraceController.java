@@ -0,0 +1,35 @@
+package com.example.payment.controller;
+
+import com.example.common.tracing.LocalSpanExporter;
+import com.example.common.tracing.TraceSpan;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/traces")
+@RequiredArgsConstructor
+public class TraceController {
+    
+    private final LocalSpanExporter localSpanExporter;
+    
+    /**
+     * 스팬 이름별 지연 분해 (최근 보관 스팬 기준)
+     */
+    @GetMapping("/breakdown")
+    public ResponseEntity<Map<String, LocalSpanExporter.SpanStats>> getBreakdown() {
+        return ResponseEntity.ok(localSpanExporter.getBreakdown());
+    }
+    
+    /**
+     * 트레이스 하나의 스팬 목록 (시작 시각 순)
+     */
+    @GetMapping("/{traceId}")
+    public ResponseEntity<List<TraceSpan>> getTrace(@PathVariable String traceId) {
+        List<TraceSpan> spans = localSpanExporter.getTrace(traceId);
+        return spans.isEmpty() ? ResponseEntity.notFound().build() : ResponseEntity.ok(spans);
+    }
+}
@@ -7,6 +7,12 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_payment_order_id", columnList = "orderId"),
+    @Index(name = "idx_payment_saga_id", columnList = "sagaId"),
+    @Index(name = "idx_payment_status_created_at", columnList = "status, createdAt"),
+    @Index(name = "idx_payment_updated_at", columnList = "updatedAt, id")
+})
 @Getter
 @Setter
 public class Payment {
@@ -18,13 +24,20 @@ public class Payment {
     private BigDecimal amount;
     private String currency;
     private String paymentMethod;
-    private String status;
+    private PaymentStatus status;
     private String sagaId;  // Saga 트랜잭션 ID
     private String failureReason;
     private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;  // 마지막 상태 변경 시각 (조건부 UPDATE 도 함께 갱신)
     
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
     }
 } 
\ No newline at end of file
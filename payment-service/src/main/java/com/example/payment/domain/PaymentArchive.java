@@ -0,0 +1,50 @@
+package com.example.payment.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 결제 (콜드 테이블, archiveMonth 기준 분할)
+ */
+@Entity
+@Table(name = "payment_archive", indexes = {
+    @Index(name = "idx_payment_archive_order_id", columnList = "orderId"),
+    @Index(name = "idx_payment_archive_month", columnList = "archiveMonth")
+})
+@Getter
+@Setter
+public class PaymentArchive {
+    @Id
+    private Long id;  // 원본 payment.id 유지
+    
+    private String orderId;
+    private BigDecimal amount;
+    private String currency;
+    private String paymentMethod;
+    private PaymentStatus status;
+    private String sagaId;
+    private String failureReason;
+    private LocalDateTime createdAt;
+    
+    private Integer archiveMonth;  // yyyyMM (createdAt 기준)
+    private LocalDateTime archivedAt;
+    
+    public static PaymentArchive from(Payment payment) {
+        PaymentArchive archive = new PaymentArchive();
+        archive.setId(payment.getId());
+        archive.setOrderId(payment.getOrderId());
+        archive.setAmount(payment.getAmount());
+        archive.setCurrency(payment.getCurrency());
+        archive.setPaymentMethod(payment.getPaymentMethod());
+        archive.setStatus(payment.getStatus());
+        archive.setSagaId(payment.getSagaId());
+        archive.setFailureReason(payment.getFailureReason());
+        archive.setCreatedAt(payment.getCreatedAt());
+        archive.setArchiveMonth(payment.getCreatedAt().getYear() * 100 + payment.getCreatedAt().getMonthValue());
+        archive.setArchivedAt(LocalDateTime.now());
+        return archive;
+    }
+}
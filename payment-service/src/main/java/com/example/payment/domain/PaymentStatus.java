@@ -0,0 +1,41 @@
+package com.example.payment.domain;
+
+/**
+ * 결제 상태 (code 는 DB 에 저장되므로 변경하지 않고 추가만 함)
+ */
+public enum PaymentStatus {
+    PROCESSING(1),
+    COMPLETED(2),
+    FAILED(3),
+    ERROR(4),
+    CANCELLED(5),
+    CANCEL_FAILED(6),
+    /** 게이트웨이 취소 호출 중 (선점한 한 곳만 취소하도록 COMPLETED 에서 전이) */
+    CANCELLING(7);
+
+    private static final PaymentStatus[] BY_CODE = new PaymentStatus[16];
+
+    static {
+        for (PaymentStatus value : values()) {
+            BY_CODE[value.code] = value;
+        }
+    }
+
+    private final short code;
+
+    PaymentStatus(int code) {
+        this.code = (short) code;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    public static PaymentStatus fromCode(short code) {
+        PaymentStatus value = code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+        if (value == null) {
+            throw new IllegalArgumentException("알 수 없는 PaymentStatus 코드: " + code);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.payment.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * PaymentStatus 을 SMALLINT 코드로 저장
+ */
+@Converter(autoApply = true)
+public class PaymentStatusConverter implements AttributeConverter<PaymentStatus, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(PaymentStatus value) {
+        return value != null ? value.getCode() : null;
+    }
+
+    @Override
+    public PaymentStatus convertToEntityAttribute(Short code) {
+        return code != null ? PaymentStatus.fromCode(code) : null;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.payment.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 조회 전용 결제 읽기 모델 (결제 쓰기 경로가 커밋 후 비동기로 갱신, 아카이브 후에도 유지)
+ */
+@Entity
+@Table(name = "payment_view", indexes = {
+    @Index(name = "idx_payment_view_order_id", columnList = "orderId"),
+    @Index(name = "idx_payment_view_saga_id", columnList = "sagaId"),
+    @Index(name = "idx_payment_view_status_id", columnList = "status, paymentId"),
+    @Index(name = "idx_payment_view_created_at", columnList = "createdAt"),
+    @Index(name = "idx_payment_view_updated_at", columnList = "updatedAt")
+})
+@Getter
+@Setter
+public class PaymentView {
+    @Id
+    private Long paymentId;  // 원본 payment.id
+    
+    private String orderId;
+    private String sagaId;
+    private BigDecimal amount;
+    private String currency;
+    private String paymentMethod;
+    private PaymentStatus status;
+    private String failureReason;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    
+    public static PaymentView from(Payment payment) {
+        PaymentView view = new PaymentView();
+        view.setPaymentId(payment.getId());
+        view.setOrderId(payment.getOrderId());
+        view.setSagaId(payment.getSagaId());
+        view.setAmount(payment.getAmount());
+        view.setCurrency(payment.getCurrency());
+        view.setPaymentMethod(payment.getPaymentMethod());
+        view.setStatus(payment.getStatus());
+        view.setFailureReason(payment.getFailureReason());
+        view.setCreatedAt(payment.getCreatedAt());
+        view.setUpdatedAt(LocalDateTime.now());
+        return view;
+    }
+}
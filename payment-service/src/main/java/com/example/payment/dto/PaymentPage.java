@@ -0,0 +1,19 @@
+package com.example.payment.dto;
+
+import com.example.payment.domain.PaymentView;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 결제 목록 조회 결과 (nextCursor 가 null 이면 마지막 페이지)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentPage {
+    private List<PaymentView> items;
+    private Long nextCursor;
+}
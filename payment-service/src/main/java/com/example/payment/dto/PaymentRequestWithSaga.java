@@ -1,11 +1,17 @@
 package com.example.payment.dto;
 
+import com.example.common.kafka.MinorUnits;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 
+/**
+ * Saga 결제 요청 (saga.kafka.minor-unit-amounts=true 이면 amount 대신 amountMinor 로 전송)
+ */
 @Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @NoArgsConstructor
 @AllArgsConstructor
 public class PaymentRequestWithSaga {
@@ -14,4 +20,12 @@ public class PaymentRequestWithSaga {
     private String currency;
     private String paymentMethod;
     private String sagaId;
+    private Long amountMinor;  // 최소 화폐 단위 금액 (MinorUnits.SCALE)
+    
+    /**
+     * 금액 (amount 가 없으면 amountMinor 에서 복원)
+     */
+    public BigDecimal resolveAmount() {
+        return amount != null || amountMinor == null ? amount : MinorUnits.toDecimal(amountMinor);
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.example.payment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 샤드 배치 / 재샤딩 진행 상황
+ * (conflicts: 복사 도중 원본이 바뀌어 다음 패스로 미룬 건수)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReshardStatus {
+    private int count;
+    private int previousCount;
+    private int partitions;
+    private List<Long> rowsPerShard;
+    private boolean running;
+    private long scanned;
+    private long moved;
+    private long conflicts;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String lastError;
+}
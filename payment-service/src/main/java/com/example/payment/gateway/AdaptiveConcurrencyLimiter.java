@@ -0,0 +1,92 @@
+package com.example.payment.gateway;
+
+/**
+ * 지연 시간 기울기(gradient) 기반 적응형 동시 호출 한도
+ * - 장기 평균 RTT 대비 최근 RTT가 커지면 한도를 줄이고, 작으면 늘림
+ * - 한도를 넘는 호출은 대기하지 않고 즉시 거절
+ */
+public class AdaptiveConcurrencyLimiter {
+    
+    private static final double LONG_RTT_ALPHA = 0.01;
+    private static final double SMOOTHING = 0.2;
+    
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    
+    private double limit;
+    private double longRttNanos = -1;
+    private int inFlight = 0;
+    private long rejected = 0;
+    
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit) {
+        this.name = name;
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+    
+    public synchronized boolean tryAcquire() {
+        return tryAcquire(1.0);
+    }
+    
+    /**
+     * 한도의 maxShare 비율까지만 사용 (나머지는 우선 호출용으로 남겨 둠)
+     */
+    public synchronized boolean tryAcquire(double maxShare) {
+        if (inFlight >= Math.max(1, (int) (limit * maxShare))) {
+            rejected++;
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+    
+    /**
+     * 호출 완료 기록
+     *
+     * @param rttNanos 호출 소요 시간
+     * @param dropped  타임아웃/오류 등 과부하 신호 여부
+     */
+    public synchronized void release(long rttNanos, boolean dropped) {
+        int inFlightAtStart = inFlight;
+        inFlight = Math.max(0, inFlight - 1);
+        
+        if (dropped) {
+            limit = Math.max(minLimit, limit * 0.9);
+            return;
+        }
+        
+        if (longRttNanos < 0) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos = (1 - LONG_RTT_ALPHA) * longRttNanos + LONG_RTT_ALPHA * rttNanos;
+        }
+        
+        // 한도의 절반도 쓰지 않는 상태에서는 늘리지 않음 (수요 부족을 여유로 오인하지 않도록)
+        if (inFlightAtStart < limit / 2) {
+            return;
+        }
+        
+        double gradient = Math.max(0.5, Math.min(1.0, longRttNanos / rttNanos));
+        double queueSize = Math.sqrt(limit);
+        double newLimit = limit * gradient + queueSize;
+        limit = Math.max(minLimit, Math.min(maxLimit, (1 - SMOOTHING) * limit + SMOOTHING * newLimit));
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+    
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+    
+    public synchronized long getRejected() {
+        return rejected;
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.payment.gateway;
+
+import com.example.payment.domain.Payment;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 승인 요청을 최대 windowMs 동안 또는 maxBatchSize 건까지 모아 한 번의 게이트웨이 배치 호출로 전송
+ *
+ * 호출 대기 배치는 queueCapacity 개까지만 쌓고, 가득 차면 배치를 넘기는 스레드(리스너 또는 타이머)가 자리가 날 때까지 멈춤
+ * (리스너가 멈추면 다음 poll 도 멈추므로, 오프셋은 커밋됐지만 승인되지 않은 요청이 메모리에 무한히 쌓이지 않음)
+ */
+public class AuthorizationBatcher {
+    
+    private static final Logger log = LoggerFactory.getLogger(AuthorizationBatcher.class);
+    
+    private final Function<List<Payment>, List<Boolean>> batchCall;
+    private final long windowMs;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService timer;
+    private final ThreadPoolExecutor callExecutor;
+    
+    private List<Pending> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+    
+    public AuthorizationBatcher(Function<List<Payment>, List<Boolean>> batchCall,
+                                long windowMs, int maxBatchSize, int callParallelism, int queueCapacity) {
+        this.batchCall = batchCall;
+        this.windowMs = windowMs;
+        this.maxBatchSize = maxBatchSize;
+        this.timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "auth-batch-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.callExecutor = new ThreadPoolExecutor(callParallelism, callParallelism, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), r -> {
+                Thread thread = new Thread(r, "auth-batch-call");
+                thread.setDaemon(true);
+                return thread;
+            }, new BlockCaller());
+    }
+    
+    /**
+     * 승인 요청 등록 (배치 호출 완료 시 해당 건의 결과로 완료)
+     */
+    public CompletableFuture<Boolean> submit(Payment payment) {
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        List<Pending> ready = null;
+        
+        synchronized (this) {
+            pending.add(new Pending(payment, future));
+            if (pending.size() >= maxBatchSize) {
+                ready = drain();
+            } else if (pending.size() == 1) {
+                scheduledFlush = timer.schedule(this::flush, windowMs, TimeUnit.MILLISECONDS);
+            }
+        }
+        
+        if (ready != null) {
+            dispatch(ready);
+        }
+        return future;
+    }
+    
+    private void flush() {
+        List<Pending> ready;
+        synchronized (this) {
+            ready = drain();
+        }
+        if (!ready.isEmpty()) {
+            dispatch(ready);
+        }
+    }
+    
+    private List<Pending> drain() {
+        List<Pending> ready = pending;
+        pending = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return ready;
+    }
+    
+    private void dispatch(List<Pending> batch) {
+        try {
+            callExecutor.execute(() -> call(batch));
+        } catch (RejectedExecutionException e) {
+            log.warn("게이트웨이 배치 승인 전송 불가: size={}, error={}", batch.size(), e.getMessage());
+            for (Pending p : batch) {
+                p.future.completeExceptionally(e);
+            }
+        }
+    }
+    
+    private void call(List<Pending> batch) {
+        try {
+            List<Payment> payments = new ArrayList<>(batch.size());
+            for (Pending p : batch) {
+                payments.add(p.payment);
+            }
+            
+            List<Boolean> results = batchCall.apply(payments);
+            if (results == null || results.size() != batch.size()) {
+                // 어느 건의 결과인지 알 수 없으므로 거절로 보지 않고 배치 전체를 미확정 처리
+                throw new GatewayOutcomeUnknownException("게이트웨이 배치 응답 건수 불일치: requested=" + batch.size()
+                    + ", received=" + (results == null ? 0 : results.size()));
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future.complete(Boolean.TRUE.equals(results.get(i)));
+            }
+            
+        } catch (Exception e) {
+            log.warn("게이트웨이 배치 승인 실패: size={}, error={}", batch.size(), e.getMessage());
+            for (Pending p : batch) {
+                p.future.completeExceptionally(e);
+            }
+        }
+    }
+    
+    public void shutdown() {
+        flush();
+        timer.shutdown();
+        callExecutor.shutdown();
+    }
+    
+    /**
+     * 호출 대기열이 가득 차면 넘기는 스레드를 대기열에 자리가 날 때까지 멈춤
+     */
+    private static final class BlockCaller implements RejectedExecutionHandler {
+        
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("승인 배치 실행기 종료됨");
+            }
+            try {
+                executor.getQueue().put(task);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("승인 배치 대기 중 인터럽트", e);
+            }
+        }
+    }
+    
+    private static final class Pending {
+        private final Payment payment;
+        private final CompletableFuture<Boolean> future;
+        
+        private Pending(Payment payment, CompletableFuture<Boolean> future) {
+            this.payment = payment;
+            this.future = future;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.payment.gateway;
+
+/**
+ * 게이트웨이 응답 지연/결과 분포 모델
+ * 같은 시드로 만든 모델은 호출 순서가 같으면 같은 결과 순서를 냄
+ */
+public interface GatewayBehavior {
+
+    GatewaySample next();
+}
@@ -0,0 +1,47 @@
+package com.example.payment.gateway;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.core.io.Resource;
+
+/**
+ * 히스토그램/트레이스 CSV 를 숫자 행 목록으로 읽음
+ */
+final class GatewayCsv {
+
+    private GatewayCsv() {
+    }
+
+    static List<long[]> read(Resource resource, int columns) {
+        List<long[]> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#") || !Character.isDigit(line.charAt(0))) {
+                    continue;
+                }
+                String[] fields = line.split(",");
+                if (fields.length < columns) {
+                    throw new IllegalStateException(resource.getDescription() + ":" + lineNumber + " 컬럼 수 부족 (필요: " + columns + ")");
+                }
+                long[] row = new long[columns];
+                for (int i = 0; i < columns; i++) {
+                    row[i] = Long.parseLong(fields[i].strip());
+                }
+                rows.add(row);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("게이트웨이 모델 파일 읽기 실패: " + resource.getDescription(), e);
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("게이트웨이 모델 파일 형식 오류: " + resource.getDescription() + " (" + e.getMessage() + ")", e);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.payment.gateway;
+
+import java.util.Random;
+
+/**
+ * 상관된 장애 구간 모델 (정상/장애 2상태 마르코프 체인)
+ *
+ * 호출마다 상태를 한 번 전이시키고, 장애 상태에서는 원래 모델의 지연에 배수를 곱하고 성공 여부를 장애 성공률로 다시 뽑음
+ * 승인/취소가 같은 인스턴스를 공유하므로 PSP 장애가 두 호출에 동시에 나타남
+ * 평균 장애 지속 호출 수 = 1 / exitProbability
+ */
+public class GatewayOutageModel {
+
+    private final double enterProbability;
+    private final double exitProbability;
+    private final double latencyMultiplier;
+    private final double successRate;
+    private final Random random;
+
+    private boolean down = false;
+
+    public GatewayOutageModel(double enterProbability, double exitProbability,
+                              double latencyMultiplier, double successRate, Random random) {
+        this.enterProbability = enterProbability;
+        this.exitProbability = exitProbability;
+        this.latencyMultiplier = latencyMultiplier;
+        this.successRate = successRate;
+        this.random = random;
+    }
+
+    public GatewayBehavior wrap(GatewayBehavior delegate) {
+        if (enterProbability <= 0) {
+            return delegate;
+        }
+        return () -> {
+            GatewaySample sample = delegate.next();
+            // 상태 전이와 장애 판정을 한 번에 처리해 호출 순서와 난수 소비 순서를 일치시킴
+            synchronized (this) {
+                down = down ? random.nextDouble() >= exitProbability : random.nextDouble() < enterProbability;
+                if (!down) {
+                    return sample;
+                }
+                return new GatewaySample((long) (sample.getLatencyMs() * latencyMultiplier), random.nextDouble() < successRate);
+            }
+        };
+    }
+
+    public synchronized boolean isDown() {
+        return down;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.payment.gateway;
+
+/**
+ * 게이트웨이를 호출했지만 건별 승인 결과를 알 수 없음 (승인됐을 수 있으므로 거절로 보지 않음)
+ */
+public class GatewayOutcomeUnknownException extends RuntimeException {
+    
+    public GatewayOutcomeUnknownException(String message) {
+        super(message);
+    }
+}
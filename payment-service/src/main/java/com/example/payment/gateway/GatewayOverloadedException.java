@@ -0,0 +1,13 @@
+package com.example.payment.gateway;
+
+/**
+ * 게이트웨이 동시 호출 한도 초과로 호출하지 않고 즉시 실패
+ */
+public class GatewayOverloadedException extends RuntimeException {
+    
+    public static final String REASON = "GATEWAY_OVERLOADED";
+    
+    public GatewayOverloadedException(String operation, int limit) {
+        super(REASON + ": operation=" + operation + ", limit=" + limit);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.payment.gateway;
+
+/**
+ * 게이트웨이에 기록된 결제 상태 (결과를 모르는 승인/취소를 대사할 때 조회)
+ */
+public enum GatewayPaymentState {
+    AUTHORIZED,
+    DECLINED,
+    CANCELLED,
+    /** 게이트웨이에 기록이 없음 (호출이 도달하지 않았거나 조회 보관 기간이 지남) */
+    UNKNOWN
+}
@@ -0,0 +1,15 @@
+package com.example.payment.gateway;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게이트웨이 호출 한 건의 시뮬레이션 결과 (응답 지연 + 성공 여부)
+ */
+@Getter
+@RequiredArgsConstructor
+public class GatewaySample {
+
+    private final long latencyMs;
+    private final boolean success;
+}
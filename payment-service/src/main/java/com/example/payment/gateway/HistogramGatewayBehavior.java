@@ -0,0 +1,91 @@
+package com.example.payment.gateway;
+
+import java.util.List;
+import java.util.Random;
+import org.springframework.core.io.Resource;
+
+/**
+ * 기록된 지연 히스토그램 기반 모델
+ *
+ * CSV 한 줄이 버킷 하나: upper_ms,successes,failures (upper_ms 는 0 보다 큰 오름차순, 하한은 이전 버킷의 upper_ms)
+ * 건수가 0 인 버킷은 허용하되 뽑히지 않음
+ * 버킷을 건수 비율로 고른 뒤 버킷 안에서는 균등 분포로 지연을 정하고, 성공 여부는 해당 버킷의 성공 비율을 따름
+ * (긴 꼬리 구간의 타임아웃성 실패처럼 지연과 실패의 상관관계가 유지됨)
+ */
+public class HistogramGatewayBehavior implements GatewayBehavior {
+
+    private final long[] upperMs;
+    private final long[] successes;
+    private final long[] cumulative;
+    private final Random random;
+
+    public HistogramGatewayBehavior(long[] upperMs, long[] successes, long[] failures, Random random) {
+        if (upperMs.length == 0 || upperMs.length != successes.length || upperMs.length != failures.length) {
+            throw new IllegalArgumentException("히스토그램 버킷이 비어 있거나 길이가 다름");
+        }
+        this.upperMs = upperMs.clone();
+        this.successes = successes.clone();
+        this.cumulative = new long[upperMs.length];
+        long total = 0;
+        for (int i = 0; i < upperMs.length; i++) {
+            if (i == 0 && upperMs[i] <= 0) {
+                throw new IllegalArgumentException("히스토그램 첫 버킷 upper_ms 는 0 보다 커야 함: " + upperMs[i]);
+            }
+            if (i > 0 && upperMs[i] <= upperMs[i - 1]) {
+                throw new IllegalArgumentException("히스토그램 upper_ms 는 오름차순이어야 함: " + upperMs[i]);
+            }
+            if (successes[i] < 0 || failures[i] < 0) {
+                throw new IllegalArgumentException("히스토그램 건수는 음수일 수 없음: upper_ms=" + upperMs[i]);
+            }
+            total += successes[i] + failures[i];
+            cumulative[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("히스토그램 건수가 0");
+        }
+        this.random = random;
+    }
+
+    /**
+     * CSV 히스토그램 로드 (빈 줄, '#' 주석, 숫자로 시작하지 않는 헤더 줄은 무시)
+     */
+    public static HistogramGatewayBehavior load(Resource resource, Random random) {
+        List<long[]> rows = GatewayCsv.read(resource, 3);
+        long[] upper = new long[rows.size()];
+        long[] ok = new long[rows.size()];
+        long[] failed = new long[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            upper[i] = rows.get(i)[0];
+            ok[i] = rows.get(i)[1];
+            failed[i] = rows.get(i)[2];
+        }
+        return new HistogramGatewayBehavior(upper, ok, failed, random);
+    }
+
+    @Override
+    public GatewaySample next() {
+        long pick = random.nextLong(cumulative[cumulative.length - 1]);
+        int bucket = bucketOf(pick);
+        long lower = bucket == 0 ? 0 : upperMs[bucket - 1];
+        long latency = lower + random.nextLong(upperMs[bucket] - lower);
+        long bucketCount = cumulative[bucket] - (bucket == 0 ? 0 : cumulative[bucket - 1]);
+        return new GatewaySample(latency, random.nextLong(bucketCount) < successes[bucket]);
+    }
+
+    /**
+     * cumulative[i] > pick 인 첫 버킷 (누적값이 같은 건수 0 버킷은 건너뜀)
+     */
+    private int bucketOf(long pick) {
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] > pick) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
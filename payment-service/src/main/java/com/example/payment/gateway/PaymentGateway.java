@@ -0,0 +1,142 @@
+package com.example.payment.gateway;
+
+import com.example.common.kafka.PaymentLane;
+import com.example.payment.domain.Payment;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게이트웨이 호출 진입점 - 승인/취소 벌크헤드를 분리해 취소가 승인 호출에 밀리지 않도록 함
+ * 승인 한도 중 payment.lanes.reserved-share 만큼은 우선 레인 전용으로 남겨 일반 레인 폭주 중에도 우선 결제가 거절되지 않도록 함
+ */
+@Component
+public class PaymentGateway {
+    
+    private final PaymentGatewaySimulator simulator;
+    private final AdaptiveConcurrencyLimiter authorizeLimiter;
+    private final AdaptiveConcurrencyLimiter cancelLimiter;
+    private final Counter authorizeRejected;
+    private final Counter cancelRejected;
+    private final ObservationRegistry observationRegistry;
+    private final double normalLaneShare;
+    private final Map<PaymentLane, Counter> laneRejected = new EnumMap<>(PaymentLane.class);
+    
+    public PaymentGateway(PaymentGatewaySimulator simulator,
+                          MeterRegistry meterRegistry,
+                          ObservationRegistry observationRegistry,
+                          @Value("${payment.gateway.authorize.initial-limit:20}") int authorizeInitialLimit,
+                          @Value("${payment.gateway.authorize.min-limit:2}") int authorizeMinLimit,
+                          @Value("${payment.gateway.authorize.max-limit:200}") int authorizeMaxLimit,
+                          @Value("${payment.gateway.cancel.initial-limit:10}") int cancelInitialLimit,
+                          @Value("${payment.gateway.cancel.min-limit:2}") int cancelMinLimit,
+                          @Value("${payment.gateway.cancel.max-limit:100}") int cancelMaxLimit,
+                          @Value("${payment.lanes.reserved-share:0.2}") double reservedShare) {
+        this.simulator = simulator;
+        this.observationRegistry = observationRegistry;
+        this.authorizeLimiter = new AdaptiveConcurrencyLimiter("authorize", authorizeInitialLimit, authorizeMinLimit, authorizeMaxLimit);
+        this.cancelLimiter = new AdaptiveConcurrencyLimiter("cancel", cancelInitialLimit, cancelMinLimit, cancelMaxLimit);
+        this.authorizeRejected = registerMetrics(meterRegistry, authorizeLimiter);
+        this.cancelRejected = registerMetrics(meterRegistry, cancelLimiter);
+        this.normalLaneShare = 1.0 - reservedShare;
+        for (PaymentLane lane : PaymentLane.values()) {
+            laneRejected.put(lane, Counter.builder("payment.lane.rejected")
+                .tag("lane", lane.getTag())
+                .register(meterRegistry));
+        }
+    }
+    
+    private Counter registerMetrics(MeterRegistry meterRegistry, AdaptiveConcurrencyLimiter limiter) {
+        Gauge.builder("payment.gateway.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+            .tag("operation", limiter.getName())
+            .register(meterRegistry);
+        Gauge.builder("payment.gateway.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+            .tag("operation", limiter.getName())
+            .register(meterRegistry);
+        return Counter.builder("payment.gateway.rejected")
+            .tag("operation", limiter.getName())
+            .register(meterRegistry);
+    }
+    
+    /**
+     * 결제 승인 (일반 레인은 예약분을 뺀 한도까지, 우선 레인은 전체 한도까지 사용)
+     *
+     * @throws GatewayOverloadedException 동시 호출 한도 초과
+     */
+    public boolean authorize(Payment payment, PaymentLane lane) {
+        if (!authorizeLimiter.tryAcquire(lane == PaymentLane.PRIORITY ? 1.0 : normalLaneShare)) {
+            authorizeRejected.increment();
+            laneRejected.get(lane).increment();
+            throw new GatewayOverloadedException("authorize", authorizeLimiter.getLimit());
+        }
+        long start = System.nanoTime();
+        boolean dropped = false;
+        try {
+            return Observation.createNotStarted("payment.gateway.authorize", observationRegistry).observe(() -> simulator.authorize(payment));
+        } catch (RuntimeException e) {
+            dropped = true;
+            throw e;
+        } finally {
+            authorizeLimiter.release(System.nanoTime() - start, dropped);
+        }
+    }
+    
+    /**
+     * 배치 결제 승인 (일반 레인 전용, 배치 한 번이 승인 한도 1개를 사용)
+     *
+     * @throws GatewayOverloadedException 동시 호출 한도 초과
+     */
+    public List<Boolean> authorizeBatch(List<Payment> payments) {
+        if (!authorizeLimiter.tryAcquire(normalLaneShare)) {
+            authorizeRejected.increment(payments.size());
+            laneRejected.get(PaymentLane.NORMAL).increment(payments.size());
+            throw new GatewayOverloadedException("authorize", authorizeLimiter.getLimit());
+        }
+        long start = System.nanoTime();
+        boolean dropped = false;
+        try {
+            return Observation.createNotStarted("payment.gateway.authorize-batch", observationRegistry).observe(() -> simulator.authorizeBatch(payments));
+        } catch (RuntimeException e) {
+            dropped = true;
+            throw e;
+        } finally {
+            authorizeLimiter.release(System.nanoTime() - start, dropped);
+        }
+    }
+    
+    /**
+     * 결제 취소
+     *
+     * @throws GatewayOverloadedException 동시 호출 한도 초과
+     */
+    public boolean cancel(Payment payment) {
+        if (!cancelLimiter.tryAcquire()) {
+            cancelRejected.increment();
+            throw new GatewayOverloadedException("cancel", cancelLimiter.getLimit());
+        }
+        long start = System.nanoTime();
+        boolean dropped = false;
+        try {
+            return Observation.createNotStarted("payment.gateway.cancel", observationRegistry).observe(() -> simulator.cancel(payment));
+        } catch (RuntimeException e) {
+            dropped = true;
+            throw e;
+        } finally {
+            cancelLimiter.release(System.nanoTime() - start, dropped);
+        }
+    }
+    
+    /**
+     * 게이트웨이에 기록된 결제 상태 조회 (결과를 모르는 승인/취소 대사용, 동시 호출 한도와 무관)
+     */
+    public GatewayPaymentState inquire(Payment payment) {
+        return Observation.createNotStarted("payment.gateway.inquire", observationRegistry).observe(() -> simulator.inquire(payment));
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.payment.gateway;
+
+import com.example.payment.domain.Payment;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 외부 결제 게이트웨이(PSP) 호출 시뮬레이션
+ * 승인/취소 응답 지연과 결과는 GatewayBehavior 모델이 정함 (payment.gateway.simulator.* 설정)
+ * 처리한 결제의 최종 상태는 최근 STATE_CAPACITY 건까지 sagaId 기준으로 기억해 상태 조회에 답함
+ * (결제 ID 는 샤드마다 따로 증가하므로 키로 쓰지 않음)
+ */
+public class PaymentGatewaySimulator {
+    
+    private static final Logger log = LoggerFactory.getLogger(PaymentGatewaySimulator.class);
+    
+    private static final int STATE_CAPACITY = 100_000;
+    
+    private final GatewayBehavior authorizeBehavior;
+    private final GatewayBehavior cancelBehavior;
+    private final Map<String, GatewayPaymentState> states = Collections.synchronizedMap(
+        new LinkedHashMap<>(1024, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, GatewayPaymentState> eldest) {
+                return size() > STATE_CAPACITY;
+            }
+        });
+    
+    public PaymentGatewaySimulator(GatewayBehavior authorizeBehavior, GatewayBehavior cancelBehavior) {
+        this.authorizeBehavior = authorizeBehavior;
+        this.cancelBehavior = cancelBehavior;
+    }
+    
+    /**
+     * 결제 승인
+     */
+    public boolean authorize(Payment payment) {
+        try {
+            // 실제로는 외부 결제 API 호출
+            GatewaySample sample = authorizeBehavior.next();
+            Thread.sleep(sample.getLatencyMs());
+            record(payment, sample.isSuccess() ? GatewayPaymentState.AUTHORIZED : GatewayPaymentState.DECLINED);
+            return sample.isSuccess();
+            
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.error("외부 결제 처리 오류: {}", e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * 배치 결제 승인 (한 번의 호출로 여러 건 승인)
+     * 호출 지연은 첫 샘플 지연 + 건당 10ms, 건별 결과는 건마다 샘플링
+     */
+    public List<Boolean> authorizeBatch(List<Payment> payments) {
+        List<Boolean> results = new ArrayList<>(payments.size());
+        long latencyMs = 0;
+        for (int i = 0; i < payments.size(); i++) {
+            GatewaySample sample = authorizeBehavior.next();
+            if (i == 0) {
+                latencyMs = sample.getLatencyMs();
+            }
+            results.add(sample.isSuccess());
+        }
+        try {
+            Thread.sleep(latencyMs + 10L * payments.size());
+            for (int i = 0; i < payments.size(); i++) {
+                record(payments.get(i), results.get(i) ? GatewayPaymentState.AUTHORIZED : GatewayPaymentState.DECLINED);
+            }
+            return results;
+            
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("배치 승인 중단", e);
+        }
+    }
+    
+    /**
+     * 결제 취소
+     */
+    public boolean cancel(Payment payment) {
+        try {
+            // 실제로는 외부 결제 취소 API 호출
+            log.info("외부 결제 취소 API 호출: paymentId={}", payment.getId());
+            GatewaySample sample = cancelBehavior.next();
+            Thread.sleep(sample.getLatencyMs());
+            if (sample.isSuccess()) {
+                record(payment, GatewayPaymentState.CANCELLED);
+            }
+            return sample.isSuccess();
+            
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.error("외부 결제 취소 오류: {}", e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * 결제 상태 조회 (실제로는 외부 결제 조회 API 호출)
+     */
+    public GatewayPaymentState inquire(Payment payment) {
+        GatewayPaymentState state = payment.getSagaId() != null ? states.get(payment.getSagaId()) : null;
+        return state != null ? state : GatewayPaymentState.UNKNOWN;
+    }
+    
+    private void record(Payment payment, GatewayPaymentState state) {
+        if (payment.getSagaId() != null) {
+            states.put(payment.getSagaId(), state);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.payment.gateway;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.core.io.Resource;
+
+/**
+ * 기록된 호출 트레이스 재생 모델
+ *
+ * CSV 한 줄이 호출 하나: latency_ms,success (success 는 1/0)
+ * 기록 순서대로 재생하므로 버스트, 연속 실패 구간 같은 시간 상관관계가 그대로 재현됨
+ * 시작 위치만 시드로 정하고 끝에 닿으면 처음부터 반복
+ */
+public class TraceGatewayBehavior implements GatewayBehavior {
+
+    private final long[] latencyMs;
+    private final boolean[] success;
+    private final AtomicLong cursor;
+
+    public TraceGatewayBehavior(long[] latencyMs, boolean[] success, Random random) {
+        if (latencyMs.length == 0 || latencyMs.length != success.length) {
+            throw new IllegalArgumentException("트레이스가 비어 있거나 길이가 다름");
+        }
+        this.latencyMs = latencyMs.clone();
+        this.success = success.clone();
+        this.cursor = new AtomicLong(random.nextInt(latencyMs.length));
+    }
+
+    /**
+     * CSV 트레이스 로드 (빈 줄, '#' 주석, 숫자로 시작하지 않는 헤더 줄은 무시)
+     */
+    public static TraceGatewayBehavior load(Resource resource, Random random) {
+        List<long[]> rows = GatewayCsv.read(resource, 2);
+        long[] latency = new long[rows.size()];
+        boolean[] ok = new boolean[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            latency[i] = rows.get(i)[0];
+            ok[i] = rows.get(i)[1] != 0;
+        }
+        return new TraceGatewayBehavior(latency, ok, random);
+    }
+
+    @Override
+    public GatewaySample next() {
+        int index = (int) Math.floorMod(cursor.getAndIncrement(), (long) latencyMs.length);
+        return new GatewaySample(latencyMs[index], success[index]);
+    }
+}
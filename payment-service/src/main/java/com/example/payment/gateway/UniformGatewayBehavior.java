@@ -0,0 +1,30 @@
+package com.example.payment.gateway;
+
+import java.util.Random;
+
+/**
+ * 균등 분포 지연 + 고정 성공률 (기존 시뮬레이터 동작)
+ */
+public class UniformGatewayBehavior implements GatewayBehavior {
+
+    private final long minLatencyMs;
+    private final long maxLatencyMs;
+    private final double successRate;
+    private final Random random;
+
+    public UniformGatewayBehavior(long minLatencyMs, long maxLatencyMs, double successRate, Random random) {
+        if (minLatencyMs < 0 || maxLatencyMs < minLatencyMs) {
+            throw new IllegalArgumentException("잘못된 지연 범위: " + minLatencyMs + "~" + maxLatencyMs);
+        }
+        this.minLatencyMs = minLatencyMs;
+        this.maxLatencyMs = maxLatencyMs;
+        this.successRate = successRate;
+        this.random = random;
+    }
+
+    @Override
+    public GatewaySample next() {
+        long latency = minLatencyMs + (maxLatencyMs > minLatencyMs ? random.nextLong(maxLatencyMs - minLatencyMs) : 0);
+        return new GatewaySample(latency, random.nextDouble() < successRate);
+    }
+}
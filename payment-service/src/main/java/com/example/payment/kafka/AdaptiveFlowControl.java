@@ -0,0 +1,186 @@
+package com.example.payment.kafka;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 레코드별 처리 시간을 관찰해 리스너 컨테이너의 max.poll.records 와 pause/resume 을 조정
+ * (한 번의 poll 처리 시간이 max.poll.interval.ms 안에 들어오도록 유지)
+ * 대상은 listenerId 와 정확히 같은 컨테이너만 (재시도 토픽/다른 리스너 컨테이너는 제외)
+ */
+public class AdaptiveFlowControl implements RecordInterceptor<String, Object>, BatchInterceptor<String, Object> {
+
+    private static final double EWMA_ALPHA = 0.2;
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveFlowControl.class);
+
+    private final String listenerId;
+    private final long maxPollIntervalMs;
+    private final long pollBudgetMs;
+    private final int minPollRecords;
+    private final int maxPollRecords;
+    private final long pauseLatencyMs;
+    private final long pauseDurationMs;
+    private final long minRestartIntervalMs;
+
+    private final ThreadLocal<Long> startNanos = new ThreadLocal<>();
+    private final ThreadLocal<Integer> batchSize = new ThreadLocal<>();
+    private double ewmaMillis = -1;
+    private volatile int currentPollRecords;
+    private volatile long lastRestartAt;
+    private final Map<String, Long> pausedUntil = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxPollIntervalMs 컨슈머 max.poll.interval.ms
+     * @param safetyFactor      poll 한 주기에 허용할 max.poll.interval.ms 비율 (0~1)
+     * @param minRestartIntervalMs max.poll.records 변경(컨슈머 재시작) 최소 간격
+     *                             (현재 값으로 max.poll.interval.ms 를 넘길 때는 바로 축소)
+     */
+    public AdaptiveFlowControl(String listenerId, long maxPollIntervalMs, double safetyFactor,
+                               int initialPollRecords, int minPollRecords, int maxPollRecords,
+                               long pauseLatencyMs, long pauseDurationMs, long minRestartIntervalMs) {
+        this.listenerId = listenerId;
+        this.maxPollIntervalMs = maxPollIntervalMs;
+        this.pollBudgetMs = (long) (maxPollIntervalMs * safetyFactor);
+        this.currentPollRecords = initialPollRecords;
+        this.minPollRecords = minPollRecords;
+        this.maxPollRecords = maxPollRecords;
+        this.pauseLatencyMs = pauseLatencyMs;
+        this.pauseDurationMs = pauseDurationMs;
+        this.minRestartIntervalMs = minRestartIntervalMs;
+    }
+
+    @Override
+    public ConsumerRecord<String, Object> intercept(ConsumerRecord<String, Object> record, Consumer<String, Object> consumer) {
+        startNanos.set(System.nanoTime());
+        return record;
+    }
+
+    @Override
+    public void afterRecord(ConsumerRecord<String, Object> record, Consumer<String, Object> consumer) {
+        Long start = startNanos.get();
+        if (start != null) {
+            observe((System.nanoTime() - start) / 1_000_000.0);
+            startNanos.remove();
+        }
+    }
+
+    @Override
+    public ConsumerRecords<String, Object> intercept(ConsumerRecords<String, Object> records, Consumer<String, Object> consumer) {
+        startNanos.set(System.nanoTime());
+        batchSize.set(records.count());
+        return records;
+    }
+
+    @Override
+    public void success(ConsumerRecords<String, Object> records, Consumer<String, Object> consumer) {
+        observeBatch();
+    }
+
+    @Override
+    public void failure(ConsumerRecords<String, Object> records, Exception exception, Consumer<String, Object> consumer) {
+        observeBatch();
+    }
+
+    /**
+     * 일괄 리스너는 배치 처리 시간을 건수로 나눈 값을 레코드당 처리 시간으로 사용
+     */
+    private void observeBatch() {
+        Long start = startNanos.get();
+        Integer size = batchSize.get();
+        if (start != null && size != null && size > 0) {
+            observe((System.nanoTime() - start) / 1_000_000.0 / size);
+        }
+        startNanos.remove();
+        batchSize.remove();
+    }
+
+    synchronized void observe(double millis) {
+        ewmaMillis = ewmaMillis < 0 ? millis : EWMA_ALPHA * millis + (1 - EWMA_ALPHA) * ewmaMillis;
+    }
+
+    public synchronized double getEwmaMillis() {
+        return ewmaMillis;
+    }
+
+    public int getCurrentPollRecords() {
+        return currentPollRecords;
+    }
+
+    public String getListenerId() {
+        return listenerId;
+    }
+
+    /**
+     * 관찰된 처리 시간으로 목표 max.poll.records 계산
+     */
+    int targetPollRecords() {
+        double ewma = getEwmaMillis();
+        if (ewma <= 0) {
+            return currentPollRecords;
+        }
+        long target = (long) Math.floor(pollBudgetMs / ewma);
+        return (int) Math.max(minPollRecords, Math.min(maxPollRecords, target));
+    }
+
+    /**
+     * 주기적으로 호출되어 컨테이너 설정을 조정
+     */
+    public void adjust(KafkaListenerEndpointRegistry registry) {
+        long now = System.currentTimeMillis();
+        double ewma = getEwmaMillis();
+        MessageListenerContainer container = registry.getListenerContainer(listenerId);
+        if (container == null) {
+            return;
+        }
+
+        // 처리 지연이 임계치를 넘으면 잠시 멈추고, 쿨다운 후 재개 (컨테이너별 재개 시각)
+        String id = container.getListenerId();
+        if (ewma > pauseLatencyMs && !container.isPauseRequested()) {
+            log.warn("처리 지연으로 컨테이너 일시 중지: listenerId={}, ewma={}ms", id, (long) ewma);
+            container.pause();
+            pausedUntil.put(id, now + pauseDurationMs);
+        } else if (container.isPauseRequested() && now >= pausedUntil.getOrDefault(id, 0L)) {
+            log.info("컨테이너 재개: listenerId={}, ewma={}ms", id, (long) ewma);
+            container.resume();
+            pausedUntil.remove(id);
+        }
+
+        // max.poll.records 는 컨슈머 재시작으로만 바뀌므로 히스테리시스 + 최소 간격을 둠
+        // - 축소: 목표가 현재의 3/4 미만, 확대: 목표가 현재의 두 배 이상
+        // - 현재 값으로 한 poll 이 max.poll.interval.ms 를 넘길 상황이면 간격과 무관하게 바로 축소
+        int target = targetPollRecords();
+        int current = currentPollRecords;
+        boolean shrink = target * 4 < current * 3;
+        boolean grow = target >= current * 2;
+        if (!shrink && !grow) {
+            return;
+        }
+        boolean urgent = shrink && ewma * current > maxPollIntervalMs;
+        if (!urgent && now - lastRestartAt < minRestartIntervalMs) {
+            return;
+        }
+
+        currentPollRecords = target;
+        lastRestartAt = now;
+        log.info("max.poll.records 조정: listenerId={}, {} -> {} (ewma={}ms, budget={}ms, urgent={})",
+                listenerId, current, target, (long) ewma, pollBudgetMs, urgent);
+
+        // 정적 멤버십 덕분에 컨슈머 재시작이 리밸런스를 일으키지 않음
+        container.getContainerProperties().getKafkaConsumerProperties()
+            .setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(target));
+        if (container.isRunning()) {
+            container.stop(container::start);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.payment.kafka;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class AdaptiveFlowControlScheduler {
+    
+    private final List<AdaptiveFlowControl> flowControls;
+    private final KafkaListenerEndpointRegistry registry;
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveFlowControlScheduler.class);
+    
+    /**
+     * 주기적으로 리스너별 흐름 제어 조정
+     */
+    @Scheduled(fixedDelayString = "${payment.flow-control.adjust-interval-ms:10000}")
+    public void adjust() {
+        for (AdaptiveFlowControl flowControl : flowControls) {
+            try {
+                flowControl.adjust(registry);
+            } catch (Exception e) {
+                log.error("흐름 제어 조정 실패: listenerId={}, error={}", flowControl.getListenerId(), e.getMessage());
+            }
+        }
+    }
+}
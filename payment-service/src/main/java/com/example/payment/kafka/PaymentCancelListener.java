@@ -1,46 +1,104 @@
 package com.example.payment.kafka;
 
+import com.example.common.journal.SagaJournal;
 import com.example.payment.dto.PaymentCancelRequest;
 import com.example.payment.service.PaymentService;
-import java.util.Map;
+import com.example.payment.shard.PaymentShardRouter;
+import com.example.payment.shard.ShardContext;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class PaymentCancelListener {
     
+    private static final String CANCEL_RETRY_TOPIC = "payment.cancel.retry";
+    
     private final PaymentService paymentService;
+    private final SagaJournal journal;
+    private final PaymentShardRouter shardRouter;
+    @Qualifier("paymentSagaKafkaTemplate")
+    private final KafkaTemplate<String, Object> kafkaTemplate;
     private static final Logger log = LoggerFactory.getLogger(PaymentCancelListener.class);
     
     /**
-     * 결제 취소 요청 처리 (Map 형태로 수신)
+     * 결제 취소 요청 일괄 처리
+     * (일시적 오류 건은 payment.cancel.retry 로 넘겨 본 파티션을 막지 않음)
      */
-    @KafkaListener(topics = "payment.cancel", groupId = "payment-cancel-group")
-    public void handlePaymentCancelRequest(Map<String, Object> cancelRequestMap) {
+    @KafkaListener(
+        id = "payment-cancel",
+        topics = "payment.cancel",
+        groupId = "payment-cancel-group",
+        containerFactory = "cancelKafkaListenerContainerFactory",
+        batch = "true"
+    )
+    public void handlePaymentCancelRequests(List<PaymentCancelRequest> cancelRequests) {
+        log.info("결제 취소 요청 일괄 수신: {} 건", cancelRequests.size());
+        
+        List<PaymentCancelRequest> retryable;
         try {
-            // Map에서 필요한 정보 추출
-            String orderId = (String) cancelRequestMap.get("orderId");
-            String sagaId = (String) cancelRequestMap.get("sagaId");
-            String reason = (String) cancelRequestMap.get("reason");
-            
-            log.info("결제 취소 요청 수신 (Map): orderId={}, sagaId={}, reason={}", 
-                    orderId, sagaId, reason);
-            
-            // PaymentCancelRequest 객체 생성
-            PaymentCancelRequest cancelRequest = new PaymentCancelRequest(
-                orderId,
-                sagaId,
-                reason != null ? reason : "Order compensation required"
-            );
-
-            paymentService.cancelPayment(cancelRequest);
-            
+            retryable = paymentService.cancelPayments(cancelRequests);
         } catch (Exception e) {
-            log.error("결제 취소 요청 처리 중 오류: error={}", e.getMessage(), e);
+            log.warn("결제 일괄 취소 실패, 전체 재시도 예정: {} 건, error={}", cancelRequests.size(), e.getMessage());
+            retryable = cancelRequests;
         }
+        
+        // 재시도 토픽 전송이 확인된 뒤에만 배치 오프셋 커밋 (실패 시 예외로 배치 재전달)
+        CompletableFuture<?>[] sends = retryable.stream()
+            .map(request -> kafkaTemplate.send(CANCEL_RETRY_TOPIC, request.getSagaId(), request))
+            .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(sends).join();
+    }
+    
+    /**
+     * 일괄 처리에서 실패한 결제 취소 요청 단건 재시도
+     * (지수 백오프 재시도 토픽을 거쳐 payment.cancel.retry-dlt 로 이동)
+     */
+    @RetryableTopic(
+        attempts = "${payment.retry.attempts:4}",
+        backoff = @Backoff(
+            delayExpression = "${payment.retry.delay-ms:1000}",
+            multiplierExpression = "${payment.retry.multiplier:2.0}",
+            maxDelayExpression = "${payment.retry.max-delay-ms:10000}"),
+        kafkaTemplate = "paymentSagaKafkaTemplate"
+    )
+    @KafkaListener(
+        id = "payment-cancel-retry",
+        topics = CANCEL_RETRY_TOPIC,
+        groupId = "payment-cancel-retry-group",
+        containerFactory = "cancelRetryKafkaListenerContainerFactory"
+    )
+    public void handlePaymentCancelRetry(PaymentCancelRequest cancelRequest) {
+        if (journal.logSampled()) {
+            log.info("결제 취소 재시도: orderId={}, sagaId={}, reason={}", 
+                    cancelRequest.getOrderId(), cancelRequest.getSagaId(), cancelRequest.getReason());
+        }
+        
+        int shard = shardRouter.locate(cancelRequest.getSagaId());
+        ShardContext.runOn(shard, () -> paymentService.cancelPayment(cancelRequest));
+    }
+    
+    /**
+     * 재시도를 모두 소진한 결제 취소 요청 (DLT)
+     */
+    @DltHandler
+    public void handleDeadLetter(PaymentCancelRequest cancelRequest,
+                                 @Header(name = KafkaHeaders.DLT_EXCEPTION_MESSAGE, required = false) byte[] error) {
+        log.error("결제 취소 요청 DLT 이동: orderId={}, sagaId={}, error={}", 
+                 cancelRequest.getOrderId(), cancelRequest.getSagaId(),
+                 error != null ? new String(error, StandardCharsets.UTF_8) : null);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,42 @@
+package com.example.payment.kafka;
+
+import com.example.common.kafka.PaymentLane;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 레인별 결제 요청 대기/처리 시간
+ * - payment.lane.wait: 주문 서비스가 보낸 시각(레코드 타임스탬프)부터 소비 시작까지 (토픽 적체)
+ * - payment.lane.processing: 결제 처리 시간 (게이트웨이 호출 포함)
+ */
+@Component
+public class PaymentLaneMetrics {
+
+    private final Map<PaymentLane, Timer> waitTimers = new EnumMap<>(PaymentLane.class);
+    private final Map<PaymentLane, Timer> processingTimers = new EnumMap<>(PaymentLane.class);
+
+    public PaymentLaneMetrics(MeterRegistry meterRegistry) {
+        for (PaymentLane lane : PaymentLane.values()) {
+            waitTimers.put(lane, Timer.builder("payment.lane.wait")
+                .tag("lane", lane.getTag())
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(meterRegistry));
+            processingTimers.put(lane, Timer.builder("payment.lane.processing")
+                .tag("lane", lane.getTag())
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(meterRegistry));
+        }
+    }
+
+    public void recordWait(PaymentLane lane, long recordTimestampMs) {
+        waitTimers.get(lane).record(Math.max(0, System.currentTimeMillis() - recordTimestampMs), TimeUnit.MILLISECONDS);
+    }
+
+    public void recordProcessing(PaymentLane lane, long startNanos) {
+        processingTimers.get(lane).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -1,12 +1,22 @@
 package com.example.payment.kafka;
 
+import com.example.common.journal.SagaJournal;
+import com.example.common.kafka.PaymentLane;
+import com.example.common.kafka.SagaHeaders;
 import com.example.payment.service.PaymentService;
+import com.example.payment.shard.PaymentShardRouter;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
 import com.example.payment.dto.PaymentRequestWithSaga;
 import com.example.payment.dto.OrderRequest;
 
+import java.nio.charset.StandardCharsets;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,30 +26,81 @@ import org.slf4j.LoggerFactory;
 public class SagaOrderRequestListener {
     
     private final PaymentService paymentService;
+    private final SagaJournal journal;
+    private final PaymentLaneMetrics paymentLaneMetrics;
+    private final PaymentShardRouter shardRouter;
     private static final Logger log = LoggerFactory.getLogger(SagaOrderRequestListener.class);
     
     /**
      * Saga ID가 포함된 결제 요청 처리
+     * (실패 시 지수 백오프 재시도 토픽을 거쳐 payment.request-dlt 로 이동, 원본 파티션은 막지 않음)
      */
-    @KafkaListener(topics = "payment.request", groupId = "payment-saga-group", containerFactory = "sagaKafkaListenerContainerFactory")
-    public void handleSagaOrderRequest(PaymentRequestWithSaga paymentRequest) {
+    @RetryableTopic(
+        attempts = "${payment.retry.attempts:4}",
+        backoff = @Backoff(
+            delayExpression = "${payment.retry.delay-ms:1000}",
+            multiplierExpression = "${payment.retry.multiplier:2.0}",
+            maxDelayExpression = "${payment.retry.max-delay-ms:10000}"),
+        kafkaTemplate = "paymentSagaKafkaTemplate"
+    )
+    @KafkaListener(id = "payment-saga-request", topics = "payment.request", groupId = "payment-saga-group", containerFactory = "sagaKafkaListenerContainerFactory")
+    public void handleSagaOrderRequest(PaymentRequestWithSaga paymentRequest,
+                                       @Header(name = SagaHeaders.ORIGIN_INSTANCE, required = false) byte[] originInstance,
+                                       @Header(KafkaHeaders.RECEIVED_TIMESTAMP) long timestamp) {
+        process(paymentRequest, originInstance, timestamp, PaymentLane.NORMAL);
+    }
+    
+    /**
+     * 우선 레인 결제 요청 처리 (전용 컨슈머 그룹/스레드, 게이트웨이 예약 한도 사용, 마이크로 배치 대기 없음)
+     */
+    @RetryableTopic(
+        attempts = "${payment.retry.attempts:4}",
+        backoff = @Backoff(
+            delayExpression = "${payment.retry.delay-ms:1000}",
+            multiplierExpression = "${payment.retry.multiplier:2.0}",
+            maxDelayExpression = "${payment.retry.max-delay-ms:10000}"),
+        kafkaTemplate = "paymentSagaKafkaTemplate"
+    )
+    @KafkaListener(id = "payment-priority-request", topics = "payment.request.priority", groupId = "payment-priority-group", containerFactory = "priorityKafkaListenerContainerFactory")
+    public void handlePriorityOrderRequest(PaymentRequestWithSaga paymentRequest,
+                                           @Header(name = SagaHeaders.ORIGIN_INSTANCE, required = false) byte[] originInstance,
+                                           @Header(KafkaHeaders.RECEIVED_TIMESTAMP) long timestamp) {
+        process(paymentRequest, originInstance, timestamp, PaymentLane.PRIORITY);
+    }
+    
+    private void process(PaymentRequestWithSaga paymentRequest, byte[] originInstance, long timestamp, PaymentLane lane) {
+        paymentLaneMetrics.recordWait(lane, timestamp);
+        long start = System.nanoTime();
+        if (journal.logSampled()) {
+            log.info("Saga 결제 요청 수신: orderId={}, sagaId={}, lane={}", 
+                    paymentRequest.getOrderId(), paymentRequest.getSagaId(), lane);
+        }
+        
+        // OrderRequest 객체 생성
+        OrderRequest orderRequest = new OrderRequest(
+            paymentRequest.getOrderId(),
+            paymentRequest.resolveAmount(),
+            paymentRequest.getCurrency(),
+            paymentRequest.getPaymentMethod()
+        );
+        
         try {
-            log.info("Saga 결제 요청 수신: orderId={}, sagaId={}", 
-                    paymentRequest.getOrderId(), paymentRequest.getSagaId());
-            
-            // OrderRequest 객체 생성
-            OrderRequest orderRequest = new OrderRequest(
-                paymentRequest.getOrderId(),
-                paymentRequest.getAmount(),
-                paymentRequest.getCurrency(),
-                paymentRequest.getPaymentMethod()
-            );
-            
-            // Saga ID와 함께 결제 처리
-            paymentService.processPaymentWithSaga(orderRequest, paymentRequest.getSagaId());
-            
-        } catch (Exception e) {
-            log.error("Saga 결제 요청 처리 중 오류: error={}", e.getMessage(), e);
+            // Saga ID와 함께 결제 처리 (sagaId 샤드에 저장, 결과에는 요청한 order-service 인스턴스 식별자를 그대로 실어 보냄)
+            shardRouter.call(paymentRequest.getSagaId(), () -> paymentService.processPaymentWithSaga(orderRequest,
+                paymentRequest.getSagaId(), originInstance != null ? new String(originInstance, StandardCharsets.UTF_8) : null, lane));
+        } finally {
+            paymentLaneMetrics.recordProcessing(lane, start);
         }
     }
-} 
\ No newline at end of file
+    
+    /**
+     * 재시도를 모두 소진한 결제 요청 (DLT)
+     */
+    @DltHandler
+    public void handleDeadLetter(PaymentRequestWithSaga paymentRequest,
+                                 @Header(name = KafkaHeaders.DLT_EXCEPTION_MESSAGE, required = false) byte[] error) {
+        log.error("결제 요청 DLT 이동: orderId={}, sagaId={}, error={}", 
+                 paymentRequest.getOrderId(), paymentRequest.getSagaId(),
+                 error != null ? new String(error, StandardCharsets.UTF_8) : null);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.example.payment.repository;
+
+import com.example.payment.domain.PaymentArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PaymentArchiveRepository extends JpaRepository<PaymentArchive, Long> {
+    PaymentArchive findFirstByOrderIdOrderByIdDesc(String orderId);
+}
@@ -1,8 +1,64 @@
 package com.example.payment.repository;
 
 import com.example.payment.domain.Payment;
+import com.example.payment.domain.PaymentStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
-    Payment findByOrderId(String orderId);
-} 
\ No newline at end of file
+    boolean existsBySagaId(String sagaId);
+    Payment findFirstByOrderIdAndSagaIdOrderByIdDesc(String orderId, String sagaId);
+    Payment findFirstBySagaIdOrderByIdDesc(String sagaId);
+    List<Payment> findBySagaIdIn(Collection<String> sagaIds);
+    List<Payment> findByIdGreaterThanOrderById(Long id, Pageable pageable);
+    
+    /**
+     * 기대 상태인 행만 상태 변경 (상태 확인과 쓰기를 한 문장으로 처리, 변경된 행 수 반환)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Payment p SET p.status = :status, p.failureReason = :reason, p.updatedAt = :now WHERE p.id IN :ids AND p.status = :expected")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("expected") PaymentStatus expected,
+                     @Param("status") PaymentStatus status, @Param("reason") String reason,
+                     @Param("now") LocalDateTime now);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE Payment p SET p.status = :status, p.updatedAt = :now WHERE p.id = :id AND p.status = :expected")
+    int transition(@Param("id") Long id, @Param("expected") PaymentStatus expected, @Param("status") PaymentStatus status,
+                   @Param("now") LocalDateTime now);
+    
+    /**
+     * threshold 이전부터 status 에 머문 결제 (상태 변경 시각이 없는 이전 버전 행 포함)
+     */
+    @Query("SELECT p FROM Payment p WHERE p.status = :status AND (p.updatedAt < :threshold OR p.updatedAt IS NULL) ORDER BY p.id")
+    List<Payment> findStale(@Param("status") PaymentStatus status, @Param("threshold") LocalDateTime threshold, Pageable pageable);
+    
+    /**
+     * 대사 선점 - 아직 threshold 이전 상태로 남은 행의 변경 시각만 갱신 (여러 인스턴스 중 한 곳만 1 을 받음)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Payment p SET p.updatedAt = :now WHERE p.id = :id AND p.status = :status AND (p.updatedAt < :threshold OR p.updatedAt IS NULL)")
+    int claimStale(@Param("id") Long id, @Param("status") PaymentStatus status,
+                   @Param("threshold") LocalDateTime threshold, @Param("now") LocalDateTime now);
+    
+    /**
+     * since 이후 변경된 결제 ((updatedAt, id) 키셋 페이지, 읽기 모델 따라잡기용)
+     */
+    @Query("SELECT p FROM Payment p WHERE p.updatedAt > :since OR (p.updatedAt = :since AND p.id > :afterId) ORDER BY p.updatedAt, p.id")
+    List<Payment> findChangedSince(@Param("since") LocalDateTime since, @Param("afterId") Long afterId, Pageable pageable);
+    
+    @Query("SELECT p FROM Payment p WHERE p.status IN :statuses AND p.createdAt < :threshold ORDER BY p.id")
+    List<Payment> findArchivable(@Param("statuses") Collection<PaymentStatus> statuses,
+                                 @Param("threshold") LocalDateTime threshold,
+                                 Pageable pageable);
+}
@@ -0,0 +1,33 @@
+package com.example.payment.repository;
+
+import com.example.payment.domain.PaymentStatus;
+import com.example.payment.domain.PaymentView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PaymentViewRepository extends JpaRepository<PaymentView, Long> {
+    List<PaymentView> findByOrderIdOrderByPaymentIdDesc(String orderId);
+    List<PaymentView> findBySagaIdOrderByPaymentIdDesc(String sagaId);
+    
+    /**
+     * 마지막으로 반영된 시각 (읽기 모델이 비어 있으면 null)
+     */
+    @Query("SELECT MAX(v.updatedAt) FROM PaymentView v")
+    LocalDateTime findHighWaterMark();
+    
+    /**
+     * 키셋 페이지네이션 (paymentId 내림차순, cursor 미만)
+     */
+    @Query("SELECT v FROM PaymentView v WHERE (:status IS NULL OR v.status = :status) " +
+           "AND v.createdAt >= :from AND v.createdAt < :to AND v.paymentId < :cursor ORDER BY v.paymentId DESC")
+    List<PaymentView> search(@Param("status") PaymentStatus status,
+                             @Param("from") LocalDateTime from,
+                             @Param("to") LocalDateTime to,
+                             @Param("cursor") Long cursor,
+                             Pageable pageable);
+}
@@ -0,0 +1,139 @@
+package com.example.payment.service;
+
+import com.example.payment.domain.Payment;
+import com.example.payment.domain.PaymentArchive;
+import com.example.payment.domain.PaymentStatus;
+import com.example.payment.repository.PaymentArchiveRepository;
+import com.example.payment.repository.PaymentRepository;
+import com.example.payment.shard.PaymentShardRouter;
+import com.example.payment.shard.ShardContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 보관 기간이 지난 종료 상태 결제를 아카이브 테이블로 이동
+ * (배치 단위 트랜잭션으로 잠금 시간을 제한, 샤드마다 같은 샤드의 아카이브 테이블로 이동)
+ */
+@Service
+public class PaymentArchiveService {
+    
+    /** 아카이브 대상 종료 상태 */
+    private static final Set<PaymentStatus> ARCHIVABLE = EnumSet.of(
+        PaymentStatus.COMPLETED, PaymentStatus.FAILED, PaymentStatus.ERROR, PaymentStatus.CANCELLED);
+    
+    private final PaymentRepository paymentRepository;
+    private final PaymentArchiveRepository paymentArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PaymentShardRouter shardRouter;
+    
+    @Value("${payment.archive.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${payment.archive.retention:7d}")
+    private Duration retention;
+    
+    @Value("${payment.archive.batch-size:500}")
+    private int batchSize;
+    
+    @Value("${payment.archive.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+    
+    private static final Logger log = LoggerFactory.getLogger(PaymentArchiveService.class);
+    
+    public PaymentArchiveService(PaymentRepository paymentRepository,
+                                 PaymentArchiveRepository paymentArchiveRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 PaymentShardRouter shardRouter) {
+        this.paymentRepository = paymentRepository;
+        this.paymentArchiveRepository = paymentArchiveRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardRouter = shardRouter;
+    }
+    
+    /**
+     * 주기적으로 아카이브 실행
+     */
+    @Scheduled(fixedDelayString = "${payment.archive.interval-ms:600000}")
+    public void archiveFinishedPayments() {
+        if (!enabled) {
+            return;
+        }
+        
+        try {
+            LocalDateTime threshold = LocalDateTime.now().minus(retention);
+            int total = 0;
+            
+            for (int shard = 0; shard < shardRouter.getConfiguredShards(); shard++) {
+                total += ShardContext.callOn(shard, () -> archiveShard(threshold));
+            }
+            
+            if (total > 0) {
+                log.info("결제 아카이브 완료: {} 건 (기준 시각={})", total, threshold);
+            }
+            
+        } catch (Exception e) {
+            log.error("결제 아카이브 중 오류 발생: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 현재 샤드에서 최대 maxBatchesPerRun 배치 이동
+     */
+    private int archiveShard(LocalDateTime threshold) {
+        int total = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Integer archived = transactionTemplate.execute(status -> archiveBatch(threshold));
+            if (archived == null || archived == 0) {
+                break;
+            }
+            total += archived;
+        }
+        return total;
+    }
+    
+    /**
+     * 한 배치 이동 (하나의 트랜잭션)
+     */
+    private int archiveBatch(LocalDateTime threshold) {
+        List<Payment> payments = paymentRepository.findArchivable(ARCHIVABLE, threshold, PageRequest.of(0, batchSize));
+        if (payments.isEmpty()) {
+            return 0;
+        }
+        
+        paymentArchiveRepository.saveAll(payments.stream()
+            .map(PaymentArchive::from)
+            .collect(Collectors.toList()));
+        paymentRepository.deleteAllByIdInBatch(payments.stream()
+            .map(Payment::getId)
+            .collect(Collectors.toList()));
+        
+        return payments.size();
+    }
+    
+    /**
+     * 아카이브에서 결제 조회 (재샤딩 전후 위치가 다를 수 있으므로 모든 샤드 확인, 가장 최근 결제)
+     */
+    public PaymentArchive findArchivedPayment(String orderId) {
+        PaymentArchive latest = null;
+        for (int shard = 0; shard < shardRouter.getConfiguredShards(); shard++) {
+            PaymentArchive archive = ShardContext.callOn(shard, () -> paymentArchiveRepository.findFirstByOrderIdOrderByIdDesc(orderId));
+            if (archive != null && (latest == null || archive.getId() > latest.getId())) {
+                latest = archive;
+            }
+        }
+        return latest;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.payment.service;
+
+import com.example.payment.domain.PaymentStatus;
+import com.example.payment.domain.PaymentView;
+import com.example.payment.dto.PaymentPage;
+import com.example.payment.repository.PaymentViewRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 결제 조회 (읽기 모델 전용, 결제 테이블은 조회하지 않음)
+ * 주문/Saga 단건 조회는 작은 LRU 캐시로 처리하고, 읽기 모델이 갱신되면 무효화
+ */
+@Service
+public class PaymentQueryService {
+    
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final LocalDateTime MIN_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 12, 31, 0, 0);
+    
+    private final PaymentViewRepository paymentViewRepository;
+    private final Map<String, List<PaymentView>> cache;
+    
+    public PaymentQueryService(PaymentViewRepository paymentViewRepository,
+                               @Value("${payment.query.cache-size:1000}") int cacheSize) {
+        this.paymentViewRepository = paymentViewRepository;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<PaymentView>> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+    
+    /**
+     * 주문 ID로 결제 조회 (최신 결제 순)
+     */
+    public List<PaymentView> findByOrderId(String orderId) {
+        String key = orderKey(orderId);
+        List<PaymentView> cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        List<PaymentView> payments = paymentViewRepository.findByOrderIdOrderByPaymentIdDesc(orderId);
+        cache.put(key, payments);
+        return payments;
+    }
+    
+    /**
+     * Saga ID로 결제 조회 (최신 결제 순)
+     */
+    public List<PaymentView> findBySagaId(String sagaId) {
+        String key = sagaKey(sagaId);
+        List<PaymentView> cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        List<PaymentView> payments = paymentViewRepository.findBySagaIdOrderByPaymentIdDesc(sagaId);
+        cache.put(key, payments);
+        return payments;
+    }
+    
+    /**
+     * 상태/기간 조건 목록 조회 (키셋 페이지네이션, cursor 는 직전 페이지의 nextCursor)
+     */
+    public PaymentPage search(PaymentStatus status, LocalDateTime from, LocalDateTime to, Long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<PaymentView> items = paymentViewRepository.search(
+            status,
+            from != null ? from : MIN_TIME,
+            to != null ? to : MAX_TIME,
+            cursor != null ? cursor : Long.MAX_VALUE,
+            PageRequest.of(0, pageSize));
+        
+        Long nextCursor = items.size() == pageSize ? items.get(items.size() - 1).getPaymentId() : null;
+        return new PaymentPage(items, nextCursor);
+    }
+    
+    /**
+     * 읽기 모델 갱신 시 관련 캐시 항목 무효화
+     */
+    void evict(PaymentView view) {
+        cache.remove(orderKey(view.getOrderId()));
+        cache.remove(sagaKey(view.getSagaId()));
+    }
+    
+    private String orderKey(String orderId) {
+        return "order:" + orderId;
+    }
+    
+    private String sagaKey(String sagaId) {
+        return "saga:" + sagaId;
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.payment.service;
+
+import com.example.payment.domain.Payment;
+import com.example.payment.domain.PaymentStatus;
+import com.example.payment.gateway.GatewayOverloadedException;
+import com.example.payment.gateway.GatewayPaymentState;
+import com.example.payment.gateway.PaymentGateway;
+import com.example.payment.repository.PaymentRepository;
+import com.example.payment.shard.PaymentShardRouter;
+import com.example.payment.shard.ShardContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 게이트웨이 결과를 모른 채 남은 결제 대사
+ *
+ * PROCESSING: 승인 전 종료, 배치 응답 누락, 결과 기록 실패로 남은 행
+ * -> 결과를 확정하지 못한 결제는 Saga 에 성공을 보내지 않으므로 stale-after 가 지나면 Saga 는 이미 보상됨
+ *    (stale-after 는 order-service 결제 단계 마감보다 길어야 함)
+ *    게이트웨이에 승인돼 있으면 CANCELLING 선점 후 승인 취소, 거절됐거나 기록이 없으면 FAILED 로 마무리
+ *
+ * CANCELLING: 취소 호출 중 오류나 결과 기록 실패로 남은 행
+ * -> 게이트웨이 상태 조회 후 취소됐으면 CANCELLED 기록, 승인 상태 그대로면 취소를 다시 호출
+ *    (조회로 미취소를 확인한 뒤 호출하므로 중복 환불 없음)
+ *
+ * stale-after 이상 같은 상태에 머문 행만 대상으로 하고, 여러 인스턴스 중 claimStale 에 성공한 한 곳만 처리
+ * 마무리하지 못한 행 수는 payment.reconcile.stuck 게이지로 노출 (조회 불가 행은 stale-after 마다 다시 시도)
+ */
+@Service
+public class PaymentReconciler {
+
+    /** 대사로 마무리한 취소의 사유 */
+    public static final String RECONCILED_REASON = "RECONCILED";
+
+    /** 결과를 확정하지 못한 승인을 대사로 무효화한 사유 */
+    public static final String VOIDED_REASON = "VOIDED";
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentGateway paymentGateway;
+    private final PaymentViewProjector paymentViewProjector;
+    private final PaymentShardRouter shardRouter;
+    private final AtomicLong stuckProcessing = new AtomicLong();
+    private final AtomicLong stuckCancelling = new AtomicLong();
+    private final Counter resolvedProcessing;
+    private final Counter resolvedCancelling;
+
+    @Value("${payment.reconcile.enabled:true}")
+    private boolean enabled;
+
+    @Value("${payment.reconcile.stale-after:5m}")
+    private Duration staleAfter;
+
+    @Value("${payment.reconcile.batch-size:100}")
+    private int batchSize;
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentReconciler.class);
+
+    public PaymentReconciler(PaymentRepository paymentRepository,
+                             PaymentGateway paymentGateway,
+                             PaymentViewProjector paymentViewProjector,
+                             PaymentShardRouter shardRouter,
+                             MeterRegistry meterRegistry) {
+        this.paymentRepository = paymentRepository;
+        this.paymentGateway = paymentGateway;
+        this.paymentViewProjector = paymentViewProjector;
+        this.shardRouter = shardRouter;
+        Gauge.builder("payment.reconcile.stuck", stuckProcessing, AtomicLong::get)
+            .tag("status", "processing")
+            .register(meterRegistry);
+        Gauge.builder("payment.reconcile.stuck", stuckCancelling, AtomicLong::get)
+            .tag("status", "cancelling")
+            .register(meterRegistry);
+        this.resolvedProcessing = Counter.builder("payment.reconcile.resolved")
+            .tag("status", "processing")
+            .register(meterRegistry);
+        this.resolvedCancelling = Counter.builder("payment.reconcile.resolved")
+            .tag("status", "cancelling")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 주기적으로 모든 샤드 대사
+     */
+    @Scheduled(fixedDelayString = "${payment.reconcile.interval-ms:60000}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            LocalDateTime threshold = LocalDateTime.now().minus(staleAfter);
+            long processing = 0;
+            long cancelling = 0;
+            for (int shard = 0; shard < shardRouter.getConfiguredShards(); shard++) {
+                processing += ShardContext.callOn(shard, () -> reconcileProcessing(threshold));
+                // PROCESSING 대사에서 취소에 실패해 CANCELLING 으로 남은 행은 다음 주기에 이어서 처리
+                cancelling += ShardContext.callOn(shard, () -> reconcileCancelling(threshold));
+            }
+            stuckProcessing.set(processing);
+            stuckCancelling.set(cancelling);
+
+            if (processing > 0 || cancelling > 0) {
+                log.warn("대사하지 못한 결제: PROCESSING {} 건, CANCELLING {} 건 (기준 시각={})", processing, cancelling, threshold);
+            }
+
+        } catch (Exception e) {
+            log.error("결제 대사 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 샤드의 오래된 PROCESSING 결제 대사
+     *
+     * @return 선점했지만 마무리하지 못한 행 수
+     */
+    private long reconcileProcessing(LocalDateTime threshold) {
+        List<Payment> stale = paymentRepository.findStale(PaymentStatus.PROCESSING, threshold, PageRequest.of(0, batchSize));
+        long stuck = 0;
+        for (Payment payment : stale) {
+            if (paymentRepository.claimStale(payment.getId(), PaymentStatus.PROCESSING, threshold, LocalDateTime.now()) == 0) {
+                continue;
+            }
+            if (resolveProcessing(payment)) {
+                resolvedProcessing.increment();
+            } else {
+                stuck++;
+            }
+        }
+        return stuck;
+    }
+
+    private boolean resolveProcessing(Payment payment) {
+        try {
+            GatewayPaymentState state = paymentGateway.inquire(payment);
+            switch (state) {
+                case AUTHORIZED:
+                    // Saga 는 이미 보상됐으므로 승인을 취소 (CANCELLING 선점 후 호출, 실패하면 CANCELLING 대사가 이어받음)
+                    if (paymentRepository.transition(payment.getId(), PaymentStatus.PROCESSING, PaymentStatus.CANCELLING, LocalDateTime.now()) == 0) {
+                        return false;
+                    }
+                    boolean success = paymentGateway.cancel(payment);
+                    return record(payment, PaymentStatus.CANCELLING,
+                        success ? PaymentStatus.CANCELLED : PaymentStatus.CANCEL_FAILED, success ? VOIDED_REASON : null);
+                case CANCELLED:
+                    return record(payment, PaymentStatus.PROCESSING, PaymentStatus.CANCELLED, VOIDED_REASON);
+                case DECLINED:
+                    return record(payment, PaymentStatus.PROCESSING, PaymentStatus.FAILED, RECONCILED_REASON);
+                default:
+                    // 게이트웨이에 승인 기록이 없음 (승인 호출 전 종료)
+                    return record(payment, PaymentStatus.PROCESSING, PaymentStatus.FAILED, VOIDED_REASON);
+            }
+        } catch (GatewayOverloadedException e) {
+            // 취소를 호출하지 않았으므로 다음 주기에 CANCELLING 대사가 상태 조회부터 다시 시도
+            log.warn("게이트웨이 과부하로 승인 대사 연기: orderId={}, sagaId={}", payment.getOrderId(), payment.getSagaId());
+            return false;
+        } catch (Exception e) {
+            log.error("승인 대사 실패: orderId={}, sagaId={}, error={}",
+                     payment.getOrderId(), payment.getSagaId(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 현재 샤드의 오래된 CANCELLING 결제 대사
+     *
+     * @return 선점했지만 마무리하지 못한 행 수
+     */
+    private long reconcileCancelling(LocalDateTime threshold) {
+        List<Payment> stale = paymentRepository.findStale(PaymentStatus.CANCELLING, threshold, PageRequest.of(0, batchSize));
+        long stuck = 0;
+        for (Payment payment : stale) {
+            if (paymentRepository.claimStale(payment.getId(), PaymentStatus.CANCELLING, threshold, LocalDateTime.now()) == 0) {
+                // 다른 인스턴스가 처리 중이거나 그 사이 상태가 바뀜
+                continue;
+            }
+            if (resolveCancelling(payment)) {
+                resolvedCancelling.increment();
+            } else {
+                stuck++;
+            }
+        }
+        return stuck;
+    }
+
+    private boolean resolveCancelling(Payment payment) {
+        try {
+            GatewayPaymentState state = paymentGateway.inquire(payment);
+            switch (state) {
+                case CANCELLED:
+                    return record(payment, PaymentStatus.CANCELLING, PaymentStatus.CANCELLED, RECONCILED_REASON);
+                case AUTHORIZED:
+                    // 취소되지 않았음을 확인했으므로 다시 취소
+                    boolean success = paymentGateway.cancel(payment);
+                    return record(payment, PaymentStatus.CANCELLING,
+                        success ? PaymentStatus.CANCELLED : PaymentStatus.CANCEL_FAILED, success ? RECONCILED_REASON : null);
+                default:
+                    log.warn("CANCELLING 결제 상태 확인 불가 (수동 확인 필요): orderId={}, sagaId={}, gatewayState={}",
+                            payment.getOrderId(), payment.getSagaId(), state);
+                    return false;
+            }
+        } catch (GatewayOverloadedException e) {
+            log.warn("게이트웨이 과부하로 취소 대사 연기: orderId={}, sagaId={}", payment.getOrderId(), payment.getSagaId());
+            return false;
+        } catch (Exception e) {
+            log.error("취소 대사 실패: orderId={}, sagaId={}, error={}",
+                     payment.getOrderId(), payment.getSagaId(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * expected 상태인 경우에만 결과 기록 후 읽기 모델 반영
+     */
+    private boolean record(Payment payment, PaymentStatus expected, PaymentStatus status, String reason) {
+        if (paymentRepository.updateStatus(List.of(payment.getId()), expected, status, reason, LocalDateTime.now()) == 0) {
+            return false;
+        }
+        payment.setStatus(status);
+        payment.setFailureReason(reason);
+        paymentViewProjector.project(payment);
+        log.info("결제 대사 완료: orderId={}, sagaId={}, from={}, status={}", payment.getOrderId(), payment.getSagaId(), expected, status);
+        return true;
+    }
+}
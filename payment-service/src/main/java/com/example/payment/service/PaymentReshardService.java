@@ -0,0 +1,211 @@
+package com.example.payment.service;
+
+import com.example.payment.dto.ReshardStatus;
+import com.example.payment.shard.PaymentShardRouter;
+import com.example.payment.shard.ShardRoutingDataSource;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 온라인 재샤딩 - 현재 배치(payment.sharding.count)와 다른 샤드에 있는 결제를 옮김
+ *
+ * 절차: payment.sharding.previous-count=이전 샤드 수, count=새 샤드 수로 재기동 -> 재샤딩 실행 -> previous-count=0
+ * 재샤딩 중에도 새 결제는 새 위치에 쓰고, 기존 결제 조회는 새 위치 -> 이전 위치 순으로 확인
+ *
+ * 행 이동: 1) 대상 샤드에 덮어쓰기(id 유지) 2) 복사한 모든 컬럼이 그대로일 때만 원본 삭제
+ * 그 사이 취소 등으로 원본이 바뀌었으면 대상 복사본을 지우고 다음 패스에서 다시 옮김
+ */
+@Service
+public class PaymentReshardService {
+
+    private static final String SELECT_BATCH = "SELECT * FROM payment WHERE id > ? ORDER BY id LIMIT ?";
+
+    private final PaymentShardRouter shardRouter;
+    private final ObjectProvider<ShardRoutingDataSource> routingDataSource;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "payment-reshard");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${payment.sharding.reshard.batch-size:500}")
+    private int batchSize;
+
+    @Value("${payment.sharding.reshard.batch-delay-ms:0}")
+    private long batchDelayMs;
+
+    @Value("${payment.sharding.reshard.max-passes:3}")
+    private int maxPasses;
+
+    private volatile boolean running = false;
+    private final AtomicLong scanned = new AtomicLong();
+    private final AtomicLong moved = new AtomicLong();
+    private final AtomicLong conflicts = new AtomicLong();
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String lastError;
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentReshardService.class);
+
+    public PaymentReshardService(PaymentShardRouter shardRouter,
+                                 ObjectProvider<ShardRoutingDataSource> routingDataSource) {
+        this.shardRouter = shardRouter;
+        this.routingDataSource = routingDataSource;
+    }
+
+    /**
+     * 재샤딩 시작 (비동기, 이미 실행 중이면 false)
+     */
+    public synchronized boolean start() {
+        ShardRoutingDataSource shards = routingDataSource.getIfAvailable();
+        if (shards == null) {
+            throw new IllegalStateException("payment.sharding.enabled=false");
+        }
+        if (running) {
+            return false;
+        }
+        running = true;
+        scanned.set(0);
+        moved.set(0);
+        conflicts.set(0);
+        startedAt = LocalDateTime.now();
+        finishedAt = null;
+        lastError = null;
+        executor.execute(() -> reshard(shards));
+        return true;
+    }
+
+    public ReshardStatus getStatus() {
+        ShardRoutingDataSource shards = routingDataSource.getIfAvailable();
+        List<Long> rowsPerShard = new ArrayList<>();
+        if (shards != null) {
+            for (int shard = 0; shard < shards.getShardCount(); shard++) {
+                rowsPerShard.add(new JdbcTemplate(shards.getShard(shard)).queryForObject("SELECT COUNT(*) FROM payment", Long.class));
+            }
+        }
+        return new ReshardStatus(shardRouter.getCount(), shardRouter.getPreviousCount(), shardRouter.getPartitions(),
+            rowsPerShard, running, scanned.get(), moved.get(), conflicts.get(), startedAt, finishedAt, lastError);
+    }
+
+    /**
+     * 모든 샤드를 훑어 잘못 놓인 행 이동 (충돌이 남아 있으면 최대 maxPasses 번 반복)
+     */
+    private void reshard(ShardRoutingDataSource shards) {
+        try {
+            log.info("재샤딩 시작: count={}, previousCount={}, shards={}",
+                shardRouter.getCount(), shardRouter.getPreviousCount(), shards.getShardCount());
+            for (int pass = 1; pass <= maxPasses; pass++) {
+                long conflictsBefore = conflicts.get();
+                for (int shard = 0; shard < shards.getShardCount(); shard++) {
+                    moveMisplaced(shards, shard);
+                }
+                if (conflicts.get() == conflictsBefore) {
+                    break;
+                }
+                log.info("재샤딩 패스 {} 충돌 {} 건, 다시 훑음", pass, conflicts.get() - conflictsBefore);
+            }
+            log.info("재샤딩 완료: scanned={}, moved={}, conflicts={}", scanned.get(), moved.get(), conflicts.get());
+
+        } catch (Exception e) {
+            lastError = e.getMessage();
+            log.error("재샤딩 실패: scanned={}, moved={}, error={}", scanned.get(), moved.get(), e.getMessage());
+        } finally {
+            finishedAt = LocalDateTime.now();
+            running = false;
+        }
+    }
+
+    private void moveMisplaced(ShardRoutingDataSource shards, int source) throws InterruptedException {
+        JdbcTemplate sourceJdbc = new JdbcTemplate(shards.getShard(source));
+        long lastId = 0;
+        while (true) {
+            List<Map<String, Object>> rows = sourceJdbc.queryForList(SELECT_BATCH, lastId, batchSize);
+            if (rows.isEmpty()) {
+                return;
+            }
+            lastId = ((Number) rows.get(rows.size() - 1).get("id")).longValue();
+            scanned.addAndGet(rows.size());
+
+            Map<Integer, List<Map<String, Object>>> misplaced = new TreeMap<>();
+            for (Map<String, Object> row : rows) {
+                String sagaId = (String) row.get("saga_id");
+                if (sagaId == null) {
+                    continue;
+                }
+                int target = shardRouter.shardOf(sagaId);
+                if (target != source) {
+                    misplaced.computeIfAbsent(target, t -> new ArrayList<>()).add(row);
+                }
+            }
+            for (Map.Entry<Integer, List<Map<String, Object>>> entry : misplaced.entrySet()) {
+                move(sourceJdbc, shards.getShard(entry.getKey()), entry.getValue());
+            }
+
+            if (batchDelayMs > 0) {
+                Thread.sleep(batchDelayMs);
+            }
+        }
+    }
+
+    private void move(JdbcTemplate sourceJdbc, DataSource target, List<Map<String, Object>> rows) {
+        JdbcTemplate targetJdbc = new JdbcTemplate(target);
+        List<String> columns = new ArrayList<>(rows.get(0).keySet());
+        String insert = "INSERT INTO payment (" + String.join(", ", columns) + ") VALUES ("
+            + columns.stream().map(c -> "?").collect(Collectors.joining(", ")) + ")";
+
+        // 1) 대상 샤드에 덮어쓰기 (이전 패스에서 복사만 된 행도 최신 값으로 교체)
+        new TransactionTemplate(new DataSourceTransactionManager(target)).executeWithoutResult(status -> {
+            targetJdbc.batchUpdate("DELETE FROM payment WHERE id = ?",
+                rows.stream().map(row -> new Object[] {row.get("id")}).collect(Collectors.toList()));
+            targetJdbc.batchUpdate(insert,
+                rows.stream().map(row -> columns.stream().map(row::get).toArray()).collect(Collectors.toList()));
+        });
+
+        // 2) 복사한 모든 컬럼이 그대로일 때만 원본 삭제 (상태 외 컬럼 변경도 충돌로 처리)
+        for (Map<String, Object> row : rows) {
+            List<String> conditions = new ArrayList<>();
+            List<Object> args = new ArrayList<>();
+            for (String column : columns) {
+                Object value = row.get(column);
+                if (value == null) {
+                    conditions.add(column + " IS NULL");
+                } else {
+                    conditions.add(column + " = ?");
+                    args.add(value);
+                }
+            }
+            Object id = row.get("id");
+            String delete = "DELETE FROM payment WHERE " + String.join(" AND ", conditions);
+            if (sourceJdbc.update(delete, args.toArray()) == 1) {
+                moved.incrementAndGet();
+            } else {
+                // 원본이 바뀜 -> 오래된 복사본 제거 (다음 패스에서 다시 이동)
+                targetJdbc.update("DELETE FROM payment WHERE id = ?", id);
+                conflicts.incrementAndGet();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,17 +1,45 @@
 package com.example.payment.service;
 
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+import com.example.common.journal.SagaEvent;
+import com.example.common.journal.SagaJournal;
+import com.example.common.kafka.PaymentLane;
+import com.example.common.kafka.SagaHeaders;
 import com.example.payment.domain.Payment;
+import com.example.payment.domain.PaymentStatus;
 import com.example.payment.dto.OrderRequest;
 import com.example.payment.dto.PaymentResult;
 import com.example.payment.dto.PaymentCancelRequest;
 import com.example.payment.dto.PaymentResultWithSaga;
+import com.example.payment.gateway.AuthorizationBatcher;
+import com.example.payment.gateway.GatewayOutcomeUnknownException;
+import com.example.payment.gateway.GatewayOverloadedException;
+import com.example.payment.gateway.PaymentGateway;
 import com.example.payment.repository.PaymentRepository;
+import com.example.payment.shard.PaymentShardRouter;
+import com.example.payment.shard.ShardContext;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,121 +51,430 @@ public class PaymentService {
     @Qualifier("paymentSagaKafkaTemplate")
     private final KafkaTemplate<String, Object> kafkaTemplate;
     private final PaymentRepository paymentRepository;
+    private final PaymentGateway paymentGateway;
+    private final ObjectProvider<AuthorizationBatcher> authorizationBatcher;
+    private final PaymentViewProjector paymentViewProjector;
+    private final ObservationRegistry observationRegistry;
+    private final SagaJournal journal;
+    private final PaymentShardRouter shardRouter;
+    private final PlatformTransactionManager transactionManager;
+    @Qualifier("paymentCancelExecutor")
+    private final ExecutorService paymentCancelExecutor;
     private final String PAYMENT_RESULT_TOPIC = "payment.result";
     
     private static final Logger log = LoggerFactory.getLogger(PaymentService.class);
     
     /**
      * Saga ID를 포함한 결제 처리
+     * 결제 행을 게이트웨이 호출 전에 커밋하고, 같은 Saga 의 재전달은 기존 행으로 처리해 승인을 다시 호출하지 않음
+     * (DB 오류는 게이트웨이 호출 전에만 재시도 토픽으로 넘김)
      */
-    @Transactional
-    public PaymentResult processPaymentWithSaga(OrderRequest orderRequest, String sagaId) {
-        Payment payment = null;
+    public PaymentResult processPaymentWithSaga(OrderRequest orderRequest, String sagaId, String originInstance, PaymentLane lane) {
+        Payment payment;
         
         try {
-            log.info("결제 처리 시작: orderId={}, sagaId={}", orderRequest.getOrderId(), sagaId);
+            journal.append(SagaEvent.PAYMENT_REQUEST_RECEIVED, sagaId);
+            if (journal.logSampled()) {
+                log.info("결제 처리 시작: orderId={}, sagaId={}", orderRequest.getOrderId(), sagaId);
+            }
+            
+            // 0. 재시도/재전달 - 이미 저장된 결제가 있으면 게이트웨이를 다시 호출하지 않음
+            Payment existing = paymentRepository.findFirstByOrderIdAndSagaIdOrderByIdDesc(orderRequest.getOrderId(), sagaId);
+            if (existing != null) {
+                return replayExisting(existing, originInstance);
+            }
             
-            // 1. 결제 정보 저장
-            payment = createPayment(orderRequest, sagaId);
+            // 1. 결제 정보 저장 (게이트웨이 호출 전에 커밋)
+            payment = Observation.createNotStarted("payment.create", observationRegistry)
+                .observe(() -> createPayment(orderRequest, sagaId));
             
-            // 2. 실제 결제 처리 (외부 결제 게이트웨이 호출)
-            boolean paymentSuccess = processExternalPayment(payment);
-            
-            PaymentResult result;
-            if (paymentSuccess) {
-                // 결제 성공
-                payment.setStatus("COMPLETED");
-                paymentRepository.save(payment);
-                
-                result = new PaymentResult(
-                    orderRequest.getOrderId(),
-                    "COMPLETED",
-                    "결제가 성공적으로 완료되었습니다"
-                );
-                
-                log.info("결제 성공: orderId={}, sagaId={}", orderRequest.getOrderId(), sagaId);
-            } else {
-                // 결제 실패
-                payment.setStatus("FAILED");
-                payment.setFailureReason("외부 결제 게이트웨이 오류");
-                paymentRepository.save(payment);
-                
-                result = new PaymentResult(
-                    orderRequest.getOrderId(),
-                    "FAILED",
-                    "결제 처리에 실패했습니다"
-                );
-                
-                log.warn("결제 실패: orderId={}, sagaId={}", orderRequest.getOrderId(), sagaId);
+        } catch (DataAccessException e) {
+            // 게이트웨이 호출 전의 일시적 DB 오류는 재시도 토픽으로 넘김
+            log.warn("결제 처리 중 DB 오류, 재시도 예정: orderId={}, sagaId={}, error={}", 
+                    orderRequest.getOrderId(), sagaId, e.getMessage());
+            throw e;
+        }
+        
+        try {
+            // 2'. 마이크로 배치 모드: 배치에 등록하고, 결과는 배치 완료 시 전송 (우선 레인은 배치 대기 없이 바로 승인)
+            AuthorizationBatcher batcher = lane == PaymentLane.NORMAL ? authorizationBatcher.getIfAvailable() : null;
+            if (batcher != null) {
+                batcher.submit(payment).whenComplete((success, error) ->
+                    onBatchedAuthorization(payment, success, error, originInstance));
+                return new PaymentResult(orderRequest.getOrderId(), PaymentStatus.PROCESSING.name(), "결제 승인 대기 중");
             }
             
+            // 2. 실제 결제 처리 (외부 결제 게이트웨이 호출)
+            boolean paymentSuccess = paymentGateway.authorize(payment, lane);
+            
             // 3. 결제 결과를 Saga 오케스트레이터로 전송
-            sendPaymentResultWithSaga(result, sagaId);
+            return completePayment(payment, paymentSuccess, originInstance);
             
-            return result;
+        } catch (GatewayOverloadedException e) {
+            // 게이트웨이 한도 초과 - 호출하지 않고 즉시 실패 처리 (Saga가 보상)
+            return failOverloaded(payment, originInstance);
             
         } catch (Exception e) {
             log.error("결제 처리 중 오류 발생: orderId={}, sagaId={}, error={}", 
                      orderRequest.getOrderId(), sagaId, e.getMessage());
             
-            // 오류 시 결제 상태 업데이트
-            if (payment != null) {
-                payment.setStatus("ERROR");
-                payment.setFailureReason(e.getMessage());
-                paymentRepository.save(payment);
+            return failWithError(payment, orderRequest.getOrderId(), sagaId, originInstance, e);
+        }
+    }
+    
+    /**
+     * 같은 Saga 의 결제 요청 재전달 - 기록된 결과를 다시 보내고, 아직 처리 중이면 무시
+     */
+    private PaymentResult replayExisting(Payment payment, String originInstance) {
+        PaymentStatus status = payment.getStatus();
+        log.warn("이미 처리된 결제 요청 재전달: orderId={}, sagaId={}, status={}", 
+                payment.getOrderId(), payment.getSagaId(), status);
+        
+        PaymentResult result;
+        if (status == PaymentStatus.COMPLETED) {
+            result = new PaymentResult(payment.getOrderId(), status.name(), "결제가 성공적으로 완료되었습니다");
+        } else if (status == PaymentStatus.FAILED || status == PaymentStatus.ERROR) {
+            result = new PaymentResult(payment.getOrderId(), status.name(), "결제 처리에 실패했습니다: " + payment.getFailureReason());
+        } else {
+            // 승인 진행 중(배치 대기 등)이거나 이미 보상된 결제 - 결과를 다시 보내지 않음
+            // (결과 없이 남은 PROCESSING 은 Saga 마감 보상 후 PaymentReconciler 가 게이트웨이 조회로 마무리)
+            return new PaymentResult(payment.getOrderId(), status.name(), "이미 처리 중이거나 보상된 결제");
+        }
+        sendPaymentResultWithSaga(result, payment.getSagaId(), originInstance);
+        return result;
+    }
+    
+    /**
+     * 배치 승인 결과 반영 (배치 호출 스레드에서 실행, 결제가 저장된 샤드로 라우팅)
+     */
+    private void onBatchedAuthorization(Payment payment, Boolean success, Throwable error, String originInstance) {
+        try {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            shardRouter.run(payment.getSagaId(), () -> {
+                if (cause instanceof GatewayOverloadedException) {
+                    failOverloaded(payment, originInstance);
+                } else if (cause instanceof GatewayOutcomeUnknownException) {
+                    // 승인됐을 수도 있으므로 ERROR 로 기록하지 않음 (대사가 조회 후 마무리)
+                    failUnresolved(payment, originInstance, cause.getMessage());
+                } else if (cause != null) {
+                    failWithError(payment, payment.getOrderId(), payment.getSagaId(), originInstance, cause);
+                } else {
+                    completePayment(payment, Boolean.TRUE.equals(success), originInstance);
+                }
+            });
+        } catch (Exception e) {
+            log.error("배치 승인 결과 반영 실패: orderId={}, sagaId={}, error={}", 
+                     payment.getOrderId(), payment.getSagaId(), e.getMessage());
+        }
+    }
+    
+    /**
+     * 게이트웨이 승인 결과 저장 및 전송
+     */
+    private PaymentResult completePayment(Payment payment, boolean paymentSuccess, String originInstance) {
+        PaymentResult result;
+        if (paymentSuccess) {
+            // 결제 성공 (기록하지 못하면 성공을 보내지 않음 - PROCESSING 행은 대사에서 승인 취소되므로)
+            payment.setStatus(PaymentStatus.COMPLETED);
+            if (!saveOutcome(payment)) {
+                payment.setStatus(PaymentStatus.PROCESSING);
+                return failUnresolved(payment, originInstance, "결제 결과 기록 실패");
             }
             
-            PaymentResult errorResult = new PaymentResult(
-                orderRequest.getOrderId(),
-                "ERROR",
-                "결제 처리 중 오류가 발생했습니다: " + e.getMessage()
+            result = new PaymentResult(
+                payment.getOrderId(),
+                PaymentStatus.COMPLETED.name(),
+                "결제가 성공적으로 완료되었습니다"
             );
             
-            // 오류 결과도 Saga 오케스트레이터로 전송
-            sendPaymentResultWithSaga(errorResult, sagaId);
+            journal.append(SagaEvent.PAYMENT_AUTHORIZED, payment.getSagaId());
+            if (journal.logSampled()) {
+                log.info("결제 성공: orderId={}, sagaId={}", payment.getOrderId(), payment.getSagaId());
+            }
+        } else {
+            // 결제 실패
+            payment.setStatus(PaymentStatus.FAILED);
+            payment.setFailureReason("외부 결제 게이트웨이 오류");
+            saveOutcome(payment);
+            
+            result = new PaymentResult(
+                payment.getOrderId(),
+                PaymentStatus.FAILED.name(),
+                "결제 처리에 실패했습니다"
+            );
             
-            return errorResult;
+            journal.append(SagaEvent.PAYMENT_DECLINED, payment.getSagaId());
+            log.warn("결제 실패: orderId={}, sagaId={}", payment.getOrderId(), payment.getSagaId());
+        }
+        
+        sendPaymentResultWithSaga(result, payment.getSagaId(), originInstance);
+        return result;
+    }
+    
+    /**
+     * 승인 결과를 확정하지 못한 결제 - 행은 PROCESSING 으로 두고 Saga 에는 오류를 보내 보상하게 함
+     * (PaymentReconciler 가 stale-after 이후 게이트웨이 조회로 승인 건은 취소, 나머지는 실패로 마무리)
+     */
+    private PaymentResult failUnresolved(Payment payment, String originInstance, String reason) {
+        journal.append(SagaEvent.PAYMENT_ERROR, payment.getSagaId());
+        log.error("결제 승인 결과 미확정 (PROCESSING 유지, 대사 예정): orderId={}, sagaId={}, reason={}", 
+                 payment.getOrderId(), payment.getSagaId(), reason);
+        
+        PaymentResult errorResult = new PaymentResult(
+            payment.getOrderId(),
+            PaymentStatus.ERROR.name(),
+            "결제 처리 중 오류가 발생했습니다: " + reason
+        );
+        sendPaymentResultWithSaga(errorResult, payment.getSagaId(), originInstance);
+        
+        return errorResult;
+    }
+    
+    /**
+     * 게이트웨이 과부하로 인한 즉시 실패
+     */
+    private PaymentResult failOverloaded(Payment payment, String originInstance) {
+        journal.append(SagaEvent.PAYMENT_OVERLOADED, payment.getSagaId());
+        log.warn("게이트웨이 과부하로 결제 즉시 실패: orderId={}, sagaId={}", payment.getOrderId(), payment.getSagaId());
+        
+        payment.setStatus(PaymentStatus.FAILED);
+        payment.setFailureReason(GatewayOverloadedException.REASON);
+        saveOutcome(payment);
+        
+        PaymentResult overloadedResult = new PaymentResult(
+            payment.getOrderId(),
+            PaymentStatus.FAILED.name(),
+            "결제 게이트웨이 과부하 (" + GatewayOverloadedException.REASON + ")"
+        );
+        sendPaymentResultWithSaga(overloadedResult, payment.getSagaId(), originInstance);
+        
+        return overloadedResult;
+    }
+    
+    /**
+     * 처리 중 오류
+     */
+    private PaymentResult failWithError(Payment payment, String orderId, String sagaId, String originInstance, Throwable e) {
+        journal.append(SagaEvent.PAYMENT_ERROR, sagaId);
+        
+        // 오류 시 결제 상태 업데이트
+        if (payment != null) {
+            payment.setStatus(PaymentStatus.ERROR);
+            payment.setFailureReason(e.getMessage());
+            saveOutcome(payment);
         }
+        
+        PaymentResult errorResult = new PaymentResult(
+            orderId,
+            PaymentStatus.ERROR.name(),
+            "결제 처리 중 오류가 발생했습니다: " + e.getMessage()
+        );
+        
+        // 오류 결과도 Saga 오케스트레이터로 전송
+        sendPaymentResultWithSaga(errorResult, sagaId, originInstance);
+        
+        return errorResult;
     }
     
     /**
      * 보상 트랜잭션 - 결제 취소
+     * COMPLETED -> CANCELLING 조건부 전이로 선점한 경우에만 게이트웨이 취소를 호출하므로,
+     * 재시도/중복 요청이 와도 환불은 한 번만 일어남
+     * (같은 orderId 로 여러 Saga 가 있을 수 있으므로 결제는 sagaId 로 찾음)
      */
-    @Transactional
     public void cancelPayment(PaymentCancelRequest cancelRequest) {
+        Payment payment = null;
         try {
-            log.info("결제 취소 요청 처리: orderId={}, sagaId={}, reason={}", 
-                    cancelRequest.getOrderId(), cancelRequest.getSagaId(), cancelRequest.getReason());
-            
-            Payment payment = paymentRepository.findByOrderId(cancelRequest.getOrderId());
-            
-            if (payment != null && "COMPLETED".equals(payment.getStatus())) {
-                // 실제 결제 취소 처리 (외부 결제 게이트웨이 호출)
-                boolean cancelSuccess = processExternalCancel(payment);
-                
-                if (cancelSuccess) {
-                    payment.setStatus("CANCELLED");
-                    payment.setFailureReason(cancelRequest.getReason());
-                    paymentRepository.save(payment);
-                    
-                    log.info("결제 취소 완료: orderId={}, sagaId={}", 
-                            cancelRequest.getOrderId(), cancelRequest.getSagaId());
-                } else {
-                    log.error("결제 취소 실패: orderId={}, sagaId={}", 
-                             cancelRequest.getOrderId(), cancelRequest.getSagaId());
-                    
-                    payment.setStatus("CANCEL_FAILED");
-                    paymentRepository.save(payment);
-                }
-            } else {
-                log.warn("취소할 결제를 찾을 수 없거나 이미 처리됨: orderId={}, status={}", 
-                        cancelRequest.getOrderId(), payment != null ? payment.getStatus() : "NOT_FOUND");
+            journal.append(SagaEvent.PAYMENT_CANCEL_RECEIVED, cancelRequest.getSagaId());
+            if (journal.logSampled()) {
+                log.info("결제 취소 요청 처리: orderId={}, sagaId={}, reason={}", 
+                        cancelRequest.getOrderId(), cancelRequest.getSagaId(), cancelRequest.getReason());
             }
             
+            payment = paymentRepository.findFirstBySagaIdOrderByIdDesc(cancelRequest.getSagaId());
+            
+            if (payment == null || payment.getStatus() != PaymentStatus.COMPLETED
+                    || paymentRepository.transition(payment.getId(), PaymentStatus.COMPLETED, PaymentStatus.CANCELLING, LocalDateTime.now()) == 0) {
+                log.warn("취소할 결제를 찾을 수 없거나 이미 처리됨: orderId={}, sagaId={}, status={}", 
+                        cancelRequest.getOrderId(), cancelRequest.getSagaId(), payment != null ? payment.getStatus() : "NOT_FOUND");
+                return;
+            }
+        } catch (DataAccessException e) {
+            // 게이트웨이 호출 전이므로 재시도 토픽으로 넘겨도 중복 환불 없음
+            log.warn("결제 취소 처리 중 DB 오류, 재시도 예정: orderId={}, sagaId={}, error={}", 
+                    cancelRequest.getOrderId(), cancelRequest.getSagaId(), e.getMessage());
+            throw e;
+        }
+        
+        boolean cancelSuccess;
+        try {
+            // 실제 결제 취소 처리 (외부 결제 게이트웨이 호출)
+            cancelSuccess = paymentGateway.cancel(payment);
+        } catch (GatewayOverloadedException e) {
+            // 호출하지 않았으므로 선점을 되돌리고 재시도 토픽으로 넘김 (취소는 유실되면 안 됨)
+            paymentRepository.transition(payment.getId(), PaymentStatus.CANCELLING, PaymentStatus.COMPLETED, LocalDateTime.now());
+            log.warn("게이트웨이 과부하로 결제 취소 재시도 예정: orderId={}, sagaId={}", 
+                    cancelRequest.getOrderId(), cancelRequest.getSagaId());
+            throw e;
         } catch (Exception e) {
-            log.error("결제 취소 처리 중 오류: orderId={}, sagaId={}, error={}", 
+            // 취소 여부를 알 수 없으므로 CANCELLING 으로 남겨 두고 재시도하지 않음 (PaymentReconciler 가 상태 조회로 마무리)
+            log.error("결제 취소 처리 중 오류 (CANCELLING 유지, 대사 예정): orderId={}, sagaId={}, error={}", 
                      cancelRequest.getOrderId(), cancelRequest.getSagaId(), e.getMessage());
+            return;
+        }
+        
+        if (cancelSuccess) {
+            journal.append(SagaEvent.PAYMENT_CANCELLED, cancelRequest.getSagaId());
+            if (journal.logSampled()) {
+                log.info("결제 취소 완료: orderId={}, sagaId={}", 
+                        cancelRequest.getOrderId(), cancelRequest.getSagaId());
+            }
+        } else {
+            journal.append(SagaEvent.PAYMENT_CANCEL_FAILED, cancelRequest.getSagaId());
+            log.error("결제 취소 실패: orderId={}, sagaId={}", 
+                     cancelRequest.getOrderId(), cancelRequest.getSagaId());
+        }
+        recordCancelOutcomes(List.of(payment), Map.of(payment, cancelSuccess), Map.of(payment.getSagaId(), cancelRequest));
+    }
+    
+    /**
+     * 보상 트랜잭션 - 결제 일괄 취소
+     * 결제가 있는 샤드별로 나눠 처리 (파티션과 샤드가 맞춰져 있어 보통 한 샤드)
+     *
+     * @return 게이트웨이 취소를 호출하지 못해 다시 시도해야 하는 취소 요청
+     */
+    public List<PaymentCancelRequest> cancelPayments(List<PaymentCancelRequest> cancelRequests) {
+        List<PaymentCancelRequest> retryable = new ArrayList<>();
+        shardRouter.groupByShard(cancelRequests, PaymentCancelRequest::getSagaId)
+            .forEach((shard, requests) -> retryable.addAll(ShardContext.callOn(shard, () -> cancelPaymentsOnShard(requests))));
+        return retryable;
+    }
+    
+    /**
+     * 한 샤드의 결제 일괄 취소
+     * 1) 대상 결제를 sagaId 로 한 번에 조회 후 한 트랜잭션에서 CANCELLING 으로 선점
+     * 2) 선점한 결제만 제한된 병렬도로 게이트웨이 취소 호출
+     * 3) 결과를 한 트랜잭션으로 기록 (게이트웨이 호출 이후에는 예외를 던지지 않아 배치 재전달로 인한 중복 환불 없음)
+     */
+    private List<PaymentCancelRequest> cancelPaymentsOnShard(List<PaymentCancelRequest> cancelRequests) {
+        Map<String, PaymentCancelRequest> requestBySagaId = new LinkedHashMap<>();
+        for (PaymentCancelRequest request : cancelRequests) {
+            requestBySagaId.put(request.getSagaId(), request);
+        }
+        
+        // 게이트웨이 호출 전 단계 - 실패하면 선점도 롤백되므로 배치 전체 재시도 가능
+        List<Payment> payments = paymentRepository.findBySagaIdIn(requestBySagaId.keySet());
+        LocalDateTime claimedAt = LocalDateTime.now();
+        List<Payment> claimed = new TransactionTemplate(transactionManager).execute(status -> {
+            List<Payment> result = new ArrayList<>();
+            for (Payment payment : payments) {
+                if (payment.getStatus() == PaymentStatus.COMPLETED
+                        && paymentRepository.transition(payment.getId(), PaymentStatus.COMPLETED, PaymentStatus.CANCELLING, claimedAt) == 1) {
+                    result.add(payment);
+                }
+            }
+            return result;
+        });
+        log.info("결제 일괄 취소: 요청={} 건, 취소 대상={} 건", cancelRequests.size(), claimed.size());
+        
+        // 게이트웨이 취소 호출 (제한된 병렬도)
+        Map<Payment, CompletableFuture<Boolean>> calls = new LinkedHashMap<>();
+        for (Payment payment : claimed) {
+            calls.put(payment, CompletableFuture.supplyAsync(() -> paymentGateway.cancel(payment), paymentCancelExecutor));
+        }
+        
+        List<Payment> finished = new ArrayList<>();
+        Map<Payment, Boolean> outcomes = new HashMap<>();
+        List<Payment> released = new ArrayList<>();
+        
+        for (Map.Entry<Payment, CompletableFuture<Boolean>> call : calls.entrySet()) {
+            Payment payment = call.getKey();
+            PaymentCancelRequest request = requestBySagaId.get(payment.getSagaId());
+            try {
+                boolean success = call.getValue().join();
+                if (success) {
+                    journal.append(SagaEvent.PAYMENT_CANCELLED, request.getSagaId());
+                } else {
+                    journal.append(SagaEvent.PAYMENT_CANCEL_FAILED, request.getSagaId());
+                    log.error("결제 취소 실패: orderId={}, sagaId={}", request.getOrderId(), request.getSagaId());
+                }
+                finished.add(payment);
+                outcomes.put(payment, success);
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof GatewayOverloadedException) {
+                    // 호출하지 않았으므로 선점을 되돌리고 재시도 대상
+                    log.warn("결제 취소 재시도 예정: orderId={}, sagaId={}, error={}", 
+                            request.getOrderId(), request.getSagaId(), e.getCause().getMessage());
+                    released.add(payment);
+                } else {
+                    // 취소 여부를 알 수 없으므로 CANCELLING 으로 남겨 두고 재시도하지 않음 (PaymentReconciler 가 마무리)
+                    log.error("결제 취소 처리 중 오류 (CANCELLING 유지, 대사 예정): orderId={}, sagaId={}, error={}", 
+                             request.getOrderId(), request.getSagaId(), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                }
+            }
+        }
+        
+        recordCancelOutcomes(finished, outcomes, requestBySagaId);
+        
+        List<PaymentCancelRequest> retryable = new ArrayList<>();
+        for (Payment payment : released) {
+            try {
+                paymentRepository.transition(payment.getId(), PaymentStatus.CANCELLING, PaymentStatus.COMPLETED, LocalDateTime.now());
+                retryable.add(requestBySagaId.get(payment.getSagaId()));
+            } catch (DataAccessException e) {
+                log.error("결제 취소 선점 해제 실패 (CANCELLING 유지, 대사 예정): orderId={}, error={}", 
+                         payment.getOrderId(), e.getMessage());
+            }
+        }
+        return retryable;
+    }
+    
+    /**
+     * 게이트웨이 취소 결과 기록 (CANCELLING 인 행만, 현재 샤드의 한 트랜잭션)
+     * 일괄 기록이 실패하면 건별로 다시 기록하고, 그래도 실패한 건은 CANCELLING 으로 남김 (예외를 던지지 않음)
+     */
+    private void recordCancelOutcomes(List<Payment> payments, Map<Payment, Boolean> outcomes,
+                                      Map<String, PaymentCancelRequest> requestBySagaId) {
+        if (payments.isEmpty()) {
+            return;
+        }
+        for (Payment payment : payments) {
+            if (outcomes.get(payment)) {
+                payment.setStatus(PaymentStatus.CANCELLED);
+                payment.setFailureReason(requestBySagaId.get(payment.getSagaId()).getReason());
+            } else {
+                payment.setStatus(PaymentStatus.CANCEL_FAILED);
+                payment.setFailureReason(null);
+            }
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                Map<PaymentStatus, Map<String, List<Long>>> grouped = new HashMap<>();
+                for (Payment payment : payments) {
+                    grouped.computeIfAbsent(payment.getStatus(), s -> new HashMap<>())
+                        .computeIfAbsent(payment.getFailureReason(), r -> new ArrayList<>())
+                        .add(payment.getId());
+                }
+                grouped.forEach((target, byReason) -> byReason.forEach((reason, ids) ->
+                    paymentRepository.updateStatus(ids, PaymentStatus.CANCELLING, target, reason, now)));
+            });
+        } catch (DataAccessException e) {
+            log.warn("결제 취소 결과 일괄 기록 실패, 건별 재기록: {} 건, error={}", payments.size(), e.getMessage());
+            for (Payment payment : payments) {
+                try {
+                    paymentRepository.updateStatus(List.of(payment.getId()), PaymentStatus.CANCELLING,
+                        payment.getStatus(), payment.getFailureReason(), now);
+                } catch (DataAccessException retryError) {
+                    log.error("결제 취소 결과 기록 실패 (CANCELLING 유지, 대사 예정): orderId={}, status={}, error={}", 
+                             payment.getOrderId(), payment.getStatus(), retryError.getMessage());
+                }
+            }
         }
+        
+        // 읽기 모델 반영 (일괄 UPDATE 는 엔티티를 거치지 않으므로 직접 반영)
+        payments.forEach(paymentViewProjector::project);
     }
     
     /**
@@ -150,58 +487,49 @@ public class PaymentService {
         payment.setCurrency(orderRequest.getCurrency());
         payment.setPaymentMethod(orderRequest.getPaymentMethod());
         payment.setSagaId(sagaId);  // Saga ID 저장
-        payment.setStatus("PROCESSING");
+        payment.setStatus(PaymentStatus.PROCESSING);
         
-        return paymentRepository.save(payment);
+        return savePayment(payment);
     }
     
     /**
-     * 외부 결제 게이트웨이 처리 시뮬레이션
+     * 게이트웨이 호출 이후 결과 저장 - 실패해도 예외를 던지지 않음
+     * (재시도 토픽으로 넘기면 승인이 다시 호출되므로, 행은 PROCESSING 으로 남겨 PaymentReconciler 가 마무리)
+     * PROCESSING 인 경우에만 기록하므로 대사가 먼저 마무리한 결과를 덮어쓰지 않음
+     *
+     * @return 기록 여부
      */
-    private boolean processExternalPayment(Payment payment) {
+    private boolean saveOutcome(Payment payment) {
         try {
-            // 실제로는 외부 결제 API 호출
-            // 여기서는 시뮬레이션을 위해 간단한 로직 사용
-            
-            // 90% 확률로 성공
-            double successRate = 0.9;
-            boolean success = Math.random() < successRate;
-            
-            // 처리 시간 시뮬레이션 (1-3초)
-            Thread.sleep(1000 + (long)(Math.random() * 2000));
-            
-            return success;
-            
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return false;
-        } catch (Exception e) {
-            log.error("외부 결제 처리 오류: {}", e.getMessage());
+            if (paymentRepository.updateStatus(List.of(payment.getId()), PaymentStatus.PROCESSING,
+                    payment.getStatus(), payment.getFailureReason(), LocalDateTime.now()) == 0) {
+                log.warn("이미 대사로 마무리된 결제, 결과 기록 생략: orderId={}, sagaId={}, status={}", 
+                        payment.getOrderId(), payment.getSagaId(), payment.getStatus());
+                return false;
+            }
+            paymentViewProjector.project(payment);
+            return true;
+        } catch (DataAccessException e) {
+            log.error("결제 결과 저장 실패 (PROCESSING 유지, 대사 예정): orderId={}, sagaId={}, status={}, error={}", 
+                     payment.getOrderId(), payment.getSagaId(), payment.getStatus(), e.getMessage());
             return false;
         }
     }
     
     /**
-     * 외부 결제 취소 처리 시뮬레이션
+     * 결제 저장 후 읽기 모델 반영
      */
-    private boolean processExternalCancel(Payment payment) {
-        try {
-            // 실제로는 외부 결제 취소 API 호출
-            log.info("외부 결제 취소 API 호출: paymentId={}", payment.getId());
-            
-            // 95% 확률로 취소 성공
-            return Math.random() < 0.95;
-            
-        } catch (Exception e) {
-            log.error("외부 결제 취소 오류: {}", e.getMessage());
-            return false;
-        }
+    private Payment savePayment(Payment payment) {
+        Payment saved = paymentRepository.save(payment);
+        paymentViewProjector.project(saved);
+        return saved;
     }
     
     /**
      * Saga ID와 함께 결제 결과 전송
+     * 모든 결과는 공용 결과 토픽으로 보내고, 요청한 order-service 인스턴스 식별자가 있으면 헤더로 되돌려 줌
      */
-    private void sendPaymentResultWithSaga(PaymentResult result, String sagaId) {
+    private void sendPaymentResultWithSaga(PaymentResult result, String sagaId, String originInstance) {
         try {
             // Saga ID를 포함한 메시지 전송
             PaymentResultWithSaga sagaResult = new PaymentResultWithSaga(
@@ -211,9 +539,16 @@ public class PaymentService {
                 sagaId
             );
             
-            kafkaTemplate.send(PAYMENT_RESULT_TOPIC, sagaResult);
-            log.info("결제 결과 전송 완료: orderId={}, status={}, sagaId={}", 
-                    result.getOrderId(), result.getStatus(), sagaId);
+            ProducerRecord<String, Object> record = new ProducerRecord<>(PAYMENT_RESULT_TOPIC, sagaId, sagaResult);
+            if (originInstance != null) {
+                record.headers().add(SagaHeaders.ORIGIN_INSTANCE, originInstance.getBytes(StandardCharsets.UTF_8));
+            }
+            kafkaTemplate.send(record);
+            journal.append(SagaEvent.PAYMENT_RESULT_SENT, sagaId);
+            if (journal.logSampled()) {
+                log.info("결제 결과 전송 완료: orderId={}, status={}, sagaId={}, origin={}", 
+                        result.getOrderId(), result.getStatus(), sagaId, originInstance);
+            }
             
         } catch (Exception e) {
             log.error("결제 결과 전송 실패: sagaId={}, error={}", sagaId, e.getMessage());
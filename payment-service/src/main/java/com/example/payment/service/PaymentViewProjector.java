@@ -0,0 +1,236 @@
+package com.example.payment.service;
+
+import com.example.payment.domain.Payment;
+import com.example.payment.domain.PaymentView;
+import com.example.payment.repository.PaymentRepository;
+import com.example.payment.repository.PaymentViewRepository;
+import com.example.payment.shard.PaymentShardRouter;
+import com.example.payment.shard.ShardContext;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 결제 쓰기 경로의 변경을 읽기 모델(payment_view)에 반영
+ * 트랜잭션 커밋 후 단일 스레드에서 순서대로 반영하므로 결제 처리 지연에 영향을 주지 않음
+ * 읽기 모델은 샤드 0 에 모아 두므로 결제 샤드와 무관하게 주문/Saga/목록 조회가 한 DB 에서 끝남
+ * 반영에 실패한 결제는 결제별 최신 값만 남겨 두었다가 주기적으로 다시 반영 (읽기 모델이 결국 원본과 같아짐)
+ * 대기열과 실패 목록은 메모리에만 있으므로, 기동 시 읽기 모델의 마지막 반영 시각(- catch-up-overlap) 이후
+ * 변경된 결제를 모든 샤드에서 다시 반영해 비정상 종료로 잃은 반영을 따라잡음
+ */
+@Service
+@RequiredArgsConstructor
+public class PaymentViewProjector {
+    
+    private static final int REBUILD_BATCH_SIZE = 500;
+    
+    @Value("${payment.view.catch-up-on-startup:true}")
+    private boolean catchUpOnStartup;
+    
+    @Value("${payment.view.catch-up-overlap:10m}")
+    private Duration catchUpOverlap;
+    
+    @Value("${payment.view.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs;
+    
+    private final PaymentViewRepository paymentViewRepository;
+    private final PaymentRepository paymentRepository;
+    private final PaymentQueryService paymentQueryService;
+    private final PaymentShardRouter shardRouter;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "payment-view-projector");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // 반영 실패한 결제별 최신 읽기 모델 (이후 반영이 성공하면 제거)
+    private final Map<Long, PaymentView> failed = new ConcurrentHashMap<>();
+    private final AtomicBoolean retryQueued = new AtomicBoolean(false);
+    
+    private static final Logger log = LoggerFactory.getLogger(PaymentViewProjector.class);
+    
+    /**
+     * 결제 상태 반영 (호출 시점의 값을 복사해 두고, 트랜잭션이 있으면 커밋 이후 반영)
+     */
+    public void project(Payment payment) {
+        PaymentView view = PaymentView.from(payment);
+        
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    executor.execute(() -> apply(view));
+                }
+            });
+        } else {
+            executor.execute(() -> apply(view));
+        }
+    }
+    
+    /**
+     * 모든 샤드의 결제 테이블로 읽기 모델 재구성 (기존 데이터 초기 적재용)
+     */
+    public void rebuild() {
+        executor.execute(() -> {
+            int total = 0;
+            for (int shard = 0; shard < shardRouter.getConfiguredShards(); shard++) {
+                long lastId = 0;
+                try {
+                    while (true) {
+                        long after = lastId;
+                        List<Payment> payments = ShardContext.callOn(shard, () ->
+                            paymentRepository.findByIdGreaterThanOrderById(after, PageRequest.of(0, REBUILD_BATCH_SIZE)));
+                        if (payments.isEmpty()) {
+                            break;
+                        }
+                        List<PaymentView> views = payments.stream()
+                            .map(PaymentView::from)
+                            .collect(Collectors.toList());
+                        paymentViewRepository.saveAll(views);
+                        views.forEach(view -> {
+                            paymentQueryService.evict(view);
+                            failed.remove(view.getPaymentId());
+                        });
+                        
+                        lastId = payments.get(payments.size() - 1).getId();
+                        total += payments.size();
+                    }
+                    
+                } catch (Exception e) {
+                    log.error("결제 읽기 모델 재구성 실패: shard={}, lastId={}, error={}", shard, lastId, e.getMessage());
+                    return;
+                }
+            }
+            log.info("결제 읽기 모델 재구성 완료: {} 건", total);
+        });
+    }
+    
+    /**
+     * 기동 시 마지막 반영 시각 이후 변경된 결제 재반영
+     * (반영 시각은 커밋 전에 찍히고 실패 목록은 오래 남을 수 있으므로 catch-up-overlap 만큼 앞에서부터 읽음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUp() {
+        if (!catchUpOnStartup) {
+            return;
+        }
+        executor.execute(() -> {
+            LocalDateTime highWaterMark;
+            try {
+                highWaterMark = paymentViewRepository.findHighWaterMark();
+            } catch (Exception e) {
+                log.error("결제 읽기 모델 마지막 반영 시각 조회 실패: error={}", e.getMessage());
+                return;
+            }
+            if (highWaterMark == null) {
+                // 비어 있는 읽기 모델은 rebuild 로 초기 적재
+                return;
+            }
+            
+            LocalDateTime since = highWaterMark.minus(catchUpOverlap);
+            int total = 0;
+            for (int shard = 0; shard < shardRouter.getConfiguredShards(); shard++) {
+                LocalDateTime lastUpdatedAt = since;
+                long lastId = 0;
+                try {
+                    while (true) {
+                        LocalDateTime afterUpdatedAt = lastUpdatedAt;
+                        long afterId = lastId;
+                        List<Payment> payments = ShardContext.callOn(shard, () -> paymentRepository.findChangedSince(
+                            afterUpdatedAt, afterId, PageRequest.of(0, REBUILD_BATCH_SIZE)));
+                        if (payments.isEmpty()) {
+                            break;
+                        }
+                        for (Payment payment : payments) {
+                            apply(PaymentView.from(payment));
+                        }
+                        
+                        Payment last = payments.get(payments.size() - 1);
+                        lastUpdatedAt = last.getUpdatedAt();
+                        lastId = last.getId();
+                        total += payments.size();
+                    }
+                    
+                } catch (Exception e) {
+                    log.error("결제 읽기 모델 따라잡기 실패: shard={}, since={}, error={}", shard, lastUpdatedAt, e.getMessage());
+                }
+            }
+            log.info("결제 읽기 모델 따라잡기 완료: since={}, {} 건", since, total);
+        });
+    }
+    
+    /**
+     * 반영 실패한 결제 재반영 (반영과 같은 스레드에서 실행하므로 이후 변경보다 늦게 덮어쓰지 않음)
+     */
+    @Scheduled(fixedDelayString = "${payment.view.retry-interval-ms:5000}")
+    public void retryFailed() {
+        if (failed.isEmpty() || !retryQueued.compareAndSet(false, true)) {
+            return;
+        }
+        executor.execute(() -> {
+            retryQueued.set(false);
+            List<PaymentView> views = new ArrayList<>(failed.values());
+            int recovered = 0;
+            for (PaymentView view : views) {
+                if (failed.get(view.getPaymentId()) != view) {
+                    continue;  // 그 사이 더 최신 값이 반영됨
+                }
+                if (apply(view)) {
+                    recovered++;
+                }
+            }
+            log.info("결제 읽기 모델 재반영: 성공 {} 건, 남은 건 {} 건", recovered, failed.size());
+        });
+    }
+    
+    private boolean apply(PaymentView view) {
+        try {
+            paymentViewRepository.save(view);
+            paymentQueryService.evict(view);
+            failed.remove(view.getPaymentId());
+            return true;
+        } catch (Exception e) {
+            failed.put(view.getPaymentId(), view);
+            log.error("결제 읽기 모델 반영 실패 (재반영 예정): paymentId={}, orderId={}, error={}", 
+                     view.getPaymentId(), view.getOrderId(), e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * 대기 중인 반영을 마칠 때까지 기다린 뒤 종료 (못 마친 반영은 다음 기동의 따라잡기가 처리)
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(shutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+                log.warn("결제 읽기 모델 반영 대기 시간 초과, 남은 반영은 다음 기동 시 따라잡음: 실패 {} 건", failed.size());
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+}
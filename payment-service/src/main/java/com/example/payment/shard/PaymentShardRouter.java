@@ -0,0 +1,146 @@
+package com.example.payment.shard;
+
+import com.example.payment.repository.PaymentRepository;
+import org.apache.kafka.common.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * sagaId(Kafka 레코드 키) 기준 결제 샤드 결정
+ *
+ * 샤드 = Kafka 기본 파티셔너와 같은 파티션(murmur2(key) % partitions)을 구한 뒤
+ * 파티션 구간을 샤드 수로 연속 분할 (partition * count / partitions)
+ * -> 한 파티션의 레코드는 항상 한 샤드로 가고, 샤딩 사용 시 결제 요청/취소 컨슈머는 RangeAssignor 로
+ *    연속된 파티션을 나눠 받으므로 컨슈머 수가 샤드 수와 같으면 컨슈머마다 한 샤드만 사용
+ *    (실제 토픽 파티션 수는 기동 시 ShardPartitionValidator 가 partitions 설정과 대조)
+ *
+ * 재샤딩 중(previous-count > 0)에는 쓰기는 새 배치, 기존 결제 조회는 새 위치 -> 이전 위치 순으로 확인
+ * 샤딩을 끄면 항상 샤드 0 (단일 DB)
+ */
+@Component
+public class PaymentShardRouter {
+
+    private final int configuredShards;
+    private final int count;
+    private final int previousCount;
+    private final int partitions;
+    private final PaymentRepository paymentRepository;
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentShardRouter.class);
+
+    public PaymentShardRouter(@Value("${payment.sharding.enabled:false}") boolean enabled,
+                              @Value("${payment.sharding.urls:}") List<String> urls,
+                              @Value("${payment.sharding.count:0}") int count,
+                              @Value("${payment.sharding.previous-count:0}") int previousCount,
+                              @Value("${payment.sharding.partitions:12}") int partitions,
+                              PaymentRepository paymentRepository) {
+        this.configuredShards = enabled ? 1 + (int) urls.stream().filter(url -> !url.isBlank()).count() : 1;
+        this.count = enabled && count > 0 ? count : configuredShards;
+        this.previousCount = enabled ? previousCount : 0;
+        this.partitions = partitions;
+        this.paymentRepository = paymentRepository;
+
+        if (this.count > configuredShards || this.previousCount > configuredShards) {
+            throw new IllegalArgumentException("payment.sharding.count/previous-count 가 설정된 샤드 수(" + configuredShards + ")보다 큼");
+        }
+        if (this.count > partitions) {
+            throw new IllegalArgumentException("payment.sharding.partitions(" + partitions + ")는 샤드 수(" + this.count + ") 이상이어야 함");
+        }
+        if (enabled) {
+            log.info("결제 샤딩: shards={}, count={}, previousCount={}, partitions={}",
+                configuredShards, this.count, this.previousCount, partitions);
+        }
+    }
+
+    /**
+     * Kafka 기본 파티셔너와 같은 파티션 번호
+     */
+    public int partitionOf(String key) {
+        return Utils.toPositive(Utils.murmur2(key.getBytes(StandardCharsets.UTF_8))) % partitions;
+    }
+
+    /**
+     * 새 배치 기준 샤드 (쓰기 대상)
+     */
+    public int shardOf(String sagaId) {
+        return partitionOf(sagaId) * count / partitions;
+    }
+
+    /**
+     * 이전 배치 기준 샤드 (재샤딩 중이 아니면 shardOf 와 같음)
+     */
+    public int previousShardOf(String sagaId) {
+        return isMigrating() ? partitionOf(sagaId) * previousCount / partitions : shardOf(sagaId);
+    }
+
+    public boolean isMigrating() {
+        return previousCount > 0 && previousCount != count;
+    }
+
+    /**
+     * 기존 결제가 있는 샤드 (재샤딩 중이면 sagaId 인덱스로 새 위치 -> 이전 위치 순 확인, 둘 다 없으면 새 위치)
+     */
+    public int locate(String sagaId) {
+        int shard = shardOf(sagaId);
+        if (!isMigrating()) {
+            return shard;
+        }
+        int previous = previousShardOf(sagaId);
+        if (previous == shard || ShardContext.callOn(shard, () -> paymentRepository.existsBySagaId(sagaId))) {
+            return shard;
+        }
+        return ShardContext.callOn(previous, () -> paymentRepository.existsBySagaId(sagaId)) ? previous : shard;
+    }
+
+    /**
+     * 기존 결제 위치별로 묶기 (샤드 번호 순)
+     */
+    public <T> Map<Integer, List<T>> groupByShard(Collection<T> items, Function<T, String> sagaId) {
+        Map<Integer, List<T>> groups = new TreeMap<>();
+        for (T item : items) {
+            groups.computeIfAbsent(locate(sagaId.apply(item)), s -> new ArrayList<>()).add(item);
+        }
+        return groups;
+    }
+
+    /**
+     * sagaId 의 샤드에서 실행
+     */
+    public <T> T call(String sagaId, Supplier<T> action) {
+        return ShardContext.callOn(shardOf(sagaId), action);
+    }
+
+    public void run(String sagaId, Runnable action) {
+        ShardContext.runOn(shardOf(sagaId), action);
+    }
+
+    /**
+     * 설정된 전체 샤드 수 (재샤딩 중에는 이전/새 배치를 모두 포함)
+     */
+    public int getConfiguredShards() {
+        return configuredShards;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getPreviousCount() {
+        return previousCount;
+    }
+
+    public int getPartitions() {
+        return partitions;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.payment.shard;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드가 사용할 결제 샤드 (ShardRoutingDataSource 가 커넥션을 얻을 때 참조)
+ * 트랜잭션은 시작 시점에 커넥션을 잡으므로 @Transactional 메서드를 호출하기 전에 지정해야 함
+ * 지정하지 않으면 기본 샤드(0)를 사용
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 지정한 샤드에서 실행 (중첩 호출 시 이전 샤드 복원)
+     */
+    public static <T> T callOn(int shard, Supplier<T> action) {
+        Integer previous = CURRENT.get();
+        if (previous != null && previous != shard && TransactionSynchronizationManager.isActualTransactionActive()) {
+            // 이미 잡은 커넥션은 바뀌지 않으므로 트랜잭션 안에서의 샤드 전환은 잘못된 호출
+            throw new IllegalStateException("트랜잭션 안에서 샤드 전환 불가: " + previous + " -> " + shard);
+        }
+        CURRENT.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void runOn(int shard, Runnable action) {
+        callOn(shard, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
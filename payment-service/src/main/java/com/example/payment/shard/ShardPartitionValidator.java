@@ -0,0 +1,79 @@
+package com.example.payment.shard;
+
+import com.example.common.kafka.PaymentLane;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 샤딩 사용 시 기동 전에 결제 토픽 파티션 수가 payment.sharding.partitions 와 같은지 확인
+ *
+ * 라우터는 파티션 번호를 설정값으로 계산하므로, 실제 파티션 수가 다르면 한 파티션의 레코드가 여러 샤드로 흩어짐
+ * 리스너 컨테이너가 시작되기 전(모든 싱글톤 생성 직후)에 검사해 어긋나면 기동을 중단
+ */
+@Component
+public class ShardPartitionValidator implements SmartInitializingSingleton {
+
+    /** 레코드 키(sagaId)로 샤드를 정하는 토픽 */
+    private static final List<String> SHARDED_TOPICS =
+        List.of(PaymentLane.NORMAL.getTopic(), PaymentLane.PRIORITY.getTopic(), "payment.cancel");
+
+    private final KafkaAdmin kafkaAdmin;
+    private final PaymentShardRouter shardRouter;
+
+    @Value("${payment.sharding.enabled:false}")
+    private boolean enabled;
+
+    @Value("${payment.sharding.validate-partitions:true}")
+    private boolean validatePartitions;
+
+    private static final Logger log = LoggerFactory.getLogger(ShardPartitionValidator.class);
+
+    public ShardPartitionValidator(KafkaAdmin kafkaAdmin, PaymentShardRouter shardRouter) {
+        this.kafkaAdmin = kafkaAdmin;
+        this.shardRouter = shardRouter;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled || !validatePartitions) {
+            return;
+        }
+
+        List<String> mismatched = new ArrayList<>();
+        for (String topic : SHARDED_TOPICS) {
+            int actual = partitionsOf(topic);
+            if (actual != shardRouter.getPartitions()) {
+                mismatched.add(topic + "=" + (actual < 0 ? "없음" : actual));
+            }
+        }
+
+        if (!mismatched.isEmpty()) {
+            throw new IllegalStateException("결제 토픽 파티션 수가 payment.sharding.partitions(" + shardRouter.getPartitions()
+                + ")와 다름: " + mismatched + " (토픽을 같은 파티션 수로 만든 뒤 기동)");
+        }
+        log.info("결제 토픽 파티션 수 확인: topics={}, partitions={}", SHARDED_TOPICS, shardRouter.getPartitions());
+    }
+
+    /**
+     * 토픽 파티션 수 (토픽이 없으면 -1)
+     */
+    private int partitionsOf(String topic) {
+        try {
+            Map<String, TopicDescription> descriptions = kafkaAdmin.describeTopics(topic);
+            TopicDescription description = descriptions.get(topic);
+            return description != null ? description.partitions().size() : -1;
+        } catch (Exception e) {
+            log.error("결제 토픽 조회 실패: topic={}, error={}", topic, e.getMessage());
+            return -1;
+        }
+    }
+}
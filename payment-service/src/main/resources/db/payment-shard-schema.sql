@@ -0,0 +1,62 @@
+-- 결제 샤드 스키마 (payment.sharding.enabled=true 이면 기동 시 모든 샤드에 실행, Payment / PaymentArchive 엔티티와 동일)
+-- 읽기 모델(payment_view)은 샤드 0 에만 두며 ddl-auto 가 관리
+
+CREATE TABLE IF NOT EXISTS payment (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    amount DECIMAL(38,2),
+    created_at DATETIME(6),
+    currency VARCHAR(255),
+    failure_reason VARCHAR(255),
+    order_id VARCHAR(255),
+    payment_method VARCHAR(255),
+    saga_id VARCHAR(255),
+    status SMALLINT,
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_payment_order_id (order_id),
+    INDEX idx_payment_saga_id (saga_id),
+    INDEX idx_payment_status_created_at (status, created_at),
+    INDEX idx_payment_updated_at (updated_at, id)
+);
+
+-- 이전 버전에서 만든 payment 테이블 보강 (이미 있으면 건너뜀)
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.COLUMNS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'payment' AND COLUMN_NAME = 'updated_at') = 0,
+              'ALTER TABLE payment ADD COLUMN updated_at DATETIME(6) NULL',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.STATISTICS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'payment' AND INDEX_NAME = 'idx_payment_saga_id') = 0,
+              'CREATE INDEX idx_payment_saga_id ON payment (saga_id)',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.STATISTICS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'payment' AND INDEX_NAME = 'idx_payment_updated_at') = 0,
+              'CREATE INDEX idx_payment_updated_at ON payment (updated_at, id)',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+CREATE TABLE IF NOT EXISTS payment_archive (
+    id BIGINT NOT NULL,
+    amount DECIMAL(38,2),
+    archive_month INT,
+    archived_at DATETIME(6),
+    created_at DATETIME(6),
+    currency VARCHAR(255),
+    failure_reason VARCHAR(255),
+    order_id VARCHAR(255),
+    payment_method VARCHAR(255),
+    saga_id VARCHAR(255),
+    status SMALLINT,
+    PRIMARY KEY (id),
+    INDEX idx_payment_archive_order_id (order_id),
+    INDEX idx_payment_archive_month (archive_month)
+);
@@ -0,0 +1,77 @@
+package com.example.payment.benchmark;
+
+import com.example.payment.domain.Payment;
+import com.example.payment.gateway.AuthorizationBatcher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 배치 윈도우 크기별 승인 처리량 비교
+ *
+ * 게이트웨이는 호출당 고정 지연(callMs) + 건당 지연(perItemMicros)을 갖는 스텁으로 대체하고,
+ * 동시 배치 호출 수는 callParallelism 으로 제한한다.
+ *
+ * 실행: mvn -pl payment-service test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.example.payment.benchmark.AuthorizationBatchBenchmark
+ */
+public class AuthorizationBatchBenchmark {
+    
+    private static final int REQUESTS = 4000;
+    private static final int SUBMITTERS = 64;
+    private static final int CALL_PARALLELISM = 8;
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final long CALL_MS = 20;
+    private static final long PER_ITEM_MICROS = 200;
+    
+    public static void main(String[] args) throws Exception {
+        long[] windows = {0, 2, 5, 10, 20, 50};
+        
+        System.out.printf("%-10s %-12s %-14s %-12s%n", "window_ms", "batch_size", "throughput/s", "avg_lat_ms");
+        for (long window : windows) {
+            run(window);
+        }
+    }
+    
+    private static void run(long windowMs) throws Exception {
+        int maxBatchSize = windowMs == 0 ? 1 : MAX_BATCH_SIZE;
+        List<Integer> batchSizes = new ArrayList<>();
+        
+        AuthorizationBatcher batcher = new AuthorizationBatcher(payments -> {
+            synchronized (batchSizes) {
+                batchSizes.add(payments.size());
+            }
+            LockSupport.parkNanos(CALL_MS * 1_000_000L + PER_ITEM_MICROS * 1_000L * payments.size());
+            List<Boolean> results = new ArrayList<>(payments.size());
+            payments.forEach(p -> results.add(Boolean.TRUE));
+            return results;
+        }, Math.max(1, windowMs), maxBatchSize, CALL_PARALLELISM, REQUESTS);
+        
+        ExecutorService submitters = Executors.newFixedThreadPool(SUBMITTERS);
+        long[] latencies = new long[REQUESTS];
+        List<CompletableFuture<Void>> done = new ArrayList<>(REQUESTS);
+        
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            int index = i;
+            done.add(CompletableFuture.runAsync(() -> {
+                long submitted = System.nanoTime();
+                batcher.submit(new Payment()).join();
+                latencies[index] = System.nanoTime() - submitted;
+            }, submitters));
+        }
+        CompletableFuture.allOf(done.toArray(new CompletableFuture[0])).join();
+        long elapsed = System.nanoTime() - start;
+        
+        submitters.shutdown();
+        batcher.shutdown();
+        
+        double avgBatch = batchSizes.stream().mapToInt(Integer::intValue).average().orElse(0);
+        double avgLatencyMs = java.util.Arrays.stream(latencies).average().orElse(0) / 1_000_000.0;
+        double throughput = REQUESTS / (elapsed / 1_000_000_000.0);
+        System.out.printf("%-10d %-12.1f %-14.0f %-12.1f%n", windowMs, avgBatch, throughput, avgLatencyMs);
+    }
+}
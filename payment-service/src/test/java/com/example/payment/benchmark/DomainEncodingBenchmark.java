@@ -0,0 +1,89 @@
+package com.example.payment.benchmark;
+
+import com.example.payment.domain.PaymentStatus;
+import com.example.payment.domain.PaymentStatusConverter;
+import com.example.payment.dto.PaymentRequestWithSaga;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 상태/금액 표현별 건당 할당량 비교 (문자열 상태 + BigDecimal 금액 vs SMALLINT 코드 + 최소 화폐 단위 long)
+ *
+ * - status-decode: DB 에서 읽은 상태 값을 도메인 값으로 바꾸고 COMPLETED 인지 비교
+ * - request-decode: Kafka 결제 요청 JSON 을 역직렬화하고 금액을 꺼냄
+ *
+ * 실행: mvn -pl payment-service test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.example.payment.benchmark.DomainEncodingBenchmark
+ */
+public class DomainEncodingBenchmark {
+
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        byte[][] statusStrings = new byte[PaymentStatus.values().length][];
+        Short[] statusCodes = new Short[PaymentStatus.values().length];
+        for (PaymentStatus status : PaymentStatus.values()) {
+            statusStrings[status.ordinal()] = status.name().getBytes(StandardCharsets.UTF_8);
+            statusCodes[status.ordinal()] = status.getCode();
+        }
+        PaymentStatusConverter converter = new PaymentStatusConverter();
+
+        PaymentRequestWithSaga decimalRequest = new PaymentRequestWithSaga(
+            "order-0001", new BigDecimal("12345.67"), "KRW", "CARD", "6f1c2a7e-3b7d-4a51-9c1e-0d2b8f4a9e11", null);
+        PaymentRequestWithSaga minorRequest = new PaymentRequestWithSaga(
+            "order-0001", null, "KRW", "CARD", "6f1c2a7e-3b7d-4a51-9c1e-0d2b8f4a9e11", 1234567L);
+        byte[] decimalJson = MAPPER.writeValueAsBytes(decimalRequest);
+        byte[] minorJson = MAPPER.writeValueAsBytes(minorRequest);
+
+        System.out.printf("%-28s %12s %12s%n", "case", "bytes/op", "ns/op");
+        run("status-decode  string", i -> {
+            // VARCHAR 컬럼: 행마다 String 생성 후 equals
+            String status = new String(statusStrings[i % statusStrings.length], StandardCharsets.UTF_8);
+            return "COMPLETED".equals(status) ? 1 : 0;
+        });
+        run("status-decode  code", i -> {
+            // SMALLINT 컬럼: 캐시된 Short -> 배열 조회 -> 참조 비교
+            return converter.convertToEntityAttribute(statusCodes[i % statusCodes.length]) == PaymentStatus.COMPLETED ? 1 : 0;
+        });
+        run("request-decode decimal", i -> decode(decimalJson));
+        run("request-decode minor", i -> decode(minorJson));
+
+        System.out.printf("%npayload bytes: decimal=%d, minor=%d%n", decimalJson.length, minorJson.length);
+    }
+
+    private static int decode(byte[] json) {
+        try {
+            PaymentRequestWithSaga request = MAPPER.readValue(json, PaymentRequestWithSaga.class);
+            return request.resolveAmount().signum();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void run(String name, IntUnaryOperator op) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        int sink = 0;
+
+        for (int i = 0; i < WARMUP; i++) {
+            sink += op.applyAsInt(i);
+        }
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += op.applyAsInt(i);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        System.out.printf("%-28s %12.1f %12.1f%s%n", name,
+            (double) allocated / ITERATIONS, (double) elapsed / ITERATIONS, sink == Integer.MIN_VALUE ? " " : "");
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.payment.benchmark;
+
+import com.example.payment.gateway.GatewayBehavior;
+import com.example.payment.gateway.GatewayOutageModel;
+import com.example.payment.gateway.GatewaySample;
+import com.example.payment.gateway.HistogramGatewayBehavior;
+import com.example.payment.gateway.UniformGatewayBehavior;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.LongFunction;
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * 게이트웨이 지연 모델별 분포 비교 (실제 sleep 없이 샘플만 집계)
+ *
+ * - uniform: 기존 시뮬레이터 (1-3초 균등, 90% 성공)
+ * - histogram: 기록된 히스토그램 재생 (application-gateway-replay.yml 과 같은 파일)
+ * - histogram+outage: 히스토그램 + 상관된 장애 구간
+ * 같은 시드로 두 번 돌려 체크섬이 같은지로 재현성을 확인
+ *
+ * 실행: mvn -pl payment-service test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.example.payment.benchmark.GatewayLatencyModelBenchmark
+ */
+public class GatewayLatencyModelBenchmark {
+
+    private static final int CALLS = 1_000_000;
+    private static final long SEED = 42;
+
+    public static void main(String[] args) {
+        System.out.printf("%-18s %8s %8s %8s %8s %8s %10s %12s %18s%n",
+            "model", "p50", "p90", "p99", "p99.9", "max", "fail%", "max_fail_run", "checksum");
+        run("uniform", seed -> new UniformGatewayBehavior(1000, 3000, 0.9, new Random(seed)));
+        run("histogram", seed -> histogram(seed));
+        run("histogram+outage", seed -> new GatewayOutageModel(0.0005, 0.02, 8, 0.05, new Random(seed + 2)).wrap(histogram(seed)));
+    }
+
+    private static GatewayBehavior histogram(long seed) {
+        return HistogramGatewayBehavior.load(new ClassPathResource("gateway/authorize-latency.csv"), new Random(seed));
+    }
+
+    private static void run(String name, LongFunction<GatewayBehavior> factory) {
+        long checksum = 0;
+        for (int round = 0; round < 2; round++) {
+            long roundChecksum = report(name, factory.apply(SEED), round == 0);
+            if (round == 1 && roundChecksum != checksum) {
+                throw new IllegalStateException(name + ": 같은 시드인데 결과가 다름");
+            }
+            checksum = roundChecksum;
+        }
+    }
+
+    private static long report(String name, GatewayBehavior behavior, boolean print) {
+        long[] latencies = new long[CALLS];
+        long failures = 0;
+        int failRun = 0;
+        int maxFailRun = 0;
+        long checksum = 17;
+        for (int i = 0; i < CALLS; i++) {
+            GatewaySample sample = behavior.next();
+            latencies[i] = sample.getLatencyMs();
+            if (sample.isSuccess()) {
+                failRun = 0;
+            } else {
+                failures++;
+                maxFailRun = Math.max(maxFailRun, ++failRun);
+            }
+            checksum = checksum * 31 + sample.getLatencyMs() * 2 + (sample.isSuccess() ? 1 : 0);
+        }
+        Arrays.sort(latencies);
+        if (print) {
+            System.out.printf("%-18s %8d %8d %8d %8d %8d %10.2f %12d %18x%n", name,
+                percentile(latencies, 0.5), percentile(latencies, 0.9), percentile(latencies, 0.99),
+                percentile(latencies, 0.999), latencies[CALLS - 1], 100.0 * failures / CALLS, maxFailRun, checksum);
+        }
+        return checksum;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)];
+    }
+}
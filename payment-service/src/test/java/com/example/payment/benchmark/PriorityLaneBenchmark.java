@@ -0,0 +1,89 @@
+package com.example.payment.benchmark;
+
+import com.example.payment.gateway.AdaptiveConcurrencyLimiter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 우선 레인 예약 비율별 일반 레인 폭주 중 우선 승인 거절률 비교
+ *
+ * 승인 한도 LIMIT 고정, 게이트웨이 호출은 CALL_MS 지연 스텁
+ * - 일반 레인: NORMAL_THREADS 개가 쉬지 않고 승인 시도 (거절되면 1ms 후 재시도)
+ * - 우선 레인: PRIORITY_THREADS 개가 PRIORITY_INTERVAL_MS 마다 한 건씩 시도
+ *
+ * 실행: mvn -pl payment-service test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.example.payment.benchmark.PriorityLaneBenchmark
+ */
+public class PriorityLaneBenchmark {
+
+    private static final int LIMIT = 32;
+    private static final long CALL_MS = 20;
+    private static final int NORMAL_THREADS = 64;
+    private static final int PRIORITY_THREADS = 4;
+    private static final long PRIORITY_INTERVAL_MS = 10;
+    private static final long DURATION_MS = 3000;
+
+    public static void main(String[] args) throws Exception {
+        double[] reservedShares = {0.0, 0.1, 0.2, 0.3};
+
+        System.out.printf("%-14s %-16s %-18s %-16s%n", "reserved", "normal_ok/s", "priority_ok/s", "priority_rej%");
+        for (double reserved : reservedShares) {
+            run(reserved);
+        }
+    }
+
+    private static void run(double reservedShare) throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("authorize", LIMIT, LIMIT, LIMIT);
+        double normalShare = 1.0 - reservedShare;
+        AtomicLong normalOk = new AtomicLong();
+        AtomicLong priorityOk = new AtomicLong();
+        AtomicLong priorityRejected = new AtomicLong();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MS);
+
+        ExecutorService threads = Executors.newFixedThreadPool(NORMAL_THREADS + PRIORITY_THREADS);
+        for (int i = 0; i < NORMAL_THREADS; i++) {
+            threads.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    if (call(limiter, normalShare)) {
+                        normalOk.incrementAndGet();
+                    } else {
+                        LockSupport.parkNanos(1_000_000L);
+                    }
+                }
+            });
+        }
+        for (int i = 0; i < PRIORITY_THREADS; i++) {
+            threads.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    if (call(limiter, 1.0)) {
+                        priorityOk.incrementAndGet();
+                    } else {
+                        priorityRejected.incrementAndGet();
+                    }
+                    LockSupport.parkNanos(PRIORITY_INTERVAL_MS * 1_000_000L);
+                }
+            });
+        }
+        threads.shutdown();
+        threads.awaitTermination(DURATION_MS * 2, TimeUnit.MILLISECONDS);
+
+        double seconds = DURATION_MS / 1000.0;
+        long priorityTotal = priorityOk.get() + priorityRejected.get();
+        System.out.printf("%-14.1f %-16.0f %-18.0f %-16.1f%n", reservedShare,
+            normalOk.get() / seconds, priorityOk.get() / seconds,
+            priorityTotal == 0 ? 0 : 100.0 * priorityRejected.get() / priorityTotal);
+    }
+
+    private static boolean call(AdaptiveConcurrencyLimiter limiter, double share) {
+        if (!limiter.tryAcquire(share)) {
+            return false;
+        }
+        long start = System.nanoTime();
+        LockSupport.parkNanos(CALL_MS * 1_000_000L);
+        limiter.release(System.nanoTime() - start, false);
+        return true;
+    }
+}
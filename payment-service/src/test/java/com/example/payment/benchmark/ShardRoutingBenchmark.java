@@ -0,0 +1,119 @@
+package com.example.payment.benchmark;
+
+import com.example.payment.shard.PaymentShardRouter;
+import java.util.Collections;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.ToIntFunction;
+
+/**
+ * 결제 샤드 배치 비교 (DB 없이 라우팅만 계산)
+ *
+ * - locality: RangeAssignor 로 파티션을 나눠 받은 컨슈머마다 가장 많이 쓰는 샤드의 비율 (1.0 = 한 샤드만 사용)
+ *   contiguous = partition * count / partitions (PaymentShardRouter), modulo = partition % count,
+ *   key-hash = 파티션과 무관한 키 해시 % count
+ * - moved: 샤드 수를 바꿀 때 위치가 바뀌는 결제 비율 (재샤딩 이동량)
+ *
+ * 실행: mvn -pl payment-service test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.example.payment.benchmark.ShardRoutingBenchmark
+ */
+public class ShardRoutingBenchmark {
+
+    private static final int PARTITIONS = 12;
+    private static final int KEYS = 200_000;
+    private static final int ITERATIONS = 2_000_000;
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        String[] keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = new UUID(random.nextLong(), random.nextLong()).toString();
+        }
+
+        System.out.printf("%-8s %-10s %-12s %14s %14s%n", "shards", "consumers", "layout", "min-locality", "avg-locality");
+        for (int shards : new int[] {2, 3, 4}) {
+            PaymentShardRouter router = router(shards, 0);
+            for (int consumers : new int[] {shards, shards * 2, PARTITIONS}) {
+                locality(keys, router, shards, consumers, "contiguous", router::shardOf);
+                locality(keys, router, shards, consumers, "modulo", k -> router.partitionOf(k) % shards);
+                locality(keys, router, shards, consumers, "key-hash", k -> Math.floorMod(k.hashCode(), shards));
+            }
+        }
+
+        System.out.printf("%n%-10s %12s %12s%n", "reshard", "contiguous", "modulo");
+        int[][] changes = {{1, 2}, {2, 3}, {2, 4}, {3, 4}, {4, 6}};
+        for (int[] change : changes) {
+            PaymentShardRouter router = router(change[1], change[0]);
+            int movedContiguous = 0;
+            int movedModulo = 0;
+            for (String key : keys) {
+                if (router.shardOf(key) != router.previousShardOf(key)) {
+                    movedContiguous++;
+                }
+                int partition = router.partitionOf(key);
+                if (partition % change[1] != partition % change[0]) {
+                    movedModulo++;
+                }
+            }
+            System.out.printf("%-10s %12.3f %12.3f%n", change[0] + " -> " + change[1],
+                (double) movedContiguous / KEYS, (double) movedModulo / KEYS);
+        }
+
+        PaymentShardRouter router = router(4, 0);
+        int sink = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += router.shardOf(keys[i % KEYS]);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += router.shardOf(keys[i % KEYS]);
+        }
+        System.out.printf("%nshardOf: %.1f ns/op%s%n", (double) (System.nanoTime() - start) / ITERATIONS,
+            sink == Integer.MIN_VALUE ? " " : "");
+    }
+
+    private static PaymentShardRouter router(int count, int previousCount) {
+        return new PaymentShardRouter(true, Collections.nCopies(Math.max(count, previousCount) - 1, "jdbc:shard"),
+            count, previousCount, PARTITIONS, null);
+    }
+
+    /**
+     * RangeAssignor 와 같은 분배 (앞쪽 컨슈머가 나머지 파티션을 하나씩 더 받음)
+     */
+    private static void locality(String[] keys, PaymentShardRouter router, int shards, int consumers,
+                                 String layout, ToIntFunction<String> shardOf) {
+        long[][] perConsumer = new long[consumers][shards];
+        int base = PARTITIONS / consumers;
+        int extra = PARTITIONS % consumers;
+        for (String key : keys) {
+            int partition = router.partitionOf(key);
+            int consumer = 0;
+            int end = base + (extra > 0 ? 1 : 0);
+            while (partition >= end) {
+                consumer++;
+                end += base + (consumer < extra ? 1 : 0);
+            }
+            perConsumer[consumer][shardOf.applyAsInt(key)]++;
+        }
+
+        double min = 1.0;
+        double sum = 0;
+        int active = 0;
+        for (long[] counts : perConsumer) {
+            long total = 0;
+            long top = 0;
+            for (long count : counts) {
+                total += count;
+                top = Math.max(top, count);
+            }
+            if (total == 0) {
+                continue;
+            }
+            double ratio = (double) top / total;
+            min = Math.min(min, ratio);
+            sum += ratio;
+            active++;
+        }
+        System.out.printf("%-8d %-10d %-12s %14.3f %14.3f%n", shards, consumers, layout, min, sum / active);
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.payment.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 플랫폼 스레드 풀 vs 가상 스레드 처리량 비교 (블로킹 게이트웨이 호출 모사)
+ *
+ * - blocking      : 잠금 없이 블로킹 (가상 스레드의 이점이 그대로 드러나는 경우)
+ * - synchronized  : synchronized 블록 안에서 블로킹 → 가상 스레드가 캐리어에 고정(pinning)
+ * - reentrantLock : 같은 작업을 ReentrantLock 으로 보호 → 고정되지 않음
+ *
+ * synchronized 결과가 reentrantLock 보다 크게 낮으면 pinning 이 병목이다.
+ * 실제 애플리케이션의 고정 지점(예: MySQL Connector/J 8.x 내부 synchronized)은
+ * -Djdk.tracePinnedThreads=short 로 서비스를 실행해 스택으로 확인한다.
+ *
+ * 실행 (Java 21, -Pjava21): mvn -Pjava21 -pl payment-service test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.example.payment.benchmark.VirtualThreadBenchmark
+ */
+public class VirtualThreadBenchmark {
+    
+    private static final int TASKS = 5000;
+    private static final int PLATFORM_THREADS = 200;  // Tomcat 기본 max-threads
+    private static final long BLOCK_MS = 50;
+    
+    public static void main(String[] args) throws Exception {
+        ExecutorService virtual = newVirtualThreadExecutor();
+        if (virtual == null) {
+            System.out.println("가상 스레드는 Java 21 이상에서만 측정 가능 (현재 " + Runtime.version().feature() + ")");
+        }
+        
+        System.out.printf("%-15s %-10s %-14s%n", "workload", "mode", "throughput/s");
+        for (String workload : new String[] {"blocking", "synchronized", "reentrantLock"}) {
+            ExecutorService platform = Executors.newFixedThreadPool(PLATFORM_THREADS);
+            run(workload, "platform", platform);
+            platform.shutdown();
+            
+            if (virtual != null) {
+                run(workload, "virtual", virtual);
+            }
+        }
+        
+        if (virtual != null) {
+            virtual.shutdown();
+        }
+    }
+    
+    private static void run(String workload, String mode, ExecutorService executor) {
+        List<CompletableFuture<Void>> done = new ArrayList<>(TASKS);
+        long start = System.nanoTime();
+        for (int i = 0; i < TASKS; i++) {
+            done.add(CompletableFuture.runAsync(task(workload), executor));
+        }
+        CompletableFuture.allOf(done.toArray(new CompletableFuture[0])).join();
+        long elapsed = System.nanoTime() - start;
+        
+        System.out.printf("%-15s %-10s %-14.0f%n", workload, mode, TASKS / (elapsed / 1_000_000_000.0));
+    }
+    
+    private static Runnable task(String workload) {
+        switch (workload) {
+            case "synchronized":
+                return () -> {
+                    Object monitor = new Object();
+                    synchronized (monitor) {
+                        block();
+                    }
+                };
+            case "reentrantLock":
+                return () -> {
+                    ReentrantLock lock = new ReentrantLock();
+                    lock.lock();
+                    try {
+                        block();
+                    } finally {
+                        lock.unlock();
+                    }
+                };
+            default:
+                return VirtualThreadBenchmark::block;
+        }
+    }
+    
+    private static void block() {
+        try {
+            Thread.sleep(BLOCK_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * Java 17 에서도 컴파일되도록 리플렉션으로 생성 (21 미만이면 null)
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+#!/usr/bin/env bash
+#
+# 기동 시간 / 첫 요청 지연 비교: 기존 jar 실행 vs Spring AOT vs AppCDS vs AOT + AppCDS
+#
+# 사전 조건: MySQL, Kafka 실행 (docker compose -f docker/docker-compose.yml up -d)
+#            CDS 학습 실행도 컨텍스트 refresh 까지 DB 에 연결하므로 인프라가 떠 있어야 함
+# 사용법:    scripts/startup-benchmark.sh            (서비스별 모드당 RUNS 회, 기본 3)
+#            RUNS=5 SKIP_BUILD=1 scripts/startup-benchmark.sh
+# 결과:      표준 출력과 target/startup/results.txt (측정 환경 포함)
+#
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+RUNS="${RUNS:-3}"
+WORK="$ROOT/target/startup"
+MODES=(jar aot cds aot-cds)
+
+# 인프라가 없으면 학습 실행이 빈 아카이브를 남기고 측정이 모두 실패하므로 먼저 확인
+for endpoint in localhost:3306 localhost:3307 localhost:9092; do
+    if ! timeout 2 bash -c "</dev/tcp/${endpoint%:*}/${endpoint#*:}" 2>/dev/null; then
+        echo "$endpoint 에 연결할 수 없음: docker compose -f docker/docker-compose.yml up -d 후 다시 실행" >&2
+        exit 1
+    fi
+done
+
+if [[ -z "${SKIP_BUILD:-}" ]]; then
+    mvn -B -q -f "$ROOT/pom.xml" -Paot -DskipTests package
+fi
+
+main_class() {
+    case "$1" in
+        order)   echo "OrderApplication" ;;
+        payment) echo "PaymentApplication" ;;
+    esac
+}
+
+port() {
+    case "$1" in
+        order)   echo 8080 ;;
+        payment) echo 8081 ;;
+    esac
+}
+
+# 첫 요청: DB 조회를 거치는 가벼운 API (JPA, Jackson, MVC 초기화 비용 포함)
+first_request_url() {
+    case "$1" in
+        order)   echo "http://localhost:8080/api/saga/transactions/in-progress" ;;
+        payment) echo "http://localhost:8081/api/payments/order/startup-benchmark" ;;
+    esac
+}
+
+# jar 를 풀어서 실행 (CDS 는 중첩 jar 의 클래스를 아카이브하지 못함)
+extract() {
+    local svc="$1" dir="$WORK/$1"
+    rm -rf "$dir" && mkdir -p "$dir"
+    (cd "$dir" && jar -xf "$ROOT/$svc-service/target/$svc-service-0.0.1-SNAPSHOT.jar")
+}
+
+# 학습 실행: 컨텍스트 refresh 직후 종료하면서 로드된 클래스를 아카이브로 덤프
+train() {
+    local svc="$1" archive="$2"; shift 2
+    (cd "$WORK/$svc" && java -XX:ArchiveClassesAtExit="$archive" -Xlog:cds=off -Xlog:cds+dynamic=off \
+        -Dspring.context.exit=onRefresh "$@" org.springframework.boot.loader.launch.JarLauncher > "train-$archive.log" 2>&1) || true
+}
+
+jvm_args() {
+    case "$1" in
+        jar)     ;;
+        aot)     echo "-Dspring.aot.enabled=true" ;;
+        cds)     echo "-XX:SharedArchiveFile=app.jsa -Xlog:cds=off" ;;
+        aot-cds) echo "-XX:SharedArchiveFile=app-aot.jsa -Xlog:cds=off -Dspring.aot.enabled=true" ;;
+    esac
+}
+
+# 한 번 기동해서 "<Spring 보고 기동 시간 s> <프로세스 시작~포트 응답 ms> <첫 요청 ms>" 출력
+measure() {
+    local svc="$1" mode="$2" log="$WORK/$1/run-$2.log"
+    local start end pid started wall first
+    # shellcheck disable=SC2046
+    start=$(date +%s%N)
+    (cd "$WORK/$svc" && exec java $(jvm_args "$mode") org.springframework.boot.loader.launch.JarLauncher > "$log" 2>&1) &
+    pid=$!
+
+    until grep -q "Started $(main_class "$svc") in" "$log" 2>/dev/null; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "기동 실패: $svc/$mode (로그: $log)" >&2
+            return 1
+        fi
+        sleep 0.05
+    done
+    until curl -s -o /dev/null "http://localhost:$(port "$svc")/actuator/health"; do
+        sleep 0.02
+    done
+    end=$(date +%s%N)
+
+    started=$(grep -o "Started $(main_class "$svc") in [0-9.]* seconds" "$log" | awk '{print $4}')
+    wall=$(( (end - start) / 1000000 ))
+    first=$(curl -s -o /dev/null -w '%{time_total}' "$(first_request_url "$svc")" | awk '{printf "%.1f", $1 * 1000}')
+
+    kill -TERM "$pid" && wait "$pid" 2>/dev/null || true
+    echo "$started $wall $first"
+}
+
+mkdir -p "$WORK"
+exec > >(tee "$WORK/results.txt")
+echo "# $(date -u +%Y-%m-%dT%H:%M:%SZ) $(java -version 2>&1 | head -1), $(nproc) cpu, RUNS=$RUNS"
+printf "%-8s %-8s %14s %14s %16s\n" service mode "started(s)" "ready(ms)" "first-req(ms)"
+for svc in order payment; do
+    extract "$svc"
+    train "$svc" app.jsa
+    train "$svc" app-aot.jsa -Dspring.aot.enabled=true
+
+    for mode in "${MODES[@]}"; do
+        sum_started=0; sum_wall=0; sum_first=0
+        for ((i = 0; i < RUNS; i++)); do
+            read -r started wall first < <(measure "$svc" "$mode")
+            sum_started=$(awk -v a="$sum_started" -v b="$started" 'BEGIN {print a + b}')
+            sum_wall=$((sum_wall + wall))
+            sum_first=$(awk -v a="$sum_first" -v b="$first" 'BEGIN {print a + b}')
+        done
+        awk -v s="$svc" -v m="$mode" -v n="$RUNS" -v a="$sum_started" -v w="$sum_wall" -v f="$sum_first" \
+            'BEGIN {printf "%-8s %-8s %14.3f %14.0f %16.1f\n", s, m, a / n, w / n, f / n}'
+    done
+done